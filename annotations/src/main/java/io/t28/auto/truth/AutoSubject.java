@@ -29,4 +29,57 @@ public @interface AutoSubject {
     String prefix() default "Auto";
 
     String suffix() default "";
+
+    /**
+     * Names of properties to generate assertions for, such as {@code "id"} for {@code getId()}.
+     * All properties are used when empty.
+     */
+    String[] include() default {};
+
+    /**
+     * Names of properties not to generate assertions for.
+     */
+    String[] exclude() default {};
+
+    /**
+     * Kinds of assertions to generate. All kinds are generated when empty.
+     */
+    Assertion[] assertions() default {};
+
+    enum Assertion {
+        /**
+         * {@code hasFoo(expected)} for primitive and object properties.
+         */
+        VALUE,
+
+        /**
+         * {@code isFoo()} and {@code isNotFoo()} for boolean properties.
+         */
+        BOOLEAN,
+
+        /**
+         * {@code hasFoo(expected...)}, {@code doesNotHaveFoo(expected...)} and other assertions on the elements or entries
+         * of arrays, iterables, streams, maps and tables.
+         */
+        ELEMENTS,
+
+        /**
+         * {@code isFoo()} and {@code isNotFoo()} for enum constants.
+         */
+        ENUM_CONSTANT,
+
+        /**
+         * {@code foo()} returning a Truth subject for arrays, collections, maps, optionals, streams, paths and classes, or the
+         * generated subject of a value object found in the subject index.
+         */
+        SUBJECT
+    }
+
+    /**
+     * Excludes a field or a getter of a value object from every generated subject.
+     */
+    @Target({ElementType.METHOD, ElementType.FIELD})
+    @Retention(RetentionPolicy.CLASS)
+    @interface Ignore {
+    }
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.internal;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Helpers called by generated subjects to compare and describe arrays. This class is not part of the public API.
+ */
+public final class ArrayElements {
+    private static final int WINDOW_RADIUS = 5;
+    private static final String ELLIPSIS = "...";
+
+    private ArrayElements() {
+    }
+
+    /**
+     * Returns the first index at which the arrays differ, or the shorter length when one array is a prefix of the other.
+     * It is only called after a mismatch is detected, so elements may be boxed here.
+     */
+    public static int mismatch(@Nullable Object actual, @Nullable Object expected) {
+        if (actual == null || expected == null) {
+            return 0;
+        }
+        final int length = Math.min(Array.getLength(actual), Array.getLength(expected));
+        for (int i = 0; i < length; i++) {
+            if (!Objects.deepEquals(Array.get(actual, i), Array.get(expected, i))) {
+                return i;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Renders elements around the index, so that the failure message stays small for large arrays. Bytes are rendered as
+     * hex with a digest of the whole array, since two large byte arrays often differ only far from the window.
+     */
+    @Nonnull
+    public static String window(@Nullable Object array, int index) {
+        return window(array, index, ValueRenderer.DEFAULT_MAX_STRING_LENGTH);
+    }
+
+    @Nonnull
+    public static String window(@Nullable Object array, int index, int maxStringLength) {
+        if (array == null) {
+            return "null";
+        }
+        if (array instanceof byte[]) {
+            return ValueRenderer.renderBytes((byte[]) array, index, WINDOW_RADIUS);
+        }
+        final int length = Array.getLength(array);
+        final int from = Math.max(0, Math.min(index, length) - WINDOW_RADIUS);
+        final int to = Math.min(length, index + WINDOW_RADIUS + 1);
+        final List<String> elements = new ArrayList<>();
+        if (from > 0) {
+            elements.add(ELLIPSIS);
+        }
+        for (int i = from; i < to; i++) {
+            elements.add(ValueRenderer.renderElement(Array.get(array, i), maxStringLength));
+        }
+        if (to < length) {
+            elements.add(ELLIPSIS);
+        }
+        return "[" + String.join(", ", elements) + "] (length " + length + ")";
+    }
+
+    /**
+     * Returns the first index whose element is less than the previous one, or -1 when the array is sorted.
+     */
+    public static int unsortedIndex(@Nonnull byte[] array) {
+        for (int i = 1; i < array.length; i++) {
+            if (array[i - 1] > array[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public static int unsortedIndex(@Nonnull short[] array) {
+        for (int i = 1; i < array.length; i++) {
+            if (array[i - 1] > array[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public static int unsortedIndex(@Nonnull char[] array) {
+        for (int i = 1; i < array.length; i++) {
+            if (array[i - 1] > array[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public static int unsortedIndex(@Nonnull int[] array) {
+        for (int i = 1; i < array.length; i++) {
+            if (array[i - 1] > array[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public static int unsortedIndex(@Nonnull long[] array) {
+        for (int i = 1; i < array.length; i++) {
+            if (array[i - 1] > array[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Floating point values are ordered as {@link java.util.Arrays#sort(float[])} orders them.
+     */
+    public static int unsortedIndex(@Nonnull float[] array) {
+        for (int i = 1; i < array.length; i++) {
+            if (Float.compare(array[i - 1], array[i]) > 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public static int unsortedIndex(@Nonnull double[] array) {
+        for (int i = 1; i < array.length; i++) {
+            if (Double.compare(array[i - 1], array[i]) > 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
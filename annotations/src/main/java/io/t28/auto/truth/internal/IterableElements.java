@@ -0,0 +1,209 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.internal;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Helpers called by generated subjects to check expected elements without copying them. This class is not part of the public API.
+ */
+public final class IterableElements {
+    // Expected elements are usually few, so duplicates are found by comparing them pairwise rather than hashing them
+    private static final int MAX_PAIRWISE_SIZE = 32;
+
+    private IterableElements() {
+    }
+
+    /**
+     * Returns whether the set contains every expected element, and each of them is expected only once. A set that cannot look
+     * up an expected element, such as a sorted set given null, is left to Truth.
+     */
+    public static boolean containsAllOnce(@Nonnull Set<?> actual, @Nonnull Collection<?> expected) {
+        try {
+            return actual.containsAll(expected) && (expected instanceof Set || isDistinct(expected));
+        } catch (NullPointerException | ClassCastException e) {
+            return false;
+        }
+    }
+
+    public static boolean containsAllOnce(@Nonnull Set<?> actual, @Nonnull Object[] expected) {
+        try {
+            for (Object element : expected) {
+                if (!actual.contains(element)) {
+                    return false;
+                }
+            }
+        } catch (NullPointerException | ClassCastException e) {
+            return false;
+        }
+        return isDistinct(expected);
+    }
+
+    /**
+     * Returns whether each distinct expected element is counted at least as many times as it is expected.
+     */
+    public static boolean containsOccurrences(@Nonnull ToIntFunction<Object> count, @Nonnull Collection<?> expected) {
+        if (expected instanceof Set) {
+            for (Object element : expected) {
+                if (count.applyAsInt(element) < 1) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (expected.size() > MAX_PAIRWISE_SIZE) {
+            return containsOccurrences(count, frequencies(expected));
+        }
+        int index = 0;
+        for (Object element : expected) {
+            if (indexOf(expected, element) == index && count.applyAsInt(element) < Collections.frequency(expected, element)) {
+                return false;
+            }
+            index++;
+        }
+        return true;
+    }
+
+    public static boolean containsOccurrences(@Nonnull ToIntFunction<Object> count, @Nonnull Object[] expected) {
+        if (expected.length > MAX_PAIRWISE_SIZE) {
+            return containsOccurrences(count, frequencies(Arrays.asList(expected)));
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (indexOf(expected, expected[i]) == i && count.applyAsInt(expected[i]) < frequency(expected, expected[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether the collection contains none of the expected elements. A collection that cannot look up an expected
+     * element is left to {@link #disjoint(Collection, Collection)}.
+     */
+    public static boolean containsNone(@Nonnull Collection<?> actual, @Nonnull Object[] expected) {
+        try {
+            for (Object element : expected) {
+                if (actual.contains(element)) {
+                    return false;
+                }
+            }
+        } catch (NullPointerException | ClassCastException e) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether the collections have no elements in common, like {@link Collections#disjoint(Collection, Collection)}.
+     * Elements are compared with equals when a collection cannot look up an element of the other, since neither can Truth.
+     */
+    public static boolean disjoint(@Nonnull Collection<?> actual, @Nonnull Collection<?> expected) {
+        try {
+            return Collections.disjoint(actual, expected);
+        } catch (NullPointerException | ClassCastException e) {
+            for (Object element : expected) {
+                if (indexOf(actual, element) >= 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static boolean isDistinct(@Nonnull Collection<?> elements) {
+        if (elements.size() > MAX_PAIRWISE_SIZE) {
+            return new HashSet<Object>(elements).size() == elements.size();
+        }
+        int index = 0;
+        for (Object element : elements) {
+            if (indexOf(elements, element) != index) {
+                return false;
+            }
+            index++;
+        }
+        return true;
+    }
+
+    private static boolean isDistinct(@Nonnull Object[] elements) {
+        if (elements.length > MAX_PAIRWISE_SIZE) {
+            return isDistinct(Arrays.asList(elements));
+        }
+        for (int i = 0; i < elements.length; i++) {
+            if (indexOf(elements, elements[i]) != i) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean containsOccurrences(@Nonnull ToIntFunction<Object> count, @Nonnull Map<Object, Integer> frequencies) {
+        for (Map.Entry<Object, Integer> entry : frequencies.entrySet()) {
+            if (count.applyAsInt(entry.getKey()) < entry.getValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Map<Object, Integer> frequencies(@Nonnull Collection<?> elements) {
+        final Map<Object, Integer> frequencies = new HashMap<>();
+        for (Object element : elements) {
+            frequencies.merge(element, 1, Integer::sum);
+        }
+        return frequencies;
+    }
+
+    private static int indexOf(@Nonnull Collection<?> elements, Object element) {
+        int index = 0;
+        for (final Iterator<?> iterator = elements.iterator(); iterator.hasNext(); index++) {
+            if (Objects.equals(iterator.next(), element)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOf(@Nonnull Object[] elements, Object element) {
+        for (int i = 0; i < elements.length; i++) {
+            if (Objects.equals(elements[i], element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int frequency(@Nonnull Object[] elements, Object element) {
+        int frequency = 0;
+        for (Object candidate : elements) {
+            if (Objects.equals(candidate, element)) {
+                frequency++;
+            }
+        }
+        return frequency;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Helpers called by generated subjects to describe maps without rendering every entry. This class is not part of the public API.
+ */
+public final class MapEntries {
+    private static final int WINDOW_RADIUS = 5;
+    private static final String ELLIPSIS = "...";
+
+    private MapEntries() {
+    }
+
+    /**
+     * Returns the value of the key, or null when the map cannot look up the key, such as a sorted map given null.
+     */
+    @Nullable
+    public static <V> V get(@Nonnull Map<?, V> map, @Nullable Object key) {
+        try {
+            return map.get(key);
+        } catch (ClassCastException | NullPointerException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns whether the map contains the key, or false when the map cannot look up the key.
+     */
+    public static boolean containsKey(@Nonnull Map<?, ?> map, @Nullable Object key) {
+        try {
+            return map.containsKey(key);
+        } catch (ClassCastException | NullPointerException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns whether the values contain the value, or false when the values cannot look up the value.
+     */
+    public static boolean contains(@Nonnull Collection<?> values, @Nullable Object value) {
+        try {
+            return values.contains(value);
+        } catch (ClassCastException | NullPointerException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Renders the keys next to the missing key for a navigable map, or the first keys for any other map.
+     */
+    @Nonnull
+    public static String nearbyKeys(@Nullable Map<?, ?> map, @Nullable Object key) {
+        return nearbyKeys(map, key, ValueRenderer.DEFAULT_MAX_STRING_LENGTH);
+    }
+
+    @Nonnull
+    public static String nearbyKeys(@Nullable Map<?, ?> map, @Nullable Object key, int maxStringLength) {
+        if (map == null) {
+            return "null";
+        }
+        if (map instanceof NavigableMap) {
+            try {
+                return nearbyKeys((NavigableMap<?, ?>) map, key, maxStringLength);
+            } catch (ClassCastException | NullPointerException e) {
+                // The key is not comparable with the keys of the map
+            }
+        }
+        return head(map.keySet(), maxStringLength);
+    }
+
+    /**
+     * Renders the first elements and the size, so that the failure message stays small for large collections.
+     */
+    @Nonnull
+    public static String head(@Nullable Collection<?> elements) {
+        return head(elements, ValueRenderer.DEFAULT_MAX_STRING_LENGTH);
+    }
+
+    @Nonnull
+    public static String head(@Nullable Collection<?> elements, int maxStringLength) {
+        if (elements == null) {
+            return "null";
+        }
+        final List<String> rendered = new ArrayList<>();
+        final Iterator<?> iterator = elements.iterator();
+        for (int i = 0; i < WINDOW_RADIUS * 2 && iterator.hasNext(); i++) {
+            rendered.add(ValueRenderer.renderElement(iterator.next(), maxStringLength));
+        }
+        if (iterator.hasNext()) {
+            rendered.add(ELLIPSIS);
+        }
+        return "[" + String.join(", ", rendered) + "] (size " + elements.size() + ")";
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String nearbyKeys(@Nonnull NavigableMap<?, ?> map, @Nullable Object key, int maxStringLength) {
+        final NavigableMap<Object, ?> navigableMap = (NavigableMap<Object, ?>) map;
+        final List<String> rendered = new ArrayList<>();
+        final Iterator<Object> lower = navigableMap.headMap(key, false).descendingKeySet().iterator();
+        for (int i = 0; i < WINDOW_RADIUS && lower.hasNext(); i++) {
+            rendered.add(ValueRenderer.renderElement(lower.next(), maxStringLength));
+        }
+        if (lower.hasNext()) {
+            rendered.add(ELLIPSIS);
+        }
+        Collections.reverse(rendered);
+        final Iterator<Object> higher = navigableMap.tailMap(key, false).keySet().iterator();
+        for (int i = 0; i < WINDOW_RADIUS && higher.hasNext(); i++) {
+            rendered.add(ValueRenderer.renderElement(higher.next(), maxStringLength));
+        }
+        if (higher.hasNext()) {
+            rendered.add(ELLIPSIS);
+        }
+        return "[" + String.join(", ", rendered) + "] (size " + map.size() + ")";
+    }
+}
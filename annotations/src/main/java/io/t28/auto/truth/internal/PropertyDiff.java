@@ -0,0 +1,122 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Collects properties that differ between two value objects, called by generated subjects. This class is not part of the
+ * public API.
+ */
+public final class PropertyDiff {
+    private static final int MAX_RENDERED_PROPERTIES = 5;
+
+    private final List<String> renderings = new ArrayList<>();
+    private final int maxElements;
+    private final int maxStringLength;
+    private int count;
+
+    public PropertyDiff() {
+        this(ValueRenderer.DEFAULT_MAX_ELEMENTS, ValueRenderer.DEFAULT_MAX_STRING_LENGTH);
+    }
+
+    public PropertyDiff(int maxElements, int maxStringLength) {
+        this.maxElements = maxElements;
+        this.maxStringLength = maxStringLength;
+    }
+
+    public void compare(@Nonnull String name, @Nullable Object actual, @Nullable Object expected) {
+        if (!Objects.deepEquals(actual, expected)) {
+            add(name, actual, expected);
+        }
+    }
+
+    public void compare(@Nonnull String name, boolean actual, boolean expected) {
+        if (actual != expected) {
+            add(name, actual, expected);
+        }
+    }
+
+    public void compare(@Nonnull String name, char actual, char expected) {
+        if (actual != expected) {
+            add(name, actual, expected);
+        }
+    }
+
+    public void compare(@Nonnull String name, int actual, int expected) {
+        if (actual != expected) {
+            add(name, actual, expected);
+        }
+    }
+
+    public void compare(@Nonnull String name, long actual, long expected) {
+        if (actual != expected) {
+            add(name, actual, expected);
+        }
+    }
+
+    /**
+     * Floating point values are compared as Truth compares boxed values, so that NaN equals NaN and 0.0 differs from -0.0.
+     */
+    public void compare(@Nonnull String name, float actual, float expected) {
+        if (Float.compare(actual, expected) != 0) {
+            add(name, actual, expected);
+        }
+    }
+
+    public void compare(@Nonnull String name, double actual, double expected) {
+        if (Double.compare(actual, expected) != 0) {
+            add(name, actual, expected);
+        }
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Describes only the first differing properties, each with a bounded rendering of its values.
+     */
+    @Nonnull
+    public String describe() {
+        final StringBuilder builder = new StringBuilder()
+            .append("expected to be equal comparing properties, but ")
+            .append(count)
+            .append(count == 1 ? " property differed" : " properties differed");
+        if (count > renderings.size()) {
+            builder.append(" (showing first ").append(renderings.size()).append(')');
+        }
+        for (String rendering : renderings) {
+            builder.append('\n').append(rendering);
+        }
+        return builder.toString();
+    }
+
+    // Values are rendered only for the first properties, and the rest are just counted
+    private void add(String name, @Nullable Object actual, @Nullable Object expected) {
+        count++;
+        if (renderings.size() < MAX_RENDERED_PROPERTIES) {
+            final String renderedExpected = ValueRenderer.render(expected, maxElements, maxStringLength);
+            renderings.add(name + ": expected " + renderedExpected + ", but was " + ValueRenderer.render(actual, maxElements, maxStringLength));
+        }
+    }
+}
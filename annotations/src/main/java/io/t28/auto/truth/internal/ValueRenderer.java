@@ -0,0 +1,247 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.internal;
+
+import java.lang.reflect.Array;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Renders values for failure messages with a bounded length. This class is not part of the public API.
+ */
+public final class ValueRenderer {
+    public static final int DEFAULT_MAX_ELEMENTS = 10;
+    public static final int DEFAULT_MAX_STRING_LENGTH = 200;
+
+    private static final String ELLIPSIS = "...";
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private ValueRenderer() {
+    }
+
+    @Nonnull
+    public static String render(@Nullable Object value) {
+        return render(value, DEFAULT_MAX_ELEMENTS, DEFAULT_MAX_STRING_LENGTH);
+    }
+
+    /**
+     * Renders the first and last elements of arrays and lists, the first elements of other collections and maps, and
+     * truncates any other rendering. Byte arrays are rendered as hex with a digest of the whole content.
+     */
+    @Nonnull
+    public static String render(@Nullable Object value, int maxElements, int maxStringLength) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof byte[]) {
+            return renderBytes((byte[]) value, 0, maxElements - 1);
+        }
+        if (value.getClass().isArray()) {
+            return renderArray(value, maxElements, maxStringLength);
+        }
+        if (value instanceof List) {
+            return renderList((List<?>) value, maxElements, maxStringLength);
+        }
+        if (value instanceof Collection) {
+            return renderHead(((Collection<?>) value).iterator(), ((Collection<?>) value).size(), maxElements, maxStringLength);
+        }
+        if (value instanceof Map) {
+            return renderHead(((Map<?, ?>) value).entrySet().iterator(), ((Map<?, ?>) value).size(), maxElements, maxStringLength);
+        }
+        if (value instanceof CharSequence) {
+            return truncate((CharSequence) value, maxStringLength);
+        }
+        return truncate(String.valueOf(value), maxStringLength);
+    }
+
+    public static boolean isBounded(@Nullable Object value) {
+        return isBounded(value, DEFAULT_MAX_ELEMENTS, DEFAULT_MAX_STRING_LENGTH);
+    }
+
+    /**
+     * Returns whether Truth can render the value within the limits. The size is checked without rendering the value, and
+     * any other object is assumed to be bounded.
+     */
+    public static boolean isBounded(@Nullable Object value, int maxElements, int maxStringLength) {
+        if (value == null) {
+            return true;
+        }
+        if (value.getClass().isArray()) {
+            return Array.getLength(value) <= maxElements;
+        }
+        if (value instanceof Collection) {
+            return ((Collection<?>) value).size() <= maxElements;
+        }
+        if (value instanceof Map) {
+            return ((Map<?, ?>) value).size() <= maxElements;
+        }
+        if (value instanceof CharSequence) {
+            return ((CharSequence) value).length() <= maxStringLength;
+        }
+        return true;
+    }
+
+    /**
+     * Renders bytes around the index as hex, along with the length and a digest of the whole array.
+     */
+    @Nonnull
+    public static String renderBytes(@Nonnull byte[] bytes, int index, int radius) {
+        final int from = Math.max(0, Math.min(index, bytes.length) - radius);
+        final int to = Math.min(bytes.length, index + radius + 1);
+        final StringBuilder builder = new StringBuilder("[");
+        if (from > 0) {
+            builder.append(ELLIPSIS).append(' ');
+        }
+        for (int i = from; i < to; i++) {
+            if (i > from) {
+                builder.append(' ');
+            }
+            builder.append(HEX_DIGITS[(bytes[i] >> 4) & 0xf]).append(HEX_DIGITS[bytes[i] & 0xf]);
+        }
+        if (to < bytes.length) {
+            builder.append(' ').append(ELLIPSIS);
+        }
+        return builder.append("] (length ").append(bytes.length).append(", sha256 ").append(digest(bytes)).append(')').toString();
+    }
+
+    private static String renderArray(Object array, int maxElements, int maxStringLength) {
+        final int length = Array.getLength(array);
+        final List<String> elements = new ArrayList<>();
+        final int headSize = headSize(length, maxElements);
+        for (int i = 0; i < headSize; i++) {
+            elements.add(renderElement(Array.get(array, i), maxStringLength));
+        }
+        if (headSize < length) {
+            elements.add(ELLIPSIS);
+            for (int i = Math.max(headSize, length - (maxElements - headSize)); i < length; i++) {
+                elements.add(renderElement(Array.get(array, i), maxStringLength));
+            }
+        }
+        return "[" + String.join(", ", elements) + "] (length " + length + ")";
+    }
+
+    // ListIterator reaches the tail without iterating over the whole list for both random and sequential access lists
+    private static String renderList(List<?> list, int maxElements, int maxStringLength) {
+        final int size = list.size();
+        final List<String> elements = new ArrayList<>();
+        final int headSize = headSize(size, maxElements);
+        final Iterator<?> head = list.iterator();
+        for (int i = 0; i < headSize; i++) {
+            elements.add(renderElement(head.next(), maxStringLength));
+        }
+        if (headSize < size) {
+            elements.add(ELLIPSIS);
+            final ListIterator<?> tail = list.listIterator(Math.max(headSize, size - (maxElements - headSize)));
+            while (tail.hasNext()) {
+                elements.add(renderElement(tail.next(), maxStringLength));
+            }
+        }
+        return "[" + String.join(", ", elements) + "] (size " + size + ")";
+    }
+
+    private static String renderHead(Iterator<?> iterator, int size, int maxElements, int maxStringLength) {
+        final List<String> elements = new ArrayList<>();
+        for (int i = 0; i < maxElements && iterator.hasNext(); i++) {
+            elements.add(renderElement(iterator.next(), maxStringLength));
+        }
+        if (iterator.hasNext()) {
+            elements.add(ELLIPSIS);
+        }
+        return "[" + String.join(", ", elements) + "] (size " + size + ")";
+    }
+
+    // The head takes the larger half of the elements, and all elements are rendered when they fit
+    private static int headSize(int size, int maxElements) {
+        if (size <= maxElements) {
+            return size;
+        }
+        return (maxElements + 1) / 2;
+    }
+
+    static String renderElement(@Nullable Object element, int maxStringLength) {
+        if (element != null && element.getClass().isArray()) {
+            final StringBuilder builder = new StringBuilder();
+            appendArray(builder, element, maxStringLength, Collections.newSetFromMap(new IdentityHashMap<>()));
+            // The full length is unknown, since the rendering stopped at the limit
+            return builder.length() <= maxStringLength ? builder.toString() : builder.substring(0, maxStringLength) + ELLIPSIS;
+        }
+        if (element instanceof CharSequence) {
+            return truncate((CharSequence) element, maxStringLength);
+        }
+        return truncate(String.valueOf(element), maxStringLength);
+    }
+
+    // Renders like Arrays.deepToString, but stops once the rendering exceeds the length, so a large nested array is never rendered in full
+    private static void appendArray(StringBuilder builder, Object array, int maxStringLength, Set<Object> enclosingArrays) {
+        if (!enclosingArrays.add(array)) {
+            builder.append("[...]");
+            return;
+        }
+        builder.append('[');
+        final int length = Array.getLength(array);
+        for (int i = 0; i < length && builder.length() <= maxStringLength; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            final Object element = Array.get(array, i);
+            if (element != null && element.getClass().isArray()) {
+                appendArray(builder, element, maxStringLength, enclosingArrays);
+            } else if (element instanceof CharSequence) {
+                final CharSequence chars = (CharSequence) element;
+                builder.append(chars, 0, Math.min(chars.length(), Math.max(0, maxStringLength + 1 - builder.length())));
+            } else {
+                builder.append(element);
+            }
+        }
+        builder.append(']');
+        enclosingArrays.remove(array);
+    }
+
+    // Only the leading characters are copied, even for a huge CharSequence
+    private static String truncate(CharSequence rendered, int maxStringLength) {
+        if (rendered.length() <= maxStringLength) {
+            return rendered.toString();
+        }
+        return rendered.subSequence(0, maxStringLength) + ELLIPSIS + " (length " + rendered.length() + ")";
+    }
+
+    private static String digest(byte[] bytes) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            final StringBuilder builder = new StringBuilder();
+            for (byte b : digest) {
+                builder.append(HEX_DIGITS[(b >> 4) & 0xf]).append(HEX_DIGITS[b & 0xf]);
+            }
+            return builder.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
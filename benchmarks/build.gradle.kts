@@ -0,0 +1,90 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.gradle.internal.jvm.Jvm
+
+plugins {
+    val kotlinVersion = "1.3.72"
+    kotlin("jvm") version kotlinVersion
+    kotlin("plugin.allopen") version kotlinVersion
+    id("me.champeau.gradle.jmh") version "0.5.0"
+}
+
+repositories {
+    mavenCentral()
+    jcenter()
+}
+
+dependencies {
+    // Kotlin
+    implementation(kotlin("stdlib-jdk8"))
+
+    // AutoTruth
+    implementation(project(":annotations"))
+    implementation(project(":processor"))
+
+    // Guava
+    val guavaVersion: String by rootProject.extra
+    implementation("com.google.guava:guava:$guavaVersion")
+
+    // Truth is required to compile generated subjects in the scale harness
+    val truthVersion: String by rootProject.extra
+    implementation("com.google.truth:truth:$truthVersion")
+    implementation("com.google.truth.extensions:truth-java8-extension:$truthVersion")
+
+    // JavaPoet
+    val javapoetVersion: String by rootProject.extra
+    implementation("com.squareup:javapoet:$javapoetVersion")
+
+    // Synthetic sources are compiled with the system compiler to obtain real Elements and Types
+    implementation(files(Jvm.current().toolsJar))
+}
+
+allOpen {
+    // JMH generates subclasses of @State classes
+    annotation("org.openjdk.jmh.annotations.State")
+}
+
+tasks {
+    val jvmTarget = "${JavaVersion.VERSION_1_8}"
+    compileKotlin {
+        kotlinOptions.jvmTarget = jvmTarget
+    }
+
+    named<org.jetbrains.kotlin.gradle.tasks.KotlinCompile>("compileJmhKotlin") {
+        kotlinOptions.jvmTarget = jvmTarget
+    }
+
+    register<JavaExec>("scaleHarness") {
+        group = "benchmark"
+        description = "Compiles synthetic value objects with AutoTruthProcessor and appends the results to a CSV file."
+        classpath = sourceSets["main"].runtimeClasspath
+        main = "io.t28.auto.truth.benchmark.scale.ScaleHarnessKt"
+        maxHeapSize = "4g"
+        systemProperty("autotruth.version", "${project.version}")
+        val counts = project.findProperty("scale.counts")?.toString()?.split(',') ?: emptyList()
+        args = listOf("$buildDir/reports/scale/results.csv") + counts
+    }
+}
+
+jmh {
+    jmhVersion = "1.25"
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    resultFormat = "JSON"
+    duplicateClassesStrategy = DuplicatesStrategy.EXCLUDE
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.benchmark
+
+import io.t28.auto.truth.processor.Context
+import io.t28.auto.truth.processor.Options
+import io.t28.auto.truth.processor.index.DisabledSubjectIndex
+import io.t28.auto.truth.processor.index.SubjectIndex
+import io.t28.auto.truth.processor.log.Level
+import io.t28.auto.truth.processor.log.Logger
+import io.t28.auto.truth.processor.stats.DisabledStats
+import io.t28.auto.truth.processor.stats.Stats
+import io.t28.auto.truth.processor.utils.ProcessingEnvTypeUtils
+import io.t28.auto.truth.processor.utils.TypeUtils
+import javax.lang.model.element.Element
+
+class BenchmarkContext(compilation: SyntheticCompilation) : Context {
+    override val options: Options = Options()
+
+    override val logger: Logger = SilentLogger
+
+    override val utils: TypeUtils = ProcessingEnvTypeUtils(compilation.types, compilation.elements)
+
+    override val stats: Stats = DisabledStats
+
+    override val index: SubjectIndex = DisabledSubjectIndex
+
+    private object SilentLogger : Logger {
+        override fun isEnabled(level: Level) = false
+
+        override fun debug(message: String, vararg args: Any?) = Unit
+
+        override fun debug(element: Element, message: String, vararg args: Any?) = Unit
+
+        override fun warn(message: String, vararg args: Any?) = Unit
+
+        override fun warn(element: Element, message: String, vararg args: Any?) = Unit
+
+        override fun error(message: String, vararg args: Any?) = Unit
+
+        override fun error(element: Element, message: String, vararg args: Any?) = Unit
+
+        override fun close() = Unit
+    }
+}
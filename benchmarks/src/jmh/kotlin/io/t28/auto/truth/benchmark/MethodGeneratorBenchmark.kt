@@ -0,0 +1,107 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.benchmark
+
+import io.t28.auto.truth.processor.data.Property
+import io.t28.auto.truth.processor.generator.SubjectClassGenerator
+import io.t28.auto.truth.processor.generator.method.MethodGenerator
+import java.util.concurrent.TimeUnit
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Level
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.infra.Blackhole
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+open class MethodGeneratorBenchmark {
+    @State(Scope.Benchmark)
+    class GeneratorState {
+        @Param(
+            "AbstractArraySubjectGenerator",
+            "ArrayAssertionGenerator\$EqualityAssertionGenerator",
+            "ArrayAssertionGenerator\$SortedAssertionGenerator",
+            "BooleanAssertionGenerator\$PositiveAssertionGenerator",
+            "BooleanAssertionGenerator\$NegativeAssertionGenerator",
+            "ClassSubjectGenerator",
+            "GuavaOptionalSubjectGenerator",
+            "IndexedSubjectGenerator",
+            "IterableSubjectGenerator",
+            "IterableAssertionGenerator\$PositiveAssertionGenerator",
+            "IterableAssertionGenerator\$NegativeAssertionGenerator",
+            "IterableAssertionGenerator\$PositiveCollectionAssertionGenerator",
+            "IterableAssertionGenerator\$NegativeCollectionAssertionGenerator",
+            "IterableAssertionGenerator\$SizeAssertionGenerator",
+            "IterableAssertionGenerator\$EmptyAssertionGenerator",
+            "MapSubjectGenerator",
+            "MultimapSubjectGenerator",
+            "TableSubjectGenerator",
+            "LookupAssertionGenerator\$MapEntryAssertionGenerator",
+            "LookupAssertionGenerator\$MapKeyAssertionGenerator",
+            "LookupAssertionGenerator\$MultimapEntryAssertionGenerator",
+            "LookupAssertionGenerator\$MultimapKeyAssertionGenerator",
+            "LookupAssertionGenerator\$TableCellAssertionGenerator",
+            "LookupAssertionGenerator\$MultisetCountAssertionGenerator",
+            "EnumAssertionGenerator\$PositiveAssertionGenerator",
+            "EnumAssertionGenerator\$NegativeAssertionGenerator",
+            "ObjectAssertionGenerator",
+            "ToleranceAssertionGenerator",
+            "OptionalSubjectGenerator",
+            "OptionalValueAssertionGenerator",
+            "StreamSubjectGenerator",
+            "StreamAssertionGenerator\$AnyMatchAssertionGenerator",
+            "StreamAssertionGenerator\$AllMatchAssertionGenerator",
+            "StreamAssertionGenerator\$StartsWithAssertionGenerator",
+            "StreamAssertionGenerator\$CountAtMostAssertionGenerator",
+            "PathSubjectGenerator"
+        )
+        @JvmField
+        var generatorName: String = ""
+
+        lateinit var generator: MethodGenerator
+        lateinit var supportedProperties: List<Property>
+
+        @Setup(Level.Trial)
+        fun setUp(processor: ProcessorState) {
+            generator = SubjectClassGenerator.methodGenerators(processor.context).first { generator ->
+                generator.javaClass.name.substringAfterLast('.') == generatorName
+            }
+            supportedProperties = processor.properties.filter { property -> generator.isSupported(property) }
+        }
+    }
+
+    @Benchmark
+    fun isSupported(processor: ProcessorState, state: GeneratorState, blackhole: Blackhole) {
+        // Each property is checked once per round, so resolved types are not reused between invocations
+        processor.context.utils.clearCache()
+        processor.properties.forEach { property ->
+            blackhole.consume(state.generator.isSupported(property))
+        }
+    }
+
+    @Benchmark
+    fun generate(state: GeneratorState, blackhole: Blackhole) {
+        state.supportedProperties.forEach { property ->
+            blackhole.consume(state.generator.generate(property))
+        }
+    }
+}
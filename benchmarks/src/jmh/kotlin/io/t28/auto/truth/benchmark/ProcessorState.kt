@@ -0,0 +1,63 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.benchmark
+
+import com.squareup.javapoet.TypeSpec
+import io.t28.auto.truth.processor.Context
+import io.t28.auto.truth.processor.data.Property
+import io.t28.auto.truth.processor.data.SubjectClass
+import io.t28.auto.truth.processor.data.ValueObjectClass
+import io.t28.auto.truth.processor.generator.SubjectClassGenerator
+import javax.lang.model.element.TypeElement
+import org.openjdk.jmh.annotations.Level
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+
+@State(Scope.Benchmark)
+class ProcessorState {
+    @Param("10", "100", "1000")
+    @JvmField
+    var propertyCount: Int = 0
+
+    lateinit var context: Context
+    lateinit var valueObjectElement: TypeElement
+    lateinit var properties: List<Property>
+    lateinit var subjectClass: SubjectClass
+    lateinit var generator: SubjectClassGenerator
+    lateinit var typeSpec: TypeSpec
+
+    @Setup(Level.Trial)
+    fun setUp() {
+        val valueObject = SyntheticSource.valueObject("Synthetic$propertyCount", propertyCount)
+        val subject = SyntheticSource.subject("Synthetic${propertyCount}Subject", valueObject)
+        val compilation = SyntheticCompilation.analyze(valueObject, subject)
+
+        context = BenchmarkContext(compilation)
+        valueObjectElement = compilation.getTypeElement(valueObject.qualifiedName)
+        properties = ValueObjectClass(valueObjectElement).findProperties()
+        subjectClass = SubjectClass(
+            prefix = "Auto",
+            suffix = "",
+            element = compilation.getTypeElement(subject.qualifiedName),
+            valueObject = ValueObjectClass(valueObjectElement)
+        )
+        generator = SubjectClassGenerator.create(context)
+        typeSpec = generator.generate(subjectClass)
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.benchmark
+
+import com.sun.source.util.JavacTask
+import javax.lang.model.element.TypeElement
+import javax.lang.model.util.Elements
+import javax.lang.model.util.Types
+import javax.tools.Diagnostic
+import javax.tools.DiagnosticCollector
+import javax.tools.JavaFileObject
+import javax.tools.ToolProvider
+
+class SyntheticCompilation private constructor(val elements: Elements, val types: Types) {
+    companion object {
+        // Analyzes sources without running any annotation processor, which is what compile-testing does under the hood
+        fun analyze(vararg sources: SyntheticSource): SyntheticCompilation {
+            val compiler = requireNotNull(ToolProvider.getSystemJavaCompiler()) { "System Java compiler is not available" }
+            val diagnostics = DiagnosticCollector<JavaFileObject>()
+            val options = listOf("-proc:none", "-classpath", System.getProperty("java.class.path"))
+            val task = compiler.getTask(null, null, diagnostics, options, null, sources.toList()) as JavacTask
+            task.analyze()
+            val errors = diagnostics.diagnostics.filter { it.kind == Diagnostic.Kind.ERROR }
+            check(errors.isEmpty()) { "Failed to compile synthetic sources: $errors" }
+            return SyntheticCompilation(task.elements, task.types)
+        }
+    }
+
+    fun getTypeElement(qualifiedName: String): TypeElement {
+        return requireNotNull(elements.getTypeElement(qualifiedName)) { "Type $qualifiedName is not found" }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.benchmark
+
+import java.net.URI
+import javax.tools.JavaFileObject
+import javax.tools.SimpleJavaFileObject
+
+class SyntheticSource private constructor(
+    val qualifiedName: String,
+    private val content: String
+) : SimpleJavaFileObject(URI.create("string:///${qualifiedName.replace('.', '/')}.java"), JavaFileObject.Kind.SOURCE) {
+    override fun getCharContent(ignoreEncodingErrors: Boolean): CharSequence {
+        return content
+    }
+
+    companion object {
+        const val PACKAGE_NAME = "io.t28.auto.truth.benchmark.synthetic"
+
+        // Mirrors the shapes of the value objects in the test module
+        private val PROPERTY_TYPES = listOf(
+            "boolean",
+            "int",
+            "long",
+            "double",
+            "Boolean",
+            "Integer",
+            "String",
+            "int[]",
+            "String[]",
+            "java.util.List<String>",
+            "java.util.Set<Integer>",
+            "java.util.Map<String, Integer>",
+            "java.util.Optional<String>",
+            "java.util.OptionalInt",
+            "java.util.stream.Stream<String>",
+            "java.util.stream.IntStream",
+            "java.nio.file.Path",
+            "Class<?>",
+            "java.util.concurrent.TimeUnit",
+            "com.google.common.base.Optional<String>",
+            "com.google.common.collect.ImmutableList<String>",
+            "com.google.common.collect.ImmutableMultimap<String, Integer>",
+            "com.google.common.collect.Table<String, String, Integer>"
+        )
+
+        fun valueObject(simpleName: String, propertyCount: Int): SyntheticSource {
+            val propertyTypes = (0 until propertyCount).map { index -> PROPERTY_TYPES[index % PROPERTY_TYPES.size] }
+            return valueObject(PACKAGE_NAME, simpleName, propertyTypes)
+        }
+
+        fun valueObject(packageName: String, simpleName: String, propertyTypes: List<String>): SyntheticSource {
+            val getters = propertyTypes.withIndex().joinToString(separator = "\n") { (index, type) ->
+                val prefix = if (type == "boolean") "is" else "get"
+                "    public abstract $type ${prefix}Property$index();"
+            }
+            return SyntheticSource("$packageName.$simpleName", """
+                |package $packageName;
+                |
+                |public abstract class $simpleName {
+                |$getters
+                |}
+            """.trimMargin())
+        }
+
+        fun enumType(packageName: String, simpleName: String, constants: List<String>): SyntheticSource {
+            return SyntheticSource("$packageName.$simpleName", """
+                |package $packageName;
+                |
+                |public enum $simpleName {
+                |    ${constants.joinToString(separator = ",\n    ")}
+                |}
+            """.trimMargin())
+        }
+
+        fun subject(simpleName: String, valueObject: SyntheticSource): SyntheticSource {
+            val packageName = valueObject.qualifiedName.substringBeforeLast('.')
+            return SyntheticSource("$packageName.$simpleName", """
+                |package $packageName;
+                |
+                |@io.t28.auto.truth.AutoSubject(${valueObject.qualifiedName}.class)
+                |public class $simpleName {
+                |}
+            """.trimMargin())
+        }
+    }
+}
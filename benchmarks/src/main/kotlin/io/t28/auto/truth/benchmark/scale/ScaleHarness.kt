@@ -0,0 +1,145 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.benchmark.scale
+
+import io.t28.auto.truth.benchmark.SyntheticSource
+import io.t28.auto.truth.processor.AutoTruthProcessor
+import java.io.File
+import java.lang.management.ManagementFactory
+import java.lang.management.MemoryType
+import java.nio.file.Files
+import javax.tools.Diagnostic
+import javax.tools.DiagnosticCollector
+import javax.tools.JavaFileObject
+import javax.tools.StandardLocation
+import javax.tools.ToolProvider
+
+data class ScaleResult(
+    val count: Int,
+    val wallTimeMillis: Long,
+    val peakHeapBytes: Long,
+    val gcTimeMillis: Long,
+    val gcCount: Long,
+    val generatedFiles: Int,
+    val generatedBytes: Long
+)
+
+class ScaleHarness(private val workingDir: File) {
+    companion object {
+        private const val PACKAGE_PREFIX = "io.t28.auto.truth.scale"
+        private const val CLASSES_PER_PACKAGE = 100
+    }
+
+    fun run(count: Int): ScaleResult {
+        val sources = generateSources(count)
+        val outputDir = File(workingDir, "$count").apply {
+            deleteRecursively()
+        }
+        val sourceOutputDir = File(outputDir, "generated").apply { mkdirs() }
+        val classOutputDir = File(outputDir, "classes").apply { mkdirs() }
+
+        val compiler = requireNotNull(ToolProvider.getSystemJavaCompiler()) { "System Java compiler is not available" }
+        val diagnostics = DiagnosticCollector<JavaFileObject>()
+        val fileManager = compiler.getStandardFileManager(diagnostics, null, Charsets.UTF_8)
+        fileManager.setLocation(StandardLocation.SOURCE_OUTPUT, listOf(sourceOutputDir))
+        fileManager.setLocation(StandardLocation.CLASS_OUTPUT, listOf(classOutputDir))
+        val options = listOf("-classpath", System.getProperty("java.class.path"))
+        val task = compiler.getTask(null, fileManager, diagnostics, options, null, sources).apply {
+            setProcessors(listOf(AutoTruthProcessor()))
+        }
+
+        System.gc()
+        val heapPools = ManagementFactory.getMemoryPoolMXBeans().filter { pool -> pool.type == MemoryType.HEAP }
+        heapPools.forEach { pool -> pool.resetPeakUsage() }
+        val collectors = ManagementFactory.getGarbageCollectorMXBeans()
+        val gcTimeBefore = collectors.map { collector -> collector.collectionTime }.sum()
+        val gcCountBefore = collectors.map { collector -> collector.collectionCount }.sum()
+
+        val start = System.nanoTime()
+        val succeeded = task.call()
+        val wallTimeMillis = (System.nanoTime() - start) / NANOS_PER_MILLI
+
+        // Sum of peaks per pool, which is an upper bound of the actual peak heap usage
+        val peakHeapBytes = heapPools.map { pool -> pool.peakUsage.used }.sum()
+        val gcTimeMillis = collectors.map { collector -> collector.collectionTime }.sum() - gcTimeBefore
+        val gcCount = collectors.map { collector -> collector.collectionCount }.sum() - gcCountBefore
+        fileManager.close()
+
+        check(succeeded) {
+            val errors = diagnostics.diagnostics.filter { it.kind == Diagnostic.Kind.ERROR }.take(MAX_REPORTED_ERRORS)
+            "Failed to compile $count synthetic value objects: $errors"
+        }
+
+        val generatedFiles = sourceOutputDir.walk().filter { file -> file.isFile }.toList()
+        return ScaleResult(
+            count = count,
+            wallTimeMillis = wallTimeMillis,
+            peakHeapBytes = peakHeapBytes,
+            gcTimeMillis = gcTimeMillis,
+            gcCount = gcCount,
+            generatedFiles = generatedFiles.size,
+            generatedBytes = generatedFiles.map { file -> file.length() }.sum()
+        )
+    }
+
+    private fun generateSources(count: Int): List<SyntheticSource> {
+        val shapes = ValueObjectShape.values()
+        return (0 until count).flatMap { index ->
+            val packageName = "$PACKAGE_PREFIX.p${index / CLASSES_PER_PACKAGE}"
+            val shape = shapes[index % shapes.size]
+            val valueObject = if (shape == ValueObjectShape.ENUM) {
+                SyntheticSource.enumType(packageName, "Value$index", ValueObjectShape.ENUM_CONSTANTS)
+            } else {
+                SyntheticSource.valueObject(packageName, "Value$index", shape.propertyTypes)
+            }
+            listOf(valueObject, SyntheticSource.subject("Value${index}Subject", valueObject))
+        }
+    }
+}
+
+private const val NANOS_PER_MILLI = 1_000_000L
+private const val MAX_REPORTED_ERRORS = 10
+private val DEFAULT_COUNTS = listOf(100, 1_000, 10_000)
+private const val CSV_HEADER = "version,count,wallTimeMillis,peakHeapBytes,gcTimeMillis,gcCount,generatedFiles,generatedBytes"
+
+// Usage: ScaleHarness <output.csv> [count...]
+fun main(args: Array<String>) {
+    require(args.isNotEmpty()) { "Usage: ScaleHarness <output.csv> [count...]" }
+    val output = File(args[0])
+    val counts = args.drop(1).map(String::toInt).ifEmpty { DEFAULT_COUNTS }
+    val version = System.getProperty("autotruth.version", "unknown")
+
+    val workingDir = Files.createTempDirectory("auto-truth-scale").toFile()
+    val harness = ScaleHarness(workingDir)
+    output.parentFile?.mkdirs()
+    if (!output.exists()) {
+        output.writeText("$CSV_HEADER\n")
+    }
+    try {
+        counts.forEach { count ->
+            val result = harness.run(count)
+            val row = with(result) {
+                listOf(version, count, wallTimeMillis, peakHeapBytes, gcTimeMillis, gcCount, generatedFiles, generatedBytes)
+            }.joinToString(separator = ",")
+            // Rows are appended, so that results of several versions can be tracked in one file
+            output.appendText("$row\n")
+            println(row)
+        }
+    } finally {
+        workingDir.deleteRecursively()
+    }
+}
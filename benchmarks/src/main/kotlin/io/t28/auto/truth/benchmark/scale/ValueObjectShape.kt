@@ -0,0 +1,39 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.benchmark.scale
+
+// Mirrors the value objects in test/src/main/java/io/t28/auto/truth/data
+enum class ValueObjectShape(val propertyTypes: List<String>) {
+    PRIMITIVES(listOf("boolean", "byte", "char", "short", "int", "long", "float", "double")),
+    ARRAYS(listOf("boolean[]", "byte[]", "int[]", "long[]", "double[]", "String[]")),
+    GUAVA(
+        listOf(
+            "com.google.common.base.Optional<String>",
+            "com.google.common.collect.ImmutableList<String>",
+            "com.google.common.collect.ImmutableMultiset<String>",
+            "com.google.common.collect.ImmutableMultimap<String, Integer>",
+            "com.google.common.collect.ImmutableTable<String, String, Integer>"
+        )
+    ),
+    OPTIONALS(listOf("java.util.Optional<String>", "java.util.OptionalInt", "java.util.OptionalLong", "java.util.OptionalDouble")),
+    STREAMS(listOf("java.util.stream.Stream<String>", "java.util.stream.IntStream", "java.util.stream.LongStream")),
+    ENUM(emptyList());
+
+    companion object {
+        val ENUM_CONSTANTS = listOf("FIRST", "SECOND", "THIRD", "FOURTH")
+    }
+}
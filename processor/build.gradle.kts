@@ -27,6 +27,7 @@ plugins {
     id("org.jlleitschuh.gradle.ktlint") version "9.3.0"
     id("io.gitlab.arturbosch.detekt") version "1.11.2"
     id("org.sonarqube") version "3.0"
+    id("com.github.johnrengelman.shadow") version "6.0.0"
 }
 
 repositories {
@@ -37,12 +38,7 @@ repositories {
 dependencies {
     // Kotlin
     implementation(kotlin("stdlib-jdk8"))
-    implementation(kotlin("reflect"))
 
-    // Truth
-    val truthVersion: String by rootProject.extra
-    implementation("com.google.truth:truth:$truthVersion")
-    implementation("com.google.truth.extensions:truth-java8-extension:$truthVersion")
     implementation(project(":annotations"))
 
     // AutoService
@@ -55,6 +51,11 @@ dependencies {
     implementation("com.squareup:javapoet:$javapoetVersion")
 
     // Testing
+    // Truth is only referenced by name from the processor, and generated sources are compiled against it in tests
+    val truthVersion: String by rootProject.extra
+    testImplementation("com.google.truth:truth:$truthVersion")
+    testImplementation("com.google.truth.extensions:truth-java8-extension:$truthVersion")
+
     val junitVersion: String by rootProject.extra
     testImplementation("org.junit.jupiter:junit-jupiter:$junitVersion")
 
@@ -81,12 +82,36 @@ tasks {
     }
 
     test {
+        // ShadedProcessorTest loads the processor from the shaded jar
+        dependsOn(shadowJar)
+        doFirst {
+            systemProperty("autotruth.shadedJar", shadowJar.get().archiveFile.get().asFile.path)
+        }
         useJUnitPlatform()
         testLogging {
             events("passed", "skipped", "failed")
         }
     }
 
+    // ClassPathSubjectIndex signs subjects with the version, so that subjects generated by another version are not reused
+    withType<Jar> {
+        manifest {
+            attributes("Implementation-Title" to "auto-truth-processor", "Implementation-Version" to "${project.version}")
+        }
+    }
+
+    shadowJar {
+        archiveClassifier.set("shaded")
+        relocate("com.squareup.javapoet", "io.t28.auto.truth.processor.shaded.javapoet")
+        exclude("META-INF/*.kotlin_module")
+        dependencies {
+            exclude(dependency("com.google.auto.service:auto-service-annotations"))
+        }
+        minimize {
+            exclude(project(":annotations"))
+        }
+    }
+
     jacocoTestReport {
         reports {
             csv.isEnabled = false
@@ -143,6 +168,7 @@ publishing {
             artifactId = "auto-truth-processor"
             version = "${project.version}"
             from(components["java"])
+            artifact(tasks["shadowJar"])
         }
     }
 }
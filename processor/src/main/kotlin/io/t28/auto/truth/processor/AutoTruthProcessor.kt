@@ -17,98 +17,212 @@
 package io.t28.auto.truth.processor
 
 import com.google.auto.service.AutoService
-import com.squareup.javapoet.JavaFile
+import com.squareup.javapoet.TypeSpec
 import io.t28.auto.truth.AutoSubject
+import io.t28.auto.truth.processor.data.RegistryClass
 import io.t28.auto.truth.processor.data.SubjectClass
 import io.t28.auto.truth.processor.extensions.getAnnotatedElements
+import io.t28.auto.truth.processor.generator.JavaFileRenderer
+import io.t28.auto.truth.processor.generator.RegistryClassGenerator
 import io.t28.auto.truth.processor.generator.SubjectClassGenerator
-import io.t28.auto.truth.processor.generator.method.AbstractArraySubjectGenerator
-import io.t28.auto.truth.processor.generator.method.BooleanAssertionGenerator
-import io.t28.auto.truth.processor.generator.method.ClassSubjectGenerator
-import io.t28.auto.truth.processor.generator.method.EnumAssertionGenerator
-import io.t28.auto.truth.processor.generator.method.GuavaOptionalSubjectGenerator
-import io.t28.auto.truth.processor.generator.method.IterableAssertionGenerator
-import io.t28.auto.truth.processor.generator.method.IterableSubjectGenerator
-import io.t28.auto.truth.processor.generator.method.MapSubjectGenerator
-import io.t28.auto.truth.processor.generator.method.MultimapSubjectGenerator
-import io.t28.auto.truth.processor.generator.method.ObjectAssertionGenerator
-import io.t28.auto.truth.processor.generator.method.OptionalSubjectGenerator
-import io.t28.auto.truth.processor.generator.method.PathSubjectGenerator
-import io.t28.auto.truth.processor.generator.method.StreamSubjectGenerator
-import io.t28.auto.truth.processor.generator.method.TableSubjectGenerator
+import io.t28.auto.truth.processor.log.debug
 import io.t28.auto.truth.processor.processor.AutoSubjectProcessor
 import io.t28.auto.truth.processor.processor.ProcessingException
+import io.t28.auto.truth.processor.processor.ValueObjectProcessor
+import io.t28.auto.truth.processor.stats.Phase
+import io.t28.auto.truth.processor.stats.Stats
+import io.t28.auto.truth.processor.stats.measure
+import io.t28.auto.truth.processor.stats.measureResult
+import java.io.IOException
+import java.lang.management.ManagementFactory
 import javax.annotation.processing.AbstractProcessor
 import javax.annotation.processing.ProcessingEnvironment
 import javax.annotation.processing.Processor
 import javax.annotation.processing.RoundEnvironment
-import javax.annotation.processing.SupportedOptions
 import javax.lang.model.SourceVersion
 import javax.lang.model.element.TypeElement
+import javax.tools.StandardLocation.CLASS_OUTPUT
 
 @AutoService(Processor::class)
-@SupportedOptions("debug")
 class AutoTruthProcessor : AbstractProcessor() {
+    companion object {
+        private const val STATS_FILE = "META-INF/auto-truth/stats.json"
+    }
+
     private lateinit var context: Context
+    private lateinit var stats: Stats
+    private lateinit var valueObjectProcessor: ValueObjectProcessor
+    private lateinit var subjectProcessor: AutoSubjectProcessor
+    private lateinit var generator: SubjectClassGenerator
+    private val registryGenerator = RegistryClassGenerator()
+    private lateinit var renderer: JavaFileRenderer
+
+    // Base subjects are shared across rounds, and the filer does not allow a file to be created twice
+    private val generatedBaseSubjects = mutableSetOf<String>()
+    private val generatedRegistries = mutableSetOf<String>()
 
     override fun getSupportedSourceVersion(): SourceVersion {
         return SourceVersion.latestSupported()
     }
 
+    override fun getSupportedOptions(): Set<String> {
+        val isAggregating = ::context.isInitialized && context.options.isAggregating
+        return Options.names + if (isAggregating) Options.GRADLE_AGGREGATING else Options.GRADLE_ISOLATING
+    }
+
     override fun getSupportedAnnotationTypes(): Set<String> {
         return setOf(AutoSubject::class.java.canonicalName)
     }
 
     override fun init(processingEnv: ProcessingEnvironment) {
+        val start = System.nanoTime()
+        // The class loading MXBean is only touched when stats are requested, so that it does not skew regular builds
+        val classLoading = if (Options.parse(processingEnv.options).isStatsEnabled) ManagementFactory.getClassLoadingMXBean() else null
+        val loadedClassCount = classLoading?.totalLoadedClassCount ?: 0L
+
         super.init(processingEnv)
         context = Context.get(processingEnv)
+        stats = context.stats
+        valueObjectProcessor = ValueObjectProcessor(context.utils, stats)
+        subjectProcessor = AutoSubjectProcessor(context, valueObjectProcessor)
+        generator = SubjectClassGenerator.create(context)
+        renderer = JavaFileRenderer(context.options.parallelism, stats)
+
+        if (classLoading != null) {
+            stats.recordInit(System.nanoTime() - start, classLoading.totalLoadedClassCount - loadedClassCount)
+        }
     }
 
     override fun process(annotations: Set<TypeElement>, roundEnv: RoundEnvironment): Boolean {
         if (roundEnv.processingOver()) {
+            renderer.close()
+            if (stats.isEnabled) {
+                writeStats()
+            }
+            context.logger.close()
             return true
         }
 
+        stats.startRound()
+
+        // Elements and types are not guaranteed to be reused across rounds
+        context.utils.clearCache()
+        valueObjectProcessor.clear()
+
+        subjectProcessor.addRootElements(roundEnv.rootElements)
+
         val logger = context.logger
-        val processor = AutoSubjectProcessor(context)
-        roundEnv.getAnnotatedElements<AutoSubject>()
-            .filterIsInstance<TypeElement>()
-            .forEach { element ->
-                logger.debug(element, "Found annotated class: %s", element.simpleName)
-                try {
-                    val subjectClass = processor.process(element)
-                    generateJavaFile(subjectClass)
-                } catch (e: ProcessingException) {
-                    logger.error(e.element, e.message)
-                }
+        val elements = stats.measure(Phase.DISCOVERY) {
+            roundEnv.getAnnotatedElements<AutoSubject>().filterIsInstance<TypeElement>()
+        }
+        // Subject classes are indexed before any of them is generated, so that they can return each other's subjects
+        val processedClasses = elements.mapNotNull { element ->
+            logger.debug(element) { "Found annotated class: ${element.simpleName}" }
+            try {
+                stats.measureResult(Phase.PROCESS, { subjectClass -> subjectClass.qualifiedName }) { subjectProcessor.process(element) }
+            } catch (e: ProcessingException) {
+                logger.error(e.element, e.message)
+                null
+            }
+        }
+        val subjectClasses = processedClasses.filterNot { subjectClass -> isIndexedOnClassPath(subjectClass) }
+        subjectClasses.forEach { subjectClass -> context.index.record(subjectClass) }
+
+        // javax.lang.model is not thread-safe, so TypeSpecs are built on this thread and only rendering is parallelized
+        val requests = subjectClasses.flatMap { subjectClass ->
+            try {
+                val typeSpec = stats.measure(Phase.BUILDING, subjectClass.qualifiedName) { generator.generate(subjectClass) }
+                checkMethodBudget(subjectClass.element, subjectClass, typeSpec)
+                listOf(JavaFileRenderer.Request(subjectClass.packageName, typeSpec)) + generateBaseSubjects(subjectClass)
+            } catch (e: ProcessingException) {
+                logger.error(e.element, e.message)
+                emptyList<JavaFileRenderer.Request>()
             }
+        } + generateRegistries(processedClasses)
+        renderer.render(requests).forEach { result ->
+            stats.measure(Phase.WRITE, result.qualifiedName) { writeJavaFile(result) }
+        }
         return true
     }
 
-    private fun generateJavaFile(subjectClass: SubjectClass) {
-        val generator = SubjectClassGenerator(
-            AbstractArraySubjectGenerator(context),
-            BooleanAssertionGenerator.PositiveAssertionGenerator(context),
-            BooleanAssertionGenerator.NegativeAssertionGenerator(context),
-            ClassSubjectGenerator(context),
-            GuavaOptionalSubjectGenerator(context),
-            IterableSubjectGenerator(context),
-            IterableAssertionGenerator.PositiveAssertionGenerator(context),
-            IterableAssertionGenerator.NegativeAssertionGenerator(context),
-            MapSubjectGenerator(context),
-            MultimapSubjectGenerator(context),
-            TableSubjectGenerator(context),
-            EnumAssertionGenerator.PositiveAssertionGenerator(context),
-            EnumAssertionGenerator.NegativeAssertionGenerator(context),
-            ObjectAssertionGenerator(context),
-            OptionalSubjectGenerator(context),
-            StreamSubjectGenerator(context),
-            PathSubjectGenerator(context)
-        )
-        val typeSpec = generator.generate(subjectClass)
-        JavaFile.builder(subjectClass.packageName, typeSpec)
-            .skipJavaLangImports(true)
-            .indent("    ")
-            .build().writeTo(processingEnv.filer)
+    // The subject is reused only when another compilation generated it from the same value object, selection and options
+    private fun isIndexedOnClassPath(subjectClass: SubjectClass): Boolean {
+        val index = context.index
+        val entry = index.find(subjectClass.valueObject.element) ?: return false
+        if (!entry.isOnClassPath || "${entry.subject}" != subjectClass.qualifiedName) {
+            return false
+        }
+        if (entry.signature != index.signature(subjectClass) || processingEnv.elementUtils.getTypeElement(subjectClass.qualifiedName) == null) {
+            return false
+        }
+        context.logger.debug(subjectClass.element) { "Reusing ${subjectClass.qualifiedName} found on the class path" }
+        return true
+    }
+
+    private fun checkMethodBudget(element: TypeElement, subjectClass: SubjectClass, typeSpec: TypeSpec) {
+        val budget = context.options.methodBudget ?: return
+        val methodCount = typeSpec.methodSpecs.size
+        if (methodCount > budget) {
+            context.logger.warn(element, "Generated %s has %d methods, exceeding the budget of %d; " +
+                "narrow it with include, exclude or assertions of @AutoSubject", subjectClass.simpleName, methodCount, budget)
+        }
+    }
+
+    private fun generateBaseSubjects(subjectClass: SubjectClass): List<JavaFileRenderer.Request> {
+        return generateSequence(subjectClass.baseSubject) { baseSubject -> baseSubject.superSubject }
+            .filter { baseSubject -> generatedBaseSubjects.add(baseSubject.qualifiedName) }
+            .map { baseSubject ->
+                val typeSpec = stats.measure(Phase.BUILDING, baseSubject.qualifiedName) { generator.generateBase(baseSubject) }
+                JavaFileRenderer.Request(baseSubject.packageName, typeSpec)
+            }
+            .toList()
+    }
+
+    // A registry is generated once per package, so subjects annotated in a later round of the same package are not registered
+    private fun generateRegistries(subjectClasses: List<SubjectClass>): List<JavaFileRenderer.Request> {
+        if (!context.options.isRegistryEnabled) {
+            return emptyList()
+        }
+        return subjectClasses.groupBy { subjectClass -> subjectClass.packageName }.mapNotNull { (packageName, subjects) ->
+            val registryClass = RegistryClass(packageName, subjects)
+            if (!generatedRegistries.add(registryClass.qualifiedName)) {
+                subjects.forEach { subject ->
+                    context.logger.warn(subject.element, "%s is not registered since %s was generated in an earlier round",
+                        subject.simpleName, registryClass.qualifiedName)
+                }
+                return@mapNotNull null
+            }
+            // A class of the same name is declared in the sources or on the class path, e.g. by another module sharing the package
+            if (processingEnv.elementUtils.getTypeElement(registryClass.qualifiedName) != null) {
+                subjects.forEach { subject ->
+                    context.logger.error(subject.element, "%s is not registered since %s already exists; " +
+                        "enable -Aautotruth.registry in only one module per package", subject.simpleName, registryClass.qualifiedName)
+                }
+                return@mapNotNull null
+            }
+            val typeSpec = stats.measure(Phase.BUILDING, registryClass.qualifiedName) { registryGenerator.generate(registryClass) }
+            JavaFileRenderer.Request(packageName, typeSpec)
+        }
+    }
+
+    private fun writeJavaFile(result: JavaFileRenderer.Result) {
+        val sourceFile = processingEnv.filer.createSourceFile(result.qualifiedName, *result.originatingElements.toTypedArray())
+        sourceFile.openWriter().use { writer ->
+            writer.write(result.source)
+        }
+        if (stats.isEnabled) {
+            stats.recordFile(result.qualifiedName, result.methodCount, result.source.toByteArray(Charsets.UTF_8).size)
+        }
+    }
+
+    private fun writeStats() {
+        try {
+            val resource = processingEnv.filer.createResource(CLASS_OUTPUT, "", STATS_FILE)
+            resource.openWriter().use { writer ->
+                writer.write(stats.toJson())
+            }
+        } catch (e: IOException) {
+            context.logger.warn("Failed to write stats report %s: %s", STATS_FILE, e.message)
+        }
     }
 }
@@ -16,32 +16,55 @@
 
 package io.t28.auto.truth.processor
 
+import io.t28.auto.truth.processor.index.ClassPathSubjectIndex
+import io.t28.auto.truth.processor.index.DisabledSubjectIndex
+import io.t28.auto.truth.processor.index.SubjectIndex
 import io.t28.auto.truth.processor.log.Logger
 import io.t28.auto.truth.processor.log.ProcessingEnvLogger
+import io.t28.auto.truth.processor.stats.DisabledStats
+import io.t28.auto.truth.processor.stats.RecordingStats
+import io.t28.auto.truth.processor.stats.Stats
 import io.t28.auto.truth.processor.utils.ProcessingEnvTypeUtils
 import io.t28.auto.truth.processor.utils.TypeUtils
+import java.nio.file.Paths
 import javax.annotation.processing.ProcessingEnvironment
 
 interface Context {
     companion object {
-        private const val DEBUG_OPTION = "debug"
-
         fun get(processingEnv: ProcessingEnvironment): Context {
             return ProcessingContext(processingEnv)
         }
     }
 
+    val options: Options
+
     val logger: Logger
 
     val utils: TypeUtils
 
+    val stats: Stats
+
+    val index: SubjectIndex
+
     class ProcessingContext(private val processingEnv: ProcessingEnvironment) : Context {
+        override val options: Options by lazy {
+            Options.parse(processingEnv.options)
+        }
+
         override val logger: Logger by lazy {
-            ProcessingEnvLogger(processingEnv.messager, processingEnv.options.containsKey(DEBUG_OPTION))
+            ProcessingEnvLogger(processingEnv.messager, options.level, options.debugLimit, options.debugFile?.let { file -> Paths.get(file) })
         }
 
         override val utils: TypeUtils by lazy {
             ProcessingEnvTypeUtils(processingEnv.typeUtils, processingEnv.elementUtils)
         }
+
+        override val stats: Stats by lazy {
+            if (options.isStatsEnabled) RecordingStats() else DisabledStats
+        }
+
+        override val index: SubjectIndex by lazy {
+            if (options.isSubjectIndexEnabled) ClassPathSubjectIndex(processingEnv.filer, options, logger) else DisabledSubjectIndex
+        }
     }
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.processor
+
+import io.t28.auto.truth.processor.log.Level
+
+data class Options(
+    val isDebugEnabled: Boolean = false,
+    val parallelism: Int = DEFAULT_PARALLELISM,
+    val isStatsEnabled: Boolean = false,
+    val isBaseSubjectsEnabled: Boolean = false,
+    val methodBudget: Int? = null,
+    val maxRenderedElements: Int? = null,
+    val maxRenderedLength: Int? = null,
+    val isSubjectIndexEnabled: Boolean = false,
+    val isRegistryEnabled: Boolean = false,
+    val logLevel: Level? = null,
+    val debugLimit: Int = DEFAULT_DEBUG_LIMIT,
+    val debugFile: String? = null
+) {
+    // The stats report and shared base subjects are derived from several annotated classes, so they have no single originating element.
+    // Subjects resolved through the index and registries depend on other annotated classes as well.
+    val isAggregating: Boolean
+        get() = isStatsEnabled || isBaseSubjectsEnabled || isSubjectIndexEnabled || isRegistryEnabled
+
+    // -Adebug is kept as a shorthand for the debug level
+    val level: Level
+        get() = logLevel ?: if (isDebugEnabled) Level.DEBUG else Level.WARN
+
+    companion object {
+        const val DEBUG = "debug"
+        const val PARALLELISM = "autotruth.parallelism"
+        const val STATS = "autotruth.stats"
+        const val BASE_SUBJECTS = "autotruth.baseSubjects"
+        const val METHOD_BUDGET = "autotruth.methodBudget"
+        const val MAX_RENDERED_ELEMENTS = "autotruth.maxRenderedElements"
+        const val MAX_RENDERED_LENGTH = "autotruth.maxRenderedLength"
+        const val SUBJECT_INDEX = "autotruth.subjectIndex"
+        const val REGISTRY = "autotruth.registry"
+        const val LOG_LEVEL = "autotruth.logLevel"
+        const val DEBUG_LIMIT = "autotruth.debugLimit"
+        const val DEBUG_FILE = "autotruth.debugFile"
+
+        private const val DEFAULT_PARALLELISM = 1
+        const val DEFAULT_DEBUG_LIMIT = 500
+
+        val names: Set<String> = setOf(
+            DEBUG,
+            PARALLELISM,
+            STATS,
+            BASE_SUBJECTS,
+            METHOD_BUDGET,
+            MAX_RENDERED_ELEMENTS,
+            MAX_RENDERED_LENGTH,
+            SUBJECT_INDEX,
+            REGISTRY,
+            LOG_LEVEL,
+            DEBUG_LIMIT,
+            DEBUG_FILE
+        )
+
+        // Gradle reads the incremental mode from supported options since the processor is registered as dynamic
+        const val GRADLE_ISOLATING = "org.gradle.annotation.processing.isolating"
+        const val GRADLE_AGGREGATING = "org.gradle.annotation.processing.aggregating"
+
+        fun parse(options: Map<String, String?>): Options {
+            return Options(
+                isDebugEnabled = options.containsKey(DEBUG),
+                parallelism = options[PARALLELISM]?.toIntOrNull()?.coerceAtLeast(DEFAULT_PARALLELISM) ?: DEFAULT_PARALLELISM,
+                isStatsEnabled = options[STATS]?.toBoolean() ?: false,
+                isBaseSubjectsEnabled = options[BASE_SUBJECTS]?.toBoolean() ?: false,
+                methodBudget = options[METHOD_BUDGET]?.toIntOrNull()?.takeIf { budget -> budget > 0 },
+                maxRenderedElements = options[MAX_RENDERED_ELEMENTS]?.toIntOrNull()?.takeIf { limit -> limit > 0 },
+                maxRenderedLength = options[MAX_RENDERED_LENGTH]?.toIntOrNull()?.takeIf { limit -> limit > 0 },
+                isSubjectIndexEnabled = options[SUBJECT_INDEX]?.toBoolean() ?: false,
+                isRegistryEnabled = options[REGISTRY]?.toBoolean() ?: false,
+                logLevel = Level.parse(options[LOG_LEVEL]),
+                debugLimit = options[DEBUG_LIMIT]?.toIntOrNull()?.coerceAtLeast(0) ?: DEFAULT_DEBUG_LIMIT,
+                debugFile = options[DEBUG_FILE]?.takeIf { file -> file.isNotBlank() }
+            )
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.processor.data
+
+import io.t28.auto.truth.processor.extensions.getPackage
+import javax.lang.model.element.TypeElement
+
+// An abstract subject shared by every subject whose value object extends the same supertype
+data class BaseSubjectClass(
+    val valueObject: ValueObjectClass,
+    val superSubject: BaseSubjectClass? = null
+) {
+    val packageName: String
+        get() = "${valueObject.element.getPackage().qualifiedName}"
+
+    val simpleName: String
+        get() {
+            val enclosingNames = generateSequence(valueObject.element) { element -> element.enclosingElement as? TypeElement }
+                .map { element -> "${element.simpleName}" }
+                .toList()
+                .asReversed()
+            return "Abstract${enclosingNames.joinToString("")}Subject"
+        }
+
+    val qualifiedName: String
+        get() = if (packageName.isEmpty()) simpleName else "$packageName.$simpleName"
+
+    val symbols: Set<String>
+        get() = valueObject.properties.map { property -> property.symbol }.toSet()
+}
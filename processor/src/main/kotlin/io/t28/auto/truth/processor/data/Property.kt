@@ -16,7 +16,7 @@
 
 package io.t28.auto.truth.processor.data
 
-import com.google.common.base.CaseFormat
+import io.t28.auto.truth.processor.extensions.toLowerCamelCase
 import javax.lang.model.element.Element
 import javax.lang.model.element.ElementKind.ENUM_CONSTANT
 import javax.lang.model.element.ElementKind.FIELD
@@ -69,9 +69,13 @@ sealed class Property(open val element: Element) {
         }
     }
 
-    data class Field internal constructor(override val element: VariableElement) : Property(element) {
+    // memberType is the type seen from a subclass when the property is inherited from a generic supertype
+    data class Field internal constructor(
+        override val element: VariableElement,
+        private val memberType: TypeMirror? = null
+    ) : Property(element) {
         override val type: TypeMirror
-            get() = element.asType()
+            get() = memberType ?: element.asType()
 
         override val name: String
             get() = "${element.simpleName}".simplify()
@@ -80,9 +84,12 @@ sealed class Property(open val element: Element) {
             get() = "${element.simpleName}"
     }
 
-    data class Getter internal constructor(override val element: ExecutableElement) : Property(element) {
+    data class Getter internal constructor(
+        override val element: ExecutableElement,
+        private val memberType: TypeMirror? = null
+    ) : Property(element) {
         override val type: TypeMirror
-            get() = element.returnType
+            get() = memberType ?: element.returnType
 
         override val name: String
             get() = "${element.simpleName}".simplify()
@@ -96,10 +103,7 @@ sealed class Property(open val element: Element) {
             get() = element.asType()
 
         override val name: String
-            get() {
-                val simpleName = "${element.simpleName}"
-                return CaseFormat.UPPER_UNDERSCORE.to(CaseFormat.LOWER_CAMEL, simpleName)
-            }
+            get() = "${element.simpleName}".toLowerCamelCase()
 
         override val symbol: String
             get() = "${element.simpleName}"
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.processor.data
+
+import io.t28.auto.truth.AutoSubject.Assertion
+
+// Properties are matched by either name or element name, e.g. "id" or "getId" for getId()
+data class PropertySelection(
+    val includes: Set<String> = emptySet(),
+    val excludes: Set<String> = emptySet(),
+    val assertions: Set<Assertion> = emptySet()
+) {
+    companion object {
+        val ALL = PropertySelection()
+    }
+
+    val isAll: Boolean
+        get() = this == ALL
+
+    fun isSelected(property: Property): Boolean {
+        val names = setOf(property.name, "${property.element.simpleName}")
+        return (includes.isEmpty() || names.any { name -> name in includes }) && names.none { name -> name in excludes }
+    }
+
+    fun isSelected(assertion: Assertion): Boolean {
+        return assertions.isEmpty() || assertion in assertions
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.processor.data
+
+// A class that looks up the generated subjects of a package by the class of a value object
+data class RegistryClass(
+    val packageName: String,
+    val subjects: List<SubjectClass>
+) {
+    companion object {
+        const val SIMPLE_NAME = "AutoSubjects"
+    }
+
+    val simpleName: String
+        get() = SIMPLE_NAME
+
+    val qualifiedName: String
+        get() = if (packageName.isEmpty()) simpleName else "$packageName.$simpleName"
+}
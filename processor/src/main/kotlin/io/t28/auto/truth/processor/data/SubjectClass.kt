@@ -23,11 +23,16 @@ data class SubjectClass(
     val prefix: String,
     val suffix: String,
     val element: TypeElement,
-    val valueObject: ValueObjectClass
+    val valueObject: ValueObjectClass,
+    val baseSubject: BaseSubjectClass? = null,
+    val selection: PropertySelection = PropertySelection.ALL
 ) {
     val packageName: String
         get() = "${element.getPackage().qualifiedName}"
 
     val simpleName: String
         get() = "$prefix${element.simpleName}$suffix"
+
+    val qualifiedName: String
+        get() = if (packageName.isEmpty()) simpleName else "$packageName.$simpleName"
 }
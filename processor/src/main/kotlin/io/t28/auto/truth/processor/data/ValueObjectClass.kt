@@ -16,52 +16,103 @@
 
 package io.t28.auto.truth.processor.data
 
-import io.t28.auto.truth.processor.extensions.findEnumConstants
-import io.t28.auto.truth.processor.extensions.findFields
-import io.t28.auto.truth.processor.extensions.findMethods
+import io.t28.auto.truth.AutoSubject
 import io.t28.auto.truth.processor.extensions.getAnnotation
 import io.t28.auto.truth.processor.extensions.hasParameter
 import io.t28.auto.truth.processor.extensions.isPublic
 import io.t28.auto.truth.processor.extensions.isStatic
+import javax.lang.model.element.ElementKind.ENUM_CONSTANT
+import javax.lang.model.element.ElementKind.FIELD
+import javax.lang.model.element.ElementKind.METHOD
+import javax.lang.model.element.ExecutableElement
 import javax.lang.model.element.TypeElement
+import javax.lang.model.type.DeclaredType
+import javax.lang.model.type.TypeKind
 import javax.lang.model.type.TypeMirror
+import javax.lang.model.util.ElementFilter
 
-data class ValueObjectClass(val element: TypeElement) {
+data class ValueObjectClass(
+    val element: TypeElement,
+    val supertypes: List<ValueObjectClass> = emptyList(),
+    private val inheritedProperties: List<Property> = emptyList()
+) {
     val type: TypeMirror
         get() = element.asType()
 
     val simpleName: String
         get() = "${element.simpleName}"
 
-    fun findProperties(): List<Property> {
-        // Find public and non-static properties
-        val fieldProperties = element.findFields {
-            it.isPublic and !it.isStatic
-        }.map { Property.get(it) }
+    val declaredProperties: List<Property>
 
-        // Find public and non-static getter methods
-        val getterProperties = element
-            .findMethods { method ->
-                method.isPublic and !method.isStatic and !method.hasParameter
-            }
-            .filterNot { method ->
-                // Ignore component functions
-                if (isKotlinClass()) {
-                    method.simpleName.matches("""component\d+""".toRegex())
-                } else {
-                    false
+    // Declared properties come first, so that an overriding getter wins over the inherited one
+    val properties: List<Property>
+
+    val enumConstants: List<Property>
+
+    companion object {
+        private val COMPONENT_FUNCTION = Regex("""component\d+""")
+    }
+
+    init {
+        val isKotlinClass = element.getAnnotation<Metadata>() != null
+        val fields = mutableListOf<Property>()
+        val getters = mutableListOf<Property>()
+        val constants = mutableListOf<Property>()
+        // Scan enclosed elements only once and keep fields before getters
+        element.enclosedElements.filter { enclosed -> enclosed.getAnnotation<AutoSubject.Ignore>() == null }.forEach { enclosed ->
+            when (enclosed.kind) {
+                FIELD -> if (enclosed.isPublic and !enclosed.isStatic) {
+                    fields += Property.get(enclosed)
+                }
+                METHOD -> if ((enclosed as ExecutableElement).isGetter() and !(isKotlinClass and enclosed.isComponentFunction())) {
+                    getters += Property.get(enclosed)
                 }
+                ENUM_CONSTANT -> constants += Property.get(enclosed)
+                else -> Unit
             }
-            .map { Property.get(it) }
-        return fieldProperties + getterProperties
+        }
+        declaredProperties = fields + getters
+        properties = (declaredProperties + inheritedProperties).distinctBy { property -> property.symbol }
+        enumConstants = constants.toList()
+    }
+
+    fun findProperties(selection: PropertySelection = PropertySelection.ALL): List<Property> {
+        return if (selection.isAll) properties else properties.filter { property -> selection.isSelected(property) }
+    }
+
+    fun findEnumConstants(selection: PropertySelection = PropertySelection.ALL): List<Property> {
+        return if (selection.isAll) enumConstants else enumConstants.filter { property -> selection.isSelected(property) }
+    }
+
+    // Properties making up the value, without methods redeclared from Object (e.g. hashCode()) and accessors of the nested builder
+    fun findValueProperties(objectMethodNames: Set<String>): List<Property> {
+        return properties.filter { property ->
+            when (property) {
+                is Property.Getter -> property.type.kind != TypeKind.VOID &&
+                    "${property.element.simpleName}" !in objectMethodNames &&
+                    !property.element.returnsBuilder()
+                else -> true
+            }
+        }
+    }
+
+    private fun ExecutableElement.isGetter(): Boolean {
+        return isPublic and !isStatic and !hasParameter
     }
 
-    fun findEnumConstants(): List<Property> {
-        return element.findEnumConstants()
-            .map { Property.get(it) }
+    private fun ExecutableElement.isComponentFunction(): Boolean {
+        return simpleName.matches(COMPONENT_FUNCTION)
     }
 
-    private fun isKotlinClass(): Boolean {
-        return element.getAnnotation<Metadata>() != null
+    // A builder is a type nested in the declaring class whose no-arg method (e.g. build()) returns the declaring class
+    private fun ExecutableElement.returnsBuilder(): Boolean {
+        val declaringElement = enclosingElement
+        val builderElement = (returnType as? DeclaredType)?.asElement() as? TypeElement ?: return false
+        if (builderElement.enclosingElement != declaringElement) {
+            return false
+        }
+        return ElementFilter.methodsIn(builderElement.enclosedElements).any { method ->
+            !method.hasParameter && (method.returnType as? DeclaredType)?.asElement() == declaringElement
+        }
     }
 }
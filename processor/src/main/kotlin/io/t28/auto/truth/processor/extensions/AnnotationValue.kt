@@ -17,13 +17,14 @@
 package io.t28.auto.truth.processor.extensions
 
 import javax.lang.model.element.AnnotationValue
+import javax.lang.model.element.VariableElement
 import javax.lang.model.type.TypeMirror
 import javax.lang.model.util.SimpleAnnotationValueVisitor6
 import kotlin.reflect.KClass
 
 private open class ValueVisitor<T : Any>(private val type: KClass<T>) : SimpleAnnotationValueVisitor6<T, Void?>() {
     override fun defaultAction(value: Any, p: Void?): T {
-        throw IllegalArgumentException("Cannot convert value($value) as ${type.simpleName}")
+        throw IllegalArgumentException("Cannot convert value($value) as ${type.java.simpleName}")
     }
 }
 
@@ -39,6 +40,18 @@ private val TYPE_VALUE_VISITOR = object : ValueVisitor<TypeMirror>(TypeMirror::c
     }
 }
 
+private val ENUM_VALUE_VISITOR = object : ValueVisitor<String>(String::class) {
+    override fun visitEnumConstant(value: VariableElement, p: Void?): String {
+        return "${value.simpleName}"
+    }
+}
+
+private val ARRAY_VALUE_VISITOR = object : ValueVisitor<List<*>>(List::class) {
+    override fun visitArray(values: List<AnnotationValue>, p: Void?): List<AnnotationValue> {
+        return values
+    }
+}
+
 @Throws(IllegalArgumentException::class)
 fun AnnotationValue.asString(): String {
     return STRING_VALUE_VISITOR.visit(this)
@@ -48,3 +61,13 @@ fun AnnotationValue.asString(): String {
 fun AnnotationValue.asType(): TypeMirror {
     return TYPE_VALUE_VISITOR.visit(this)
 }
+
+@Throws(IllegalArgumentException::class)
+fun AnnotationValue.asEnumName(): String {
+    return ENUM_VALUE_VISITOR.visit(this)
+}
+
+@Throws(IllegalArgumentException::class)
+fun AnnotationValue.asList(): List<AnnotationValue> {
+    return ARRAY_VALUE_VISITOR.visit(this).filterIsInstance<AnnotationValue>()
+}
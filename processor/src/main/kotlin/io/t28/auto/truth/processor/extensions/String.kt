@@ -42,3 +42,15 @@ fun String.safeFormat(vararg args: Any?): String {
         this
     }
 }
+
+// Converts UPPER_UNDERSCORE names such as enum constants without pulling in Guava's CaseFormat
+fun String.toLowerCamelCase(): String {
+    val words = split('_')
+    return buildString {
+        words.forEachIndexed { index, word ->
+            word.forEachIndexed { position, char ->
+                append(if (index > 0 && position == 0) Character.toUpperCase(char) else Character.toLowerCase(char))
+            }
+        }
+    }
+}
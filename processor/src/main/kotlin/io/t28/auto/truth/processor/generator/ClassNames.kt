@@ -0,0 +1,107 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.processor.generator
+
+import com.squareup.javapoet.ClassName
+
+// Types are referenced by name so that Truth, Guava and kotlin-reflect are never loaded into the compiler
+object ClassNames {
+    private const val TRUTH_PACKAGE = "com.google.common.truth"
+
+    val OBJECT: ClassName = ClassName.get("java.lang", "Object")
+    val BOOLEAN: ClassName = ClassName.get("java.lang", "Boolean")
+    val FLOAT: ClassName = ClassName.get("java.lang", "Float")
+    val DOUBLE: ClassName = ClassName.get("java.lang", "Double")
+    val MATH: ClassName = ClassName.get("java.lang", "Math")
+    val VOID: ClassName = ClassName.get("java.lang", "Void")
+    val CLASS: ClassName = ClassName.get("java.lang", "Class")
+    val CLASS_VALUE: ClassName = ClassName.get("java.lang", "ClassValue")
+    val ITERABLE: ClassName = ClassName.get("java.lang", "Iterable")
+    val MAP: ClassName = ClassName.get("java.util", "Map")
+    val COLLECTION: ClassName = ClassName.get("java.util", "Collection")
+    val COLLECTIONS: ClassName = ClassName.get("java.util", "Collections")
+    val SET: ClassName = ClassName.get("java.util", "Set")
+    val ITERATOR: ClassName = ClassName.get("java.util", "Iterator")
+    val PRIMITIVE_ITERATOR: ClassName = ClassName.get("java.util", "PrimitiveIterator")
+    val SPLITERATOR: ClassName = ClassName.get("java.util", "Spliterator")
+    val SPLITERATORS: ClassName = ClassName.get("java.util", "Spliterators")
+    val HASH_MAP: ClassName = ClassName.get("java.util", "HashMap")
+    val ARRAY_DEQUE: ClassName = ClassName.get("java.util", "ArrayDeque")
+    val ARRAYS: ClassName = ClassName.get("java.util", "Arrays")
+    val OBJECTS: ClassName = ClassName.get("java.util", "Objects")
+    val OPTIONAL: ClassName = ClassName.get("java.util", "Optional")
+    val OPTIONAL_INT: ClassName = ClassName.get("java.util", "OptionalInt")
+    val OPTIONAL_LONG: ClassName = ClassName.get("java.util", "OptionalLong")
+    val OPTIONAL_DOUBLE: ClassName = ClassName.get("java.util", "OptionalDouble")
+    val STREAM: ClassName = ClassName.get("java.util.stream", "Stream")
+    val INT_STREAM: ClassName = ClassName.get("java.util.stream", "IntStream")
+    val LONG_STREAM: ClassName = ClassName.get("java.util.stream", "LongStream")
+    val DOUBLE_STREAM: ClassName = ClassName.get("java.util.stream", "DoubleStream")
+    val PREDICATE: ClassName = ClassName.get("java.util.function", "Predicate")
+    val INT_PREDICATE: ClassName = ClassName.get("java.util.function", "IntPredicate")
+    val LONG_PREDICATE: ClassName = ClassName.get("java.util.function", "LongPredicate")
+    val DOUBLE_PREDICATE: ClassName = ClassName.get("java.util.function", "DoublePredicate")
+    val PATH: ClassName = ClassName.get("java.nio.file", "Path")
+
+    val ARRAY_ELEMENTS: ClassName = ClassName.get("io.t28.auto.truth.internal", "ArrayElements")
+    val ITERABLE_ELEMENTS: ClassName = ClassName.get("io.t28.auto.truth.internal", "IterableElements")
+    val MAP_ENTRIES: ClassName = ClassName.get("io.t28.auto.truth.internal", "MapEntries")
+    val PROPERTY_DIFF: ClassName = ClassName.get("io.t28.auto.truth.internal", "PropertyDiff")
+    val VALUE_RENDERER: ClassName = ClassName.get("io.t28.auto.truth.internal", "ValueRenderer")
+
+    val GENERATED: ClassName = ClassName.get("javax.annotation", "Generated")
+    val NONNULL: ClassName = ClassName.get("javax.annotation", "Nonnull")
+    val NULLABLE: ClassName = ClassName.get("javax.annotation", "Nullable")
+
+    val PRECONDITIONS: ClassName = ClassName.get("com.google.common.base", "Preconditions")
+    val GUAVA_OPTIONAL: ClassName = ClassName.get("com.google.common.base", "Optional")
+    val MULTIMAP: ClassName = ClassName.get("com.google.common.collect", "Multimap")
+    val MULTISET: ClassName = ClassName.get("com.google.common.collect", "Multiset")
+    val TABLE: ClassName = ClassName.get("com.google.common.collect", "Table")
+
+    val TRUTH: ClassName = ClassName.get(TRUTH_PACKAGE, "Truth")
+    val SUBJECT: ClassName = ClassName.get(TRUTH_PACKAGE, "Subject")
+    val SUBJECT_FACTORY: ClassName = SUBJECT.nestedClass("Factory")
+    val FAILURE_METADATA: ClassName = ClassName.get(TRUTH_PACKAGE, "FailureMetadata")
+    val FACT: ClassName = ClassName.get(TRUTH_PACKAGE, "Fact")
+    val CLASS_SUBJECT: ClassName = ClassName.get(TRUTH_PACKAGE, "ClassSubject")
+    val ITERABLE_SUBJECT: ClassName = ClassName.get(TRUTH_PACKAGE, "IterableSubject")
+    val MAP_SUBJECT: ClassName = ClassName.get(TRUTH_PACKAGE, "MapSubject")
+    val MULTIMAP_SUBJECT: ClassName = ClassName.get(TRUTH_PACKAGE, "MultimapSubject")
+    val MULTISET_SUBJECT: ClassName = ClassName.get(TRUTH_PACKAGE, "MultisetSubject")
+    val TABLE_SUBJECT: ClassName = ClassName.get(TRUTH_PACKAGE, "TableSubject")
+    val GUAVA_OPTIONAL_SUBJECT: ClassName = ClassName.get(TRUTH_PACKAGE, "GuavaOptionalSubject")
+    val OBJECT_ARRAY_SUBJECT: ClassName = ClassName.get(TRUTH_PACKAGE, "ObjectArraySubject")
+    val BOOLEAN_ARRAY_SUBJECT: ClassName = ClassName.get(TRUTH_PACKAGE, "PrimitiveBooleanArraySubject")
+    val BYTE_ARRAY_SUBJECT: ClassName = ClassName.get(TRUTH_PACKAGE, "PrimitiveByteArraySubject")
+    val SHORT_ARRAY_SUBJECT: ClassName = ClassName.get(TRUTH_PACKAGE, "PrimitiveShortArraySubject")
+    val INT_ARRAY_SUBJECT: ClassName = ClassName.get(TRUTH_PACKAGE, "PrimitiveIntArraySubject")
+    val LONG_ARRAY_SUBJECT: ClassName = ClassName.get(TRUTH_PACKAGE, "PrimitiveLongArraySubject")
+    val CHAR_ARRAY_SUBJECT: ClassName = ClassName.get(TRUTH_PACKAGE, "PrimitiveCharArraySubject")
+    val FLOAT_ARRAY_SUBJECT: ClassName = ClassName.get(TRUTH_PACKAGE, "PrimitiveFloatArraySubject")
+    val DOUBLE_ARRAY_SUBJECT: ClassName = ClassName.get(TRUTH_PACKAGE, "PrimitiveDoubleArraySubject")
+
+    // Truth8 subjects live in the same package as the core subjects
+    val OPTIONAL_SUBJECT: ClassName = ClassName.get(TRUTH_PACKAGE, "OptionalSubject")
+    val OPTIONAL_INT_SUBJECT: ClassName = ClassName.get(TRUTH_PACKAGE, "OptionalIntSubject")
+    val OPTIONAL_LONG_SUBJECT: ClassName = ClassName.get(TRUTH_PACKAGE, "OptionalLongSubject")
+    val OPTIONAL_DOUBLE_SUBJECT: ClassName = ClassName.get(TRUTH_PACKAGE, "OptionalDoubleSubject")
+    val STREAM_SUBJECT: ClassName = ClassName.get(TRUTH_PACKAGE, "StreamSubject")
+    val INT_STREAM_SUBJECT: ClassName = ClassName.get(TRUTH_PACKAGE, "IntStreamSubject")
+    val LONG_STREAM_SUBJECT: ClassName = ClassName.get(TRUTH_PACKAGE, "LongStreamSubject")
+    val PATH_SUBJECT: ClassName = ClassName.get(TRUTH_PACKAGE, "PathSubject")
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.processor.generator
+
+import com.squareup.javapoet.JavaFile
+import com.squareup.javapoet.TypeSpec
+import io.t28.auto.truth.processor.stats.DisabledStats
+import io.t28.auto.truth.processor.stats.Phase
+import io.t28.auto.truth.processor.stats.Stats
+import io.t28.auto.truth.processor.stats.measure
+import java.io.Closeable
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ForkJoinPool
+import javax.lang.model.element.Element
+
+class JavaFileRenderer(
+    private val parallelism: Int,
+    private val stats: Stats = DisabledStats
+) : Closeable {
+    private val pool: ForkJoinPool? = if (parallelism > 1) ForkJoinPool(parallelism) else null
+
+    data class Request(val packageName: String, val typeSpec: TypeSpec)
+
+    data class Result(
+        val qualifiedName: String,
+        val source: String,
+        val methodCount: Int,
+        val originatingElements: List<Element>
+    )
+
+    // Results are returned in the order of requests, so that files are always written in a deterministic order
+    fun render(requests: List<Request>): List<Result> {
+        if (pool == null || requests.size <= 1) {
+            return requests.map { request -> render(request) }
+        }
+        val tasks = requests.map { request ->
+            pool.submit(Callable { render(request) })
+        }
+        return tasks.map { task ->
+            try {
+                task.get()
+            } catch (e: ExecutionException) {
+                throw e.cause ?: e
+            }
+        }
+    }
+
+    override fun close() {
+        pool?.shutdown()
+    }
+
+    private fun render(request: Request): Result {
+        val qualifiedName = if (request.packageName.isEmpty()) {
+            request.typeSpec.name
+        } else {
+            "${request.packageName}.${request.typeSpec.name}"
+        }
+        return stats.measure(Phase.RENDERING, qualifiedName) {
+            Result(
+                qualifiedName = qualifiedName,
+                source = toJavaFile(request).toString(),
+                methodCount = request.typeSpec.methodSpecs.size,
+                originatingElements = request.typeSpec.originatingElements
+            )
+        }
+    }
+
+    private fun toJavaFile(request: Request): JavaFile {
+        return JavaFile.builder(request.packageName, request.typeSpec)
+            .skipJavaLangImports(true)
+            .indent("    ")
+            .build()
+    }
+}
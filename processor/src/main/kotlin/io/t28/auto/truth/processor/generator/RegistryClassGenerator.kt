@@ -0,0 +1,150 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.processor.generator
+
+import com.squareup.javapoet.AnnotationSpec
+import com.squareup.javapoet.ClassName
+import com.squareup.javapoet.FieldSpec
+import com.squareup.javapoet.MethodSpec
+import com.squareup.javapoet.ParameterSpec
+import com.squareup.javapoet.ParameterizedTypeName
+import com.squareup.javapoet.TypeName
+import com.squareup.javapoet.TypeSpec
+import com.squareup.javapoet.WildcardTypeName
+import io.t28.auto.truth.processor.AutoTruthProcessor
+import io.t28.auto.truth.processor.data.RegistryClass
+import javax.lang.model.element.Modifier.FINAL
+import javax.lang.model.element.Modifier.PRIVATE
+import javax.lang.model.element.Modifier.PROTECTED
+import javax.lang.model.element.Modifier.PUBLIC
+import javax.lang.model.element.Modifier.STATIC
+
+// Factories are resolved once per class through ClassValue, so that dispatching a subclass costs a lookup only on the first call
+class RegistryClassGenerator : Generator<RegistryClass, TypeSpec> {
+    companion object {
+        private val ANY_CLASS: TypeName = ParameterizedTypeName.get(ClassNames.CLASS, WildcardTypeName.subtypeOf(TypeName.OBJECT))
+        private val ANY_FACTORY: TypeName = ParameterizedTypeName.get(
+            ClassNames.SUBJECT_FACTORY,
+            WildcardTypeName.subtypeOf(TypeName.OBJECT),
+            WildcardTypeName.subtypeOf(TypeName.OBJECT)
+        )
+        private val FACTORY_MAP: TypeName = ParameterizedTypeName.get(ClassNames.MAP, ANY_CLASS, ANY_FACTORY)
+        private val OBJECT_FACTORY: TypeName = ParameterizedTypeName.get(ClassNames.SUBJECT_FACTORY, ClassNames.SUBJECT, TypeName.OBJECT)
+    }
+
+    override fun generate(input: RegistryClass): TypeSpec {
+        return TypeSpec.classBuilder(ClassName.get(input.packageName, input.simpleName)).apply {
+            input.subjects.forEach { subject -> addOriginatingElement(subject.element) }
+            addAnnotation(AnnotationSpec.builder(ClassNames.GENERATED)
+                .addMember("value", "\$S", AutoTruthProcessor::class.java.canonicalName)
+                .build())
+            addAnnotation(AnnotationSpec.builder(SuppressWarnings::class.java)
+                .addMember("value", "\$S", "unchecked")
+                .build())
+            addModifiers(PUBLIC, FINAL)
+            addField(FieldSpec.builder(FACTORY_MAP, "FACTORIES", PRIVATE, STATIC, FINAL)
+                .initializer("createFactories()")
+                .build())
+            addField(FieldSpec.builder(ParameterizedTypeName.get(ClassNames.CLASS_VALUE, ANY_FACTORY), "RESOLVED_FACTORIES", PRIVATE, STATIC, FINAL)
+                .initializer("\$L", generateClassValue())
+                .build())
+            addMethod(MethodSpec.constructorBuilder().addModifiers(PRIVATE).build())
+            addMethod(generateFactory())
+            addMethod(generateAssertThat())
+            addMethod(generateCreateFactories(input))
+            addMethod(generateResolve())
+        }.build()
+    }
+
+    private fun generateClassValue(): TypeSpec {
+        return TypeSpec.anonymousClassBuilder("").apply {
+            superclass(ParameterizedTypeName.get(ClassNames.CLASS_VALUE, ANY_FACTORY))
+            addMethod(MethodSpec.methodBuilder("computeValue").apply {
+                addAnnotation(Override::class.java)
+                addModifiers(PROTECTED)
+                returns(ANY_FACTORY)
+                addParameter(ANY_CLASS, "type")
+                addStatement("return resolve(type)")
+            }.build())
+        }.build()
+    }
+
+    private fun generateFactory(): MethodSpec {
+        return MethodSpec.methodBuilder("factory").apply {
+            addModifiers(PUBLIC, STATIC)
+            addAnnotation(ClassNames.NULLABLE)
+            returns(ANY_FACTORY)
+            addParameter(ParameterSpec.builder(ANY_CLASS, "type").addAnnotation(ClassNames.NONNULL).build())
+            addStatement("return RESOLVED_FACTORIES.get(type)")
+        }.build()
+    }
+
+    // Objects without a generated subject fall back to a plain Truth subject
+    private fun generateAssertThat(): MethodSpec {
+        return MethodSpec.methodBuilder("assertThat").apply {
+            addModifiers(PUBLIC, STATIC)
+            addAnnotation(ClassNames.NONNULL)
+            returns(ClassNames.SUBJECT)
+            addParameter(ParameterSpec.builder(TypeName.OBJECT, "actual").addAnnotation(ClassNames.NULLABLE).build())
+            beginControlFlow("if (actual == null)")
+            addStatement("return \$T.assertThat(actual)", ClassNames.TRUTH)
+            endControlFlow()
+            addStatement("final \$T factory = RESOLVED_FACTORIES.get(actual.getClass())", ANY_FACTORY)
+            beginControlFlow("if (factory == null)")
+            addStatement("return \$T.assertThat(actual)", ClassNames.TRUTH)
+            endControlFlow()
+            addStatement("return \$T.assertAbout((\$T) factory).that(actual)", ClassNames.TRUTH, OBJECT_FACTORY)
+        }.build()
+    }
+
+    private fun generateCreateFactories(input: RegistryClass): MethodSpec {
+        return MethodSpec.methodBuilder("createFactories").apply {
+            addModifiers(PRIVATE, STATIC)
+            returns(FACTORY_MAP)
+            addStatement("final \$T factories = new \$T<>()", FACTORY_MAP, ClassNames.HASH_MAP)
+            input.subjects.forEach { subject ->
+                val valueObject = ClassName.get(subject.valueObject.element)
+                addStatement("factories.put(\$T.class, \$T.factory())", valueObject, ClassName.get(subject.packageName, subject.simpleName))
+            }
+            addStatement("return factories")
+        }.build()
+    }
+
+    // The nearest registered type wins, and superclasses are visited before interfaces at the same distance
+    private fun generateResolve(): MethodSpec {
+        return MethodSpec.methodBuilder("resolve").apply {
+            addModifiers(PRIVATE, STATIC)
+            addAnnotation(ClassNames.NULLABLE)
+            returns(ANY_FACTORY)
+            addParameter(ANY_CLASS, "type")
+            addStatement("final \$T<\$T> queue = new \$T<>()", ClassNames.ARRAY_DEQUE, ANY_CLASS, ClassNames.ARRAY_DEQUE)
+            addStatement("queue.add(type)")
+            beginControlFlow("while (!queue.isEmpty())")
+            addStatement("final \$T candidate = queue.poll()", ANY_CLASS)
+            addStatement("final \$T factory = FACTORIES.get(candidate)", ANY_FACTORY)
+            beginControlFlow("if (factory != null)")
+            addStatement("return factory")
+            endControlFlow()
+            beginControlFlow("if (candidate.getSuperclass() != null)")
+            addStatement("queue.add(candidate.getSuperclass())")
+            endControlFlow()
+            addStatement("\$T.addAll(queue, candidate.getInterfaces())", ClassNames.COLLECTIONS)
+            endControlFlow()
+            addStatement("return null")
+        }.build()
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.processor.generator
+
+import com.squareup.javapoet.CodeBlock
+import io.t28.auto.truth.processor.Options
+
+data class RenderLimits(
+    val maxElements: Int? = null,
+    val maxStringLength: Int? = null
+) {
+    // Generated code calls the overloads without limits unless a limit is configured, so that default output stays unchanged
+    private val arguments: CodeBlock?
+        get() {
+            if (maxElements == null && maxStringLength == null) {
+                return null
+            }
+            return CodeBlock.of(
+                "\$L, \$L",
+                maxElements?.let { CodeBlock.of("\$L", it) } ?: CodeBlock.of("\$T.DEFAULT_MAX_ELEMENTS", ClassNames.VALUE_RENDERER),
+                maxStringLength?.let { CodeBlock.of("\$L", it) } ?: CodeBlock.of("\$T.DEFAULT_MAX_STRING_LENGTH", ClassNames.VALUE_RENDERER)
+            )
+        }
+
+    fun render(value: String): CodeBlock {
+        return call("render", value)
+    }
+
+    fun isBounded(value: String): CodeBlock {
+        return call("isBounded", value)
+    }
+
+    fun window(array: String, index: String): CodeBlock {
+        val maxStringLength = maxStringLength ?: return CodeBlock.of("\$T.window(\$L, \$L)", ClassNames.ARRAY_ELEMENTS, array, index)
+        return CodeBlock.of("\$T.window(\$L, \$L, \$L)", ClassNames.ARRAY_ELEMENTS, array, index, maxStringLength)
+    }
+
+    fun head(elements: String): CodeBlock {
+        val maxStringLength = maxStringLength ?: return CodeBlock.of("\$T.head(\$L)", ClassNames.MAP_ENTRIES, elements)
+        return CodeBlock.of("\$T.head(\$L, \$L)", ClassNames.MAP_ENTRIES, elements, maxStringLength)
+    }
+
+    fun nearbyKeys(map: String, key: String): CodeBlock {
+        val maxStringLength = maxStringLength ?: return CodeBlock.of("\$T.nearbyKeys(\$L, \$L)", ClassNames.MAP_ENTRIES, map, key)
+        return CodeBlock.of("\$T.nearbyKeys(\$L, \$L, \$L)", ClassNames.MAP_ENTRIES, map, key, maxStringLength)
+    }
+
+    fun newPropertyDiff(): CodeBlock {
+        return CodeBlock.of("new \$T(\$L)", ClassNames.PROPERTY_DIFF, arguments ?: "")
+    }
+
+    private fun call(name: String, value: String): CodeBlock {
+        val arguments = arguments ?: return CodeBlock.of("\$T.\$L(\$L)", ClassNames.VALUE_RENDERER, name, value)
+        return CodeBlock.of("\$T.\$L(\$L, \$L)", ClassNames.VALUE_RENDERER, name, value, arguments)
+    }
+
+    companion object {
+        fun from(options: Options): RenderLimits {
+            return RenderLimits(options.maxRenderedElements, options.maxRenderedLength)
+        }
+    }
+}
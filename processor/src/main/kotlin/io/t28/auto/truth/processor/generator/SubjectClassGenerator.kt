@@ -16,11 +16,10 @@
 
 package io.t28.auto.truth.processor.generator
 
-import com.google.common.truth.FailureMetadata
-import com.google.common.truth.Subject
-import com.google.common.truth.Truth
 import com.squareup.javapoet.AnnotationSpec
+import com.squareup.javapoet.ArrayTypeName
 import com.squareup.javapoet.ClassName
+import com.squareup.javapoet.CodeBlock
 import com.squareup.javapoet.FieldSpec
 import com.squareup.javapoet.MethodSpec
 import com.squareup.javapoet.ParameterSpec
@@ -28,41 +27,189 @@ import com.squareup.javapoet.ParameterizedTypeName
 import com.squareup.javapoet.TypeName
 import com.squareup.javapoet.TypeSpec
 import com.squareup.javapoet.TypeVariableName
+import com.squareup.javapoet.WildcardTypeName
+import io.t28.auto.truth.AutoSubject.Assertion
 import io.t28.auto.truth.processor.AutoTruthProcessor
+import io.t28.auto.truth.processor.Context
+import io.t28.auto.truth.processor.data.BaseSubjectClass
+import io.t28.auto.truth.processor.data.PropertySelection
 import io.t28.auto.truth.processor.data.SubjectClass
 import io.t28.auto.truth.processor.data.ValueObjectClass
+import io.t28.auto.truth.processor.extensions.hasParameter
+import io.t28.auto.truth.processor.generator.method.AbstractArraySubjectGenerator
+import io.t28.auto.truth.processor.generator.method.ArrayAssertionGenerator
+import io.t28.auto.truth.processor.generator.method.BooleanAssertionGenerator
+import io.t28.auto.truth.processor.generator.method.ClassSubjectGenerator
+import io.t28.auto.truth.processor.generator.method.EnumAssertionGenerator
+import io.t28.auto.truth.processor.generator.method.GuavaOptionalSubjectGenerator
+import io.t28.auto.truth.processor.generator.method.IndexedSubjectGenerator
+import io.t28.auto.truth.processor.generator.method.IterableAssertionGenerator
+import io.t28.auto.truth.processor.generator.method.IterableSubjectGenerator
+import io.t28.auto.truth.processor.generator.method.LookupAssertionGenerator
+import io.t28.auto.truth.processor.generator.method.MapSubjectGenerator
 import io.t28.auto.truth.processor.generator.method.MethodGenerator
-import javax.annotation.Generated
-import javax.annotation.Nonnull
-import javax.annotation.Nullable
+import io.t28.auto.truth.processor.generator.method.MultimapSubjectGenerator
+import io.t28.auto.truth.processor.generator.method.ObjectAssertionGenerator
+import io.t28.auto.truth.processor.generator.method.OptionalSubjectGenerator
+import io.t28.auto.truth.processor.generator.method.OptionalValueAssertionGenerator
+import io.t28.auto.truth.processor.generator.method.PathSubjectGenerator
+import io.t28.auto.truth.processor.generator.method.StreamAssertionGenerator
+import io.t28.auto.truth.processor.generator.method.StreamSubjectGenerator
+import io.t28.auto.truth.processor.generator.method.TableSubjectGenerator
+import io.t28.auto.truth.processor.generator.method.ToleranceAssertionGenerator
+import io.t28.auto.truth.processor.generator.method.TypeCategory
+import io.t28.auto.truth.processor.generator.method.TypeClassifier
+import io.t28.auto.truth.processor.log.Logger
+import io.t28.auto.truth.processor.stats.DisabledStats
+import io.t28.auto.truth.processor.stats.Phase
+import io.t28.auto.truth.processor.stats.Stats
+import io.t28.auto.truth.processor.stats.measure
+import io.t28.auto.truth.processor.utils.TypeUtils
+import java.util.EnumSet
+import javax.lang.model.element.ElementKind
+import javax.lang.model.element.Modifier.ABSTRACT
 import javax.lang.model.element.Modifier.FINAL
 import javax.lang.model.element.Modifier.PRIVATE
 import javax.lang.model.element.Modifier.PROTECTED
 import javax.lang.model.element.Modifier.PUBLIC
 import javax.lang.model.element.Modifier.STATIC
+import javax.lang.model.util.ElementFilter
 
 class SubjectClassGenerator(
-    private val methodGenerators: List<MethodGenerator>
+    private val classifier: TypeClassifier,
+    methodGenerators: List<MethodGenerator>,
+    private val logger: Logger,
+    private val utils: TypeUtils,
+    private val stats: Stats = DisabledStats,
+    private val limits: RenderLimits = RenderLimits()
 ) : Generator<SubjectClass, TypeSpec> {
-    constructor(vararg generators: MethodGenerator) : this(generators.toList())
+    constructor(context: Context, vararg generators: MethodGenerator) : this(
+        TypeClassifier(context),
+        generators.toList(),
+        context.logger,
+        context.utils,
+        context.stats,
+        RenderLimits.from(context.options)
+    )
+
+    companion object {
+        private const val ACTUAL_TYPE_VARIABLE = "T"
+        private const val FACTORY_FIELD = "FACTORY"
+
+        // Generated for every subject, and a subject getter of a property named factory would redeclare it
+        private val RESERVED_SIGNATURES = setOf("factory()")
+
+        // Comparing a stream or an iterator would consume it, and they do not implement equals
+        private val SINGLE_USE_CATEGORIES: Set<TypeCategory> = EnumSet.of(TypeCategory.STREAM, TypeCategory.ITERATOR)
+
+        fun create(context: Context): SubjectClassGenerator {
+            return SubjectClassGenerator(
+                TypeClassifier(context),
+                methodGenerators(context),
+                context.logger,
+                context.utils,
+                context.stats,
+                RenderLimits.from(context.options)
+            )
+        }
+
+        fun methodGenerators(context: Context): List<MethodGenerator> {
+            return listOf(
+                AbstractArraySubjectGenerator(context),
+                ArrayAssertionGenerator.EqualityAssertionGenerator(context),
+                ArrayAssertionGenerator.SortedAssertionGenerator(context),
+                BooleanAssertionGenerator.PositiveAssertionGenerator(context),
+                BooleanAssertionGenerator.NegativeAssertionGenerator(context),
+                ClassSubjectGenerator(context),
+                GuavaOptionalSubjectGenerator(context),
+                IndexedSubjectGenerator(context),
+                IterableSubjectGenerator(context),
+                IterableAssertionGenerator.PositiveAssertionGenerator(context),
+                IterableAssertionGenerator.NegativeAssertionGenerator(context),
+                IterableAssertionGenerator.PositiveCollectionAssertionGenerator(context),
+                IterableAssertionGenerator.NegativeCollectionAssertionGenerator(context),
+                IterableAssertionGenerator.SizeAssertionGenerator(context),
+                IterableAssertionGenerator.EmptyAssertionGenerator(context),
+                MapSubjectGenerator(context),
+                MultimapSubjectGenerator(context),
+                TableSubjectGenerator(context),
+                LookupAssertionGenerator.MapEntryAssertionGenerator(context),
+                LookupAssertionGenerator.MapKeyAssertionGenerator(context),
+                LookupAssertionGenerator.MultimapEntryAssertionGenerator(context),
+                LookupAssertionGenerator.MultimapKeyAssertionGenerator(context),
+                LookupAssertionGenerator.TableCellAssertionGenerator(context),
+                LookupAssertionGenerator.MultisetCountAssertionGenerator(context),
+                EnumAssertionGenerator.PositiveAssertionGenerator(context),
+                EnumAssertionGenerator.NegativeAssertionGenerator(context),
+                ObjectAssertionGenerator(context),
+                ToleranceAssertionGenerator(context),
+                OptionalSubjectGenerator(context),
+                OptionalValueAssertionGenerator(context),
+                StreamSubjectGenerator(context),
+                StreamAssertionGenerator.AnyMatchAssertionGenerator(context),
+                StreamAssertionGenerator.AllMatchAssertionGenerator(context),
+                StreamAssertionGenerator.StartsWithAssertionGenerator(context),
+                StreamAssertionGenerator.CountAtMostAssertionGenerator(context),
+                PathSubjectGenerator(context)
+            )
+        }
+    }
+
+    private val generatorsByCategory: Map<TypeCategory, List<MethodGenerator>> =
+        TypeCategory.values().associate { category ->
+            category to methodGenerators.filter { generator -> category in generator.categories }
+        }
+
+    // Looked up once rather than through the superclasses of each value object, since an interface has no superclass
+    private val objectMethodNames: Set<String> by lazy {
+        val objectElement = utils.getDeclaredType(ClassName.OBJECT)?.asElement()
+        ElementFilter.methodsIn(objectElement?.enclosedElements.orEmpty())
+            .filter { method -> !method.hasParameter }
+            .map { method -> "${method.simpleName}" }
+            .toSet()
+    }
 
     override fun generate(input: SubjectClass): TypeSpec {
         val className = ClassName.get(input.packageName, input.simpleName)
+        val valueObjectName = TypeName.get(input.valueObject.type)
+        val baseSubject = input.baseSubject
         return TypeSpec.classBuilder(className).apply {
+            addOriginatingElement(input.element)
             addAnnotations(generateAnnotations())
             addTypeVariables(input.valueObject.typeVariables())
-            superclass(Subject::class.java)
+            superclass(baseSubject?.let { ParameterizedTypeName.get(it.className(), valueObjectName) } ?: ClassNames.SUBJECT)
             addModifiers(PUBLIC)
-            addFields(generateFields(input))
-            addMethod(generateConstructor(input))
+            addField(generateFactoryField(input))
+            addField(generateActualField(valueObjectName))
+            addMethod(generateConstructor(valueObjectName))
+            addMethod(generateFactoryMethod(input))
             addMethod(generateAssertThat(input))
-            addMethods(generateAssertions(input))
+            addMethod(generateActualCustomStringRepresentation())
+            if (input.selection.isSelected(Assertion.VALUE) && input.valueObject.element.kind != ElementKind.ENUM) {
+                addMethod(generateIsEqualToComparingProperties(input.valueObject, valueObjectName))
+            }
+            addMethods(generateAssertions(input.qualifiedName, input.valueObject, baseSubject, input.selection))
+        }.build()
+    }
+
+    fun generateBase(input: BaseSubjectClass): TypeSpec {
+        val actualType = TypeVariableName.get(ACTUAL_TYPE_VARIABLE, TypeName.get(input.valueObject.type))
+        val superSubject = input.superSubject
+        return TypeSpec.classBuilder(input.className()).apply {
+            addOriginatingElement(input.valueObject.element)
+            addAnnotations(generateAnnotations())
+            addTypeVariable(actualType)
+            superclass(superSubject?.let { ParameterizedTypeName.get(it.className(), actualType) } ?: ClassNames.SUBJECT)
+            addModifiers(PUBLIC, ABSTRACT)
+            addField(generateActualField(actualType))
+            addMethod(generateConstructor(actualType))
+            addMethods(generateAssertions(input.qualifiedName, input.valueObject, superSubject, PropertySelection.ALL))
         }.build()
     }
 
     private fun generateAnnotations(): List<AnnotationSpec> {
         return listOf(
-            AnnotationSpec.builder(Generated::class.java)
+            AnnotationSpec.builder(ClassNames.GENERATED)
                 .addMember("value", "\$S", AutoTruthProcessor::class.java.canonicalName)
                 .build(),
             AnnotationSpec.builder(SuppressWarnings::class.java)
@@ -71,75 +218,223 @@ class SubjectClassGenerator(
         )
     }
 
-    private fun generateFields(input: SubjectClass): List<FieldSpec> {
-        return listOf(
-            FieldSpec.builder(TypeName.get(input.valueObject.type), "actual", PRIVATE, FINAL).build()
-        )
+    private fun generateActualField(actualType: TypeName): FieldSpec {
+        return FieldSpec.builder(actualType, "actual", PRIVATE, FINAL).build()
     }
 
-    private fun generateConstructor(input: SubjectClass): MethodSpec {
+    private fun generateConstructor(actualType: TypeName): MethodSpec {
         return MethodSpec.constructorBuilder().apply {
             addModifiers(PROTECTED)
-            addParameter(ParameterSpec.builder(FailureMetadata::class.javaObjectType, "failureMetadata").apply {
-                addAnnotation(Nonnull::class.java)
+            addParameter(ParameterSpec.builder(ClassNames.FAILURE_METADATA, "failureMetadata").apply {
+                addAnnotation(ClassNames.NONNULL)
             }.build())
-            addParameter(ParameterSpec.builder(TypeName.get(input.valueObject.type), "actual").apply {
-                addAnnotation(Nullable::class.java)
+            addParameter(ParameterSpec.builder(actualType, "actual").apply {
+                addAnnotation(ClassNames.NULLABLE)
             }.build())
             addStatement("super(\$L, \$L)", "failureMetadata", "actual")
             addStatement("this.\$L = \$L", "actual", "actual")
         }.build()
     }
 
-    private fun generateAssertThat(input: SubjectClass): MethodSpec {
+    // A single factory is shared by every type argument, since a factory does not depend on them
+    private fun generateFactoryField(input: SubjectClass): FieldSpec {
+        val subjectClassName = subjectClassName(input, wildcard = true)
+        val valueObjectName = valueObjectName(input.valueObject, wildcard = true)
+        val factoryName = ParameterizedTypeName.get(ClassNames.SUBJECT_FACTORY, subjectClassName, valueObjectName)
+        return FieldSpec.builder(factoryName, FACTORY_FIELD, PRIVATE, STATIC, FINAL).apply {
+            initializer("\$L", generateFactory(subjectClass = subjectClassName, valueObject = valueObjectName))
+        }.build()
+    }
+
+    private fun generateFactoryMethod(input: SubjectClass): MethodSpec {
         val valueObject = input.valueObject
         val valueObjectName = TypeName.get(valueObject.type)
-        val subjectClassName = valueObject.typeVariables().let { variables ->
-            if (variables.isEmpty()) {
-                ClassName.get(input.packageName, input.simpleName)
+        val subjectClassName = subjectClassName(input)
+        val factoryName = ParameterizedTypeName.get(ClassNames.SUBJECT_FACTORY, subjectClassName, valueObjectName)
+        return MethodSpec.methodBuilder("factory").apply {
+            returns(factoryName)
+            addTypeVariables(valueObject.typeVariables())
+            addModifiers(PUBLIC, STATIC)
+            addAnnotation(ClassNames.NONNULL)
+            if (valueObject.typeVariables().isEmpty()) {
+                addStatement("return \$N", FACTORY_FIELD)
             } else {
-                ParameterizedTypeName.get(ClassName.get(input.packageName, input.simpleName), *variables.toTypedArray())
+                addStatement("return (\$T) (\$T<?, ?>) \$N", factoryName, ClassNames.SUBJECT_FACTORY, FACTORY_FIELD)
             }
+        }.build()
+    }
+
+    private fun generateAssertThat(input: SubjectClass): MethodSpec {
+        val valueObject = input.valueObject
+        val valueObjectName = TypeName.get(valueObject.type)
+        val factory = if (valueObject.typeVariables().isEmpty()) {
+            CodeBlock.of("factory()")
+        } else {
+            // Type arguments are given explicitly, since they cannot be inferred from the argument of assertAbout
+            CodeBlock.of(
+                "\$T.<\$L>factory()",
+                ClassName.get(input.packageName, input.simpleName),
+                CodeBlock.join(valueObject.typeVariables().map { variable -> CodeBlock.of("\$T", variable) }, ", ")
+            )
         }
 
         return MethodSpec.methodBuilder("assertThat").apply {
-            returns(subjectClassName)
+            returns(subjectClassName(input))
             addTypeVariables(valueObject.typeVariables())
             addModifiers(PUBLIC, STATIC)
-            addAnnotation(Nonnull::class.java)
+            addAnnotation(ClassNames.NONNULL)
             addParameter(ParameterSpec.builder(valueObjectName, "actual").apply {
-                addAnnotation(Nullable::class.java)
+                addAnnotation(ClassNames.NULLABLE)
             }.build())
-            addStatement("return \$T.assertAbout(\$L).that(\$L)",
-                Truth::class.java, generateFactory(subjectClass = subjectClassName, valueObject = valueObjectName), "actual")
+            addStatement("return \$T.assertAbout(\$L).that(\$L)", ClassNames.TRUTH, factory, "actual")
         }.build()
     }
 
+    private fun subjectClassName(input: SubjectClass, wildcard: Boolean = false): TypeName {
+        val className = ClassName.get(input.packageName, input.simpleName)
+        val variables = input.valueObject.typeArguments(wildcard)
+        return if (variables.isEmpty()) className else ParameterizedTypeName.get(className, *variables.toTypedArray())
+    }
+
+    private fun valueObjectName(valueObject: ValueObjectClass, wildcard: Boolean): TypeName {
+        if (!wildcard || valueObject.typeVariables().isEmpty()) {
+            return TypeName.get(valueObject.type)
+        }
+        return ParameterizedTypeName.get(ClassName.get(valueObject.element), *valueObject.typeArguments(wildcard).toTypedArray())
+    }
+
     private fun generateFactory(subjectClass: TypeName, valueObject: TypeName): TypeSpec {
         return TypeSpec.anonymousClassBuilder("").apply {
-            addSuperinterface(ParameterizedTypeName.get(ClassName.get(Subject.Factory::class.java), subjectClass, valueObject))
+            addSuperinterface(ParameterizedTypeName.get(ClassNames.SUBJECT_FACTORY, subjectClass, valueObject))
             addMethod(MethodSpec.methodBuilder("createSubject").apply {
                 addAnnotation(Override::class.java)
                 addModifiers(PUBLIC, FINAL)
                 returns(subjectClass)
-                addParameter(FailureMetadata::class.java, "metadata")
+                addParameter(ClassNames.FAILURE_METADATA, "metadata")
                 addParameter(valueObject, "_actual")
-                addStatement("return new \$T(metadata, _actual)", subjectClass)
+                if (subjectClass is ParameterizedTypeName) {
+                    addStatement("return new \$T<>(metadata, _actual)", subjectClass.rawType)
+                } else {
+                    addStatement("return new \$T(metadata, _actual)", subjectClass)
+                }
             }.build())
         }.build()
     }
 
-    private fun generateAssertions(input: SubjectClass): List<MethodSpec> {
-        val valueObject = input.valueObject
-        return (valueObject.findProperties() + valueObject.findEnumConstants()).flatMap { property ->
-            methodGenerators.filter { generator -> generator.isSupported(property) }
-                .map { generator -> generator.generate(property) }
+    // Truth renders the value object along with every failure of a property, which would be unbounded with toString()
+    private fun generateActualCustomStringRepresentation(): MethodSpec {
+        return MethodSpec.methodBuilder("actualCustomStringRepresentation").apply {
+            addAnnotation(Override::class.java)
+            addModifiers(PROTECTED)
+            returns(String::class.java)
+            addStatement("return \$L", limits.render("actual"))
+        }.build()
+    }
+
+    // Properties are compared in a single pass, and toString() of the value objects is never called
+    private fun generateIsEqualToComparingProperties(valueObject: ValueObjectClass, valueObjectName: TypeName): MethodSpec {
+        return MethodSpec.methodBuilder("isEqualToComparingProperties").apply {
+            addModifiers(PUBLIC)
+            addParameter(ParameterSpec.builder(valueObjectName, "expected").apply {
+                addAnnotation(ClassNames.NULLABLE)
+            }.build())
+            beginControlFlow("if (actual == expected)")
+            addStatement("return")
+            endControlFlow()
+            beginControlFlow("if (actual == null || expected == null)")
+            addStatement(
+                "failWithoutActual(\$T.simpleFact(expected == null ? \$S : \$S))",
+                ClassNames.FACT, "expected to be null, but was not", "expected not to be null"
+            )
+            addStatement("return")
+            endControlFlow()
+            addStatement("final \$T diff = \$L", ClassNames.PROPERTY_DIFF, limits.newPropertyDiff())
+            valueObject.findValueProperties(objectMethodNames).filter { property ->
+                classifier.classify(property).none { category -> category in SINGLE_USE_CATEGORIES }
+            }.forEach { property ->
+                addStatement("diff.compare(\$S, actual.\$L, expected.\$L)", property.symbol, property.symbol, property.symbol)
+            }
+            beginControlFlow("if (!diff.isEmpty())")
+            addStatement("failWithoutActual(\$T.simpleFact(diff.describe()))", ClassNames.FACT)
+            endControlFlow()
+        }.build()
+    }
+
+    // Properties asserted by the base subject are not generated again.
+    // A derived name such as has<X>Size may collide with has<Y> of another property whose name is X followed by the suffix,
+    // so the method generated for the longer property name wins, since it is the property that the name spells out.
+    // Every method that is not generated is reported, so that a missing assertion is never a surprise.
+    private fun generateAssertions(
+        qualifiedName: String,
+        valueObject: ValueObjectClass,
+        baseSubject: BaseSubjectClass?,
+        selection: PropertySelection
+    ): List<MethodSpec> {
+        val baseSymbols = baseSubject?.symbols.orEmpty()
+        val properties = valueObject.findProperties(selection).filter { property -> property.symbol !in baseSymbols }
+        val methods = (properties + valueObject.findEnumConstants(selection)).flatMap { property ->
+            val generators = stats.measure(Phase.MATCHING, qualifiedName) {
+                val categories = classifier.classify(property)
+                val candidates = if (categories.size == 1) {
+                    generatorsByCategory.getValue(categories.first())
+                } else {
+                    categories.flatMap { category -> generatorsByCategory.getValue(category) }.distinct()
+                }
+                candidates.filter { generator ->
+                    selection.isSelected(generator.assertion) && generator.isSupported(property, categories)
+                }
+            }
+            generators.map { generator ->
+                if (stats.isEnabled) {
+                    stats.countGenerator(generator.javaClass.name.substringAfterLast('.'))
+                }
+                property to generator.generate(property)
+            }
+        }
+        return methods.groupBy { (_, method) -> method.signature() }.mapNotNull { (signature, candidates) ->
+            if (signature in RESERVED_SIGNATURES) {
+                candidates.forEach { (property, _) ->
+                    logger.warn(property.element, "%s is not generated for %s, since it would hide the factory of the subject",
+                        signature, property.name)
+                }
+                return@mapNotNull null
+            }
+            val sorted = candidates.sortedByDescending { (property, _) -> property.name.length }
+            val (selected, method) = sorted.first()
+            sorted.drop(1).forEach { (property, _) ->
+                logger.warn(property.element, "%s is not generated for %s, since it collides with the method for %s",
+                    signature, property.name, selected.name)
+            }
+            method
         }
     }
 
+    private fun MethodSpec.signature(): String {
+        return "$name(${parameters.joinToString(",") { parameter -> "${parameter.type.erasure()}" }})"
+    }
+
+    private fun TypeName.erasure(): TypeName {
+        return when (this) {
+            is ParameterizedTypeName -> rawType
+            is ArrayTypeName -> ArrayTypeName.of(componentType.erasure())
+            is TypeVariableName -> bounds.firstOrNull()?.erasure() ?: ClassName.OBJECT
+            is WildcardTypeName -> upperBounds.first().erasure()
+            else -> this
+        }.withoutAnnotations()
+    }
+
+    private fun BaseSubjectClass.className(): ClassName {
+        return ClassName.get(packageName, simpleName)
+    }
+
     private fun ValueObjectClass.typeVariables(): List<TypeVariableName> {
         return element.typeParameters.map { typeParameter ->
             TypeVariableName.get(typeParameter)
         }
     }
+
+    private fun ValueObjectClass.typeArguments(wildcard: Boolean): List<TypeName> {
+        val variables = typeVariables()
+        return if (wildcard) variables.map { WildcardTypeName.subtypeOf(Object::class.java) } else variables
+    }
 }
@@ -16,19 +16,11 @@
 
 package io.t28.auto.truth.processor.generator.method
 
-import com.google.common.truth.ObjectArraySubject
-import com.google.common.truth.PrimitiveBooleanArraySubject
-import com.google.common.truth.PrimitiveByteArraySubject
-import com.google.common.truth.PrimitiveCharArraySubject
-import com.google.common.truth.PrimitiveDoubleArraySubject
-import com.google.common.truth.PrimitiveFloatArraySubject
-import com.google.common.truth.PrimitiveIntArraySubject
-import com.google.common.truth.PrimitiveLongArraySubject
-import com.google.common.truth.PrimitiveShortArraySubject
-import com.squareup.javapoet.ClassName
 import com.squareup.javapoet.ParameterizedTypeName
 import com.squareup.javapoet.TypeName
 import io.t28.auto.truth.processor.Context
+import io.t28.auto.truth.processor.generator.ClassNames
+import io.t28.auto.truth.processor.generator.method.TypeCategory.ARRAY
 import javax.lang.model.type.ArrayType
 import javax.lang.model.type.PrimitiveType
 import javax.lang.model.type.TypeKind.BOOLEAN
@@ -43,6 +35,8 @@ import javax.lang.model.type.TypeMirror
 import javax.lang.model.util.SimpleTypeVisitor8
 
 class AbstractArraySubjectGenerator(context: Context) : TruthSubjectGenerator(context) {
+    override val categories: Set<TypeCategory> = setOf(ARRAY)
+
     override fun matches(type: ArrayType): Boolean {
         return true
     }
@@ -57,20 +51,20 @@ class AbstractArraySubjectGenerator(context: Context) : TruthSubjectGenerator(co
     internal object SubjectTypeResolver : SimpleTypeVisitor8<TypeName, Unit>() {
         override fun visitPrimitive(type: PrimitiveType, parameter: Unit): TypeName {
             return when (type.kind) {
-                BOOLEAN -> ClassName.get(PrimitiveBooleanArraySubject::class.java)
-                BYTE -> ClassName.get(PrimitiveByteArraySubject::class.java)
-                SHORT -> ClassName.get(PrimitiveShortArraySubject::class.java)
-                INT -> ClassName.get(PrimitiveIntArraySubject::class.java)
-                LONG -> ClassName.get(PrimitiveLongArraySubject::class.java)
-                CHAR -> ClassName.get(PrimitiveCharArraySubject::class.java)
-                FLOAT -> ClassName.get(PrimitiveFloatArraySubject::class.java)
-                DOUBLE -> ClassName.get(PrimitiveDoubleArraySubject::class.java)
+                BOOLEAN -> ClassNames.BOOLEAN_ARRAY_SUBJECT
+                BYTE -> ClassNames.BYTE_ARRAY_SUBJECT
+                SHORT -> ClassNames.SHORT_ARRAY_SUBJECT
+                INT -> ClassNames.INT_ARRAY_SUBJECT
+                LONG -> ClassNames.LONG_ARRAY_SUBJECT
+                CHAR -> ClassNames.CHAR_ARRAY_SUBJECT
+                FLOAT -> ClassNames.FLOAT_ARRAY_SUBJECT
+                DOUBLE -> ClassNames.DOUBLE_ARRAY_SUBJECT
                 else -> throw IllegalArgumentException("Unknown primitive type: ${type.kind}")
             }
         }
 
         override fun defaultAction(type: TypeMirror, parameter: Unit): TypeName {
-            return ParameterizedTypeName.get(ClassName.get(ObjectArraySubject::class.java), TypeName.get(type))
+            return ParameterizedTypeName.get(ClassNames.OBJECT_ARRAY_SUBJECT, TypeName.get(type))
         }
     }
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.processor.generator.method
+
+import com.squareup.javapoet.MethodSpec
+import com.squareup.javapoet.ParameterSpec
+import com.squareup.javapoet.TypeName
+import io.t28.auto.truth.AutoSubject.Assertion
+import io.t28.auto.truth.processor.Context
+import io.t28.auto.truth.processor.data.Property
+import io.t28.auto.truth.processor.generator.ClassNames
+import io.t28.auto.truth.processor.generator.RenderLimits
+import io.t28.auto.truth.processor.generator.method.TypeCategory.ARRAY
+import io.t28.auto.truth.processor.log.debug
+import javax.lang.model.element.Modifier.PUBLIC
+import javax.lang.model.type.ArrayType
+import javax.lang.model.type.TypeKind
+
+sealed class ArrayAssertionGenerator(
+    protected val context: Context,
+    protected val limits: RenderLimits = RenderLimits.from(context.options)
+) : MethodGenerator {
+    override val categories: Set<TypeCategory> = setOf(ARRAY)
+
+    override fun isSupported(property: Property): Boolean {
+        return object : SupportedTypeMatcher<Void?>() {
+            override fun visitArray(type: ArrayType, p: Void?): Boolean = matches(type.componentType.kind)
+        }.visit(property.type)
+    }
+
+    final override fun generate(input: Property): MethodSpec {
+        require(isSupported(input))
+        context.logger.debug(input.element) { "Generating an assertion method for ${input.type}" }
+
+        return MethodSpec.methodBuilder(generateName(input)).apply {
+            addModifiers(PUBLIC)
+            generateBody(input, input.type as ArrayType)
+        }.build()
+    }
+
+    protected abstract fun matches(componentKind: TypeKind): Boolean
+
+    protected abstract fun generateName(input: Property): String
+
+    protected abstract fun MethodSpec.Builder.generateBody(input: Property, type: ArrayType)
+
+    // Arrays.equals compares primitive arrays without boxing, and only a window around the first mismatch is reported.
+    // The windows may render the same when different elements have the same string representation or differ beyond the rendered length,
+    // so the mismatch is reported anyway.
+    class EqualityAssertionGenerator(context: Context) : ArrayAssertionGenerator(context) {
+        override val assertion: Assertion = Assertion.VALUE
+
+        override fun matches(componentKind: TypeKind): Boolean = true
+
+        override fun generateName(input: Property): String {
+            return "has${input.name.capitalize()}"
+        }
+
+        override fun MethodSpec.Builder.generateBody(input: Property, type: ArrayType) {
+            val equalsMethod = if (type.componentType.kind.isPrimitive) "equals" else "deepEquals"
+            addParameter(ParameterSpec.builder(TypeName.get(type), "expected").build())
+            varargs(true)
+            addStatement("final \$T actual = \$T.checkNotNull(this.actual).\$L", type, ClassNames.PRECONDITIONS, input.symbol)
+            beginControlFlow("if (!\$T.\$L(actual, expected))", ClassNames.ARRAYS, equalsMethod)
+            addStatement("final int index = \$T.mismatch(actual, expected)", ClassNames.ARRAY_ELEMENTS)
+            addStatement("final \$T expectedWindow = \$L", String::class.java, limits.window("expected", "index"))
+            addStatement("final \$T actualWindow = \$L", String::class.java, limits.window("actual", "index"))
+            beginControlFlow("if (expectedWindow.equals(actualWindow))")
+            addStatement(
+                "check(\$S).withMessage(\$S, index, actualWindow).fail()",
+                input.symbol, "first mismatch at index %s, although the elements render the same: %s"
+            )
+            nextControlFlow("else")
+            addStatement(
+                "check(\$S).withMessage(\$S, index).that(actualWindow).isEqualTo(expectedWindow)", input.symbol, "first mismatch at index %s"
+            )
+            endControlFlow()
+            endControlFlow()
+        }
+    }
+
+    class SortedAssertionGenerator(context: Context) : ArrayAssertionGenerator(context) {
+        override val assertion: Assertion = Assertion.ELEMENTS
+
+        override fun matches(componentKind: TypeKind): Boolean {
+            return componentKind.isPrimitive && componentKind != TypeKind.BOOLEAN
+        }
+
+        override fun generateName(input: Property): String {
+            return "has${input.name.capitalize()}Sorted"
+        }
+
+        override fun MethodSpec.Builder.generateBody(input: Property, type: ArrayType) {
+            addStatement("final \$T actual = \$T.checkNotNull(this.actual).\$L", type, ClassNames.PRECONDITIONS, input.symbol)
+            beginControlFlow("if (actual == null)")
+            addStatement("check(\$S).that(actual).isNotNull()", input.symbol)
+            addStatement("return")
+            endControlFlow()
+            addStatement("final int index = \$T.unsortedIndex(actual)", ClassNames.ARRAY_ELEMENTS)
+            beginControlFlow("if (index >= 0)")
+            addStatement(
+                "check(\$S).withMessage(\$S, index, \$L).fail()",
+                input.symbol, "expected to be sorted, but element at index %s was out of order: %s", limits.window("actual", "index")
+            )
+            endControlFlow()
+        }
+    }
+}
@@ -16,14 +16,17 @@
 
 package io.t28.auto.truth.processor.generator.method
 
-import com.google.common.base.Preconditions
-import com.google.common.truth.Fact
 import com.squareup.javapoet.CodeBlock
 import com.squareup.javapoet.MethodSpec
+import io.t28.auto.truth.AutoSubject.Assertion
 import io.t28.auto.truth.processor.Context
 import io.t28.auto.truth.processor.data.Property
 import io.t28.auto.truth.processor.extensions.isBoxedPrimitive
+import io.t28.auto.truth.processor.generator.ClassNames
+import io.t28.auto.truth.processor.generator.method.TypeCategory.BOOLEAN
+import io.t28.auto.truth.processor.generator.method.TypeCategory.BOXED_BOOLEAN
 import io.t28.auto.truth.processor.log.Logger
+import io.t28.auto.truth.processor.log.debug
 import io.t28.auto.truth.processor.utils.TypeUtils
 import javax.lang.model.element.Modifier
 import javax.lang.model.type.DeclaredType
@@ -35,6 +38,10 @@ sealed class BooleanAssertionGenerator(
     private val utils: TypeUtils = context.utils,
     private val logger: Logger = context.logger
 ) : MethodGenerator {
+    override val categories: Set<TypeCategory> = setOf(BOOLEAN, BOXED_BOOLEAN)
+
+    override val assertion: Assertion = Assertion.BOOLEAN
+
     final override fun isSupported(property: Property): Boolean {
         return object : SupportedTypeMatcher<Void?>() {
             override fun visitPrimitive(type: PrimitiveType, p: Void?): Boolean {
@@ -42,7 +49,7 @@ sealed class BooleanAssertionGenerator(
             }
 
             override fun visitDeclared(type: DeclaredType, p: Void?): Boolean {
-                return utils.getDeclaredType(java.lang.Boolean::class)?.let { boxedBooleanType ->
+                return utils.getDeclaredType(ClassNames.BOOLEAN)?.let { boxedBooleanType ->
                     utils.isAssignableType(type, boxedBooleanType)
                 } ?: false
             }
@@ -51,50 +58,36 @@ sealed class BooleanAssertionGenerator(
 
     final override fun generate(input: Property): MethodSpec {
         require(isSupported(input))
-        logger.debug(input.element, "Generating an assertion method for boolean and Boolean")
+        logger.debug(input.element) { "Generating an assertion method for boolean and Boolean" }
 
         return MethodSpec.methodBuilder(generateName(input)).apply {
             addModifiers(Modifier.PUBLIC)
-            addStatement("\$T.checkNotNull(\$L)", Preconditions::class.java, "actual")
-            if (input.type.isBoxedPrimitive()) {
-                addCode(generateNullCheckCode(input))
-            }
-            addCode(generateCode(input))
+            // The property is read once, and a null Boolean fails as neither TRUE nor FALSE
+            addStatement("final \$T actual = \$T.checkNotNull(this.actual).\$L", input.type, ClassNames.PRECONDITIONS, input.symbol)
+            beginControlFlow("if (\$L)", generateFailureCondition(input.type.isBoxedPrimitive()))
+            // Only the property value is shown, so that toString() of the whole value object is never called
+            addStatement("failWithoutActual(\$L, \$T.fact(\$S, actual))", generateExpectedFact(input), ClassNames.FACT, "but was")
+            endControlFlow()
         }.build()
     }
 
     protected abstract fun generateName(input: Property): String
 
-    protected abstract fun generateCode(input: Property): CodeBlock
+    protected abstract fun generateFailureCondition(isBoxed: Boolean): CodeBlock
 
     protected abstract fun generateExpectedFact(input: Property): CodeBlock
 
-    private fun generateNullCheckCode(input: Property): CodeBlock {
-        return CodeBlock.builder().apply {
-            beginControlFlow("if (\$L.\$L == null)", "actual", input.symbol).apply {
-                addStatement("failWithActual(\$L)", generateExpectedFact(input))
-                addStatement("return")
-            }
-            endControlFlow()
-        }.build()
-    }
-
     class PositiveAssertionGenerator(context: Context) : BooleanAssertionGenerator(context) {
         override fun generateName(input: Property): String {
             return "is${input.name.capitalize()}"
         }
 
-        override fun generateCode(input: Property): CodeBlock {
-            return CodeBlock.builder().apply {
-                beginControlFlow("if (!\$L.\$L)", "actual", input.symbol).apply {
-                    addStatement("failWithActual(\$L)", generateExpectedFact(input))
-                }
-                endControlFlow()
-            }.build()
+        override fun generateFailureCondition(isBoxed: Boolean): CodeBlock {
+            return if (isBoxed) CodeBlock.of("!\$T.TRUE.equals(actual)", ClassNames.BOOLEAN) else CodeBlock.of("!actual")
         }
 
         override fun generateExpectedFact(input: Property): CodeBlock {
-            return CodeBlock.of("\$T.simpleFact(\$S)", Fact::class.java, "expected to be ${input.name}")
+            return CodeBlock.of("\$T.simpleFact(\$S)", ClassNames.FACT, "expected to be ${input.name}")
         }
     }
 
@@ -103,17 +96,12 @@ sealed class BooleanAssertionGenerator(
             return "isNot${input.name.capitalize()}"
         }
 
-        override fun generateCode(input: Property): CodeBlock {
-            return CodeBlock.builder().apply {
-                beginControlFlow("if (\$L.\$L)", "actual", input.symbol).apply {
-                    addStatement("failWithActual(\$L)", generateExpectedFact(input))
-                }
-                endControlFlow()
-            }.build()
+        override fun generateFailureCondition(isBoxed: Boolean): CodeBlock {
+            return if (isBoxed) CodeBlock.of("!\$T.FALSE.equals(actual)", ClassNames.BOOLEAN) else CodeBlock.of("actual")
         }
 
         override fun generateExpectedFact(input: Property): CodeBlock {
-            return CodeBlock.of("\$T.simpleFact(\$S)", Fact::class.java, "expected not to be ${input.name}")
+            return CodeBlock.of("\$T.simpleFact(\$S)", ClassNames.FACT, "expected not to be ${input.name}")
         }
     }
 }
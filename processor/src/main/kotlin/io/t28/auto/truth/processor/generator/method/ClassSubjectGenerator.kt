@@ -16,23 +16,25 @@
 
 package io.t28.auto.truth.processor.generator.method
 
-import com.google.common.truth.ClassSubject
-import com.squareup.javapoet.ClassName
 import com.squareup.javapoet.TypeName
 import io.t28.auto.truth.processor.Context
+import io.t28.auto.truth.processor.generator.ClassNames
+import io.t28.auto.truth.processor.generator.method.TypeCategory.CLASS
 import io.t28.auto.truth.processor.utils.TypeUtils
 import io.t28.auto.truth.processor.utils.isAssignable
 import javax.lang.model.type.DeclaredType
 import javax.lang.model.type.TypeMirror
 
 class ClassSubjectGenerator(context: Context) : TruthSubjectGenerator(context) {
+    override val categories: Set<TypeCategory> = setOf(CLASS)
+
     private val typeUtils: TypeUtils = context.utils
 
     override fun matches(type: DeclaredType): Boolean {
-        return typeUtils.isAssignable<Class<*>>(type)
+        return typeUtils.isAssignable(type, ClassNames.CLASS)
     }
 
     override fun subjectClass(type: TypeMirror): TypeName {
-        return ClassName.get(ClassSubject::class.java)
+        return ClassNames.CLASS_SUBJECT
     }
 }
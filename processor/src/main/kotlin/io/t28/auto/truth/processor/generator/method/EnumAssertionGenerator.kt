@@ -18,18 +18,30 @@ package io.t28.auto.truth.processor.generator.method
 
 import com.squareup.javapoet.CodeBlock
 import com.squareup.javapoet.MethodSpec
+import io.t28.auto.truth.AutoSubject.Assertion
 import io.t28.auto.truth.processor.Context
 import io.t28.auto.truth.processor.data.Property
+import io.t28.auto.truth.processor.generator.ClassNames
+import io.t28.auto.truth.processor.generator.RenderLimits
+import io.t28.auto.truth.processor.generator.method.TypeCategory.ENUM_CONSTANT
+import io.t28.auto.truth.processor.log.debug
 import javax.lang.model.element.Modifier.PUBLIC
 
-sealed class EnumAssertionGenerator(private val context: Context) : MethodGenerator {
+sealed class EnumAssertionGenerator(
+    private val context: Context,
+    private val limits: RenderLimits = RenderLimits.from(context.options)
+) : MethodGenerator {
+    override val categories: Set<TypeCategory> = setOf(ENUM_CONSTANT)
+
+    override val assertion: Assertion = Assertion.ENUM_CONSTANT
+
     final override fun isSupported(property: Property): Boolean {
         return property is Property.EnumConstant
     }
 
     final override fun generate(input: Property): MethodSpec {
         require(isSupported(input))
-        context.logger.debug(input.element, "Generating an assertion method for %s", input.type)
+        context.logger.debug(input.element) { "Generating an assertion method for ${input.type}" }
         return MethodSpec.methodBuilder(generateName(input)).apply {
             addModifiers(PUBLIC)
             addCode(generateCode(input))
@@ -40,6 +52,15 @@ sealed class EnumAssertionGenerator(private val context: Context) : MethodGenera
 
     abstract fun generateCode(input: Property): CodeBlock
 
+    // An enum may override toString(), so the actual value is rendered within the limits
+    protected fun generateFailure(key: String): CodeBlock {
+        val actual = limits.render("actual")
+        return CodeBlock.of(
+            "failWithoutActual(\$T.fact(\$S, \$L), \$T.fact(\$S, \$L))",
+            ClassNames.FACT, key, actual, ClassNames.FACT, "but was", actual
+        )
+    }
+
     class PositiveAssertionGenerator(context: Context) : EnumAssertionGenerator(context) {
         override fun generateName(input: Property): String {
             return "is${input.name.capitalize()}"
@@ -48,7 +69,7 @@ sealed class EnumAssertionGenerator(private val context: Context) : MethodGenera
         override fun generateCode(input: Property): CodeBlock {
             return CodeBlock.builder().apply {
                 beginControlFlow("if (actual != \$T.\$L)", input.type, input.symbol).apply {
-                    addStatement("failWithActual(\$S, actual)", "expected to be ${input.symbol}")
+                    addStatement("\$L", generateFailure("expected to be ${input.symbol}"))
                     endControlFlow()
                 }
             }.build()
@@ -63,7 +84,7 @@ sealed class EnumAssertionGenerator(private val context: Context) : MethodGenera
         override fun generateCode(input: Property): CodeBlock {
             return CodeBlock.builder().apply {
                 beginControlFlow("if (actual == \$T.\$L)", input.type, input.symbol).apply {
-                    addStatement("failWithActual(\$S, actual)", "expected not to be ${input.symbol}")
+                    addStatement("\$L", generateFailure("expected not to be ${input.symbol}"))
                     endControlFlow()
                 }
             }.build()
@@ -16,21 +16,22 @@
 
 package io.t28.auto.truth.processor.generator.method
 
-import com.google.common.base.Optional
-import com.google.common.truth.GuavaOptionalSubject
-import com.squareup.javapoet.ClassName
 import com.squareup.javapoet.TypeName
 import io.t28.auto.truth.processor.Context
+import io.t28.auto.truth.processor.generator.ClassNames
+import io.t28.auto.truth.processor.generator.method.TypeCategory.GUAVA_OPTIONAL
 import io.t28.auto.truth.processor.utils.isAssignable
 import javax.lang.model.type.DeclaredType
 import javax.lang.model.type.TypeMirror
 
 class GuavaOptionalSubjectGenerator(context: Context) : TruthSubjectGenerator(context) {
+    override val categories: Set<TypeCategory> = setOf(GUAVA_OPTIONAL)
+
     override fun matches(type: DeclaredType): Boolean {
-        return context.utils.isAssignable<Optional<*>>(type)
+        return context.utils.isAssignable(type, ClassNames.GUAVA_OPTIONAL)
     }
 
     override fun subjectClass(type: TypeMirror): TypeName {
-        return ClassName.get(GuavaOptionalSubject::class.java)
+        return ClassNames.GUAVA_OPTIONAL_SUBJECT
     }
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.processor.generator.method
+
+import com.squareup.javapoet.MethodSpec
+import io.t28.auto.truth.AutoSubject.Assertion
+import io.t28.auto.truth.processor.Context
+import io.t28.auto.truth.processor.data.Property
+import io.t28.auto.truth.processor.generator.ClassNames
+import io.t28.auto.truth.processor.generator.method.TypeCategory.OBJECT
+import io.t28.auto.truth.processor.index.SubjectIndex
+import io.t28.auto.truth.processor.log.debug
+import javax.lang.model.element.Modifier
+import javax.lang.model.element.TypeElement
+import javax.lang.model.type.DeclaredType
+
+// Returns the generated subject of a property whose type is indexed, either in this compilation or on the class path
+class IndexedSubjectGenerator(private val context: Context) : MethodGenerator {
+    override val categories: Set<TypeCategory> = setOf(OBJECT)
+
+    override val assertion: Assertion = Assertion.SUBJECT
+
+    override fun isSupported(property: Property): Boolean {
+        return findEntry(property) != null
+    }
+
+    override fun generate(input: Property): MethodSpec {
+        val entry = requireNotNull(findEntry(input))
+        context.logger.debug(input.element) { "Generating a method returns ${entry.subject}" }
+
+        return MethodSpec.methodBuilder(input.name.decapitalize()).apply {
+            returns(entry.subject)
+            addModifiers(Modifier.PUBLIC)
+            addStatement("final \$T actual = \$T.checkNotNull(this.actual).\$L", input.type, ClassNames.PRECONDITIONS, input.symbol)
+            addStatement("return check(\$S).about(\$T.factory()).that(actual)", input.symbol, entry.subject)
+        }.build()
+    }
+
+    // Generic value objects are not resolved, since their subjects take type arguments that the index does not record
+    private fun findEntry(property: Property): SubjectIndex.Entry? {
+        if (!context.index.isEnabled) {
+            return null
+        }
+        val element = (property.type as? DeclaredType)?.asElement() as? TypeElement ?: return null
+        if (element.typeParameters.isNotEmpty()) {
+            return null
+        }
+        return context.index.find(element)
+    }
+}
@@ -16,63 +16,129 @@
 
 package io.t28.auto.truth.processor.generator.method
 
-import com.google.common.base.Preconditions
+import com.squareup.javapoet.ClassName
 import com.squareup.javapoet.CodeBlock
 import com.squareup.javapoet.MethodSpec
 import com.squareup.javapoet.ParameterSpec
+import com.squareup.javapoet.ParameterizedTypeName
 import com.squareup.javapoet.TypeName
+import com.squareup.javapoet.WildcardTypeName
+import io.t28.auto.truth.AutoSubject.Assertion
 import io.t28.auto.truth.processor.Context
 import io.t28.auto.truth.processor.data.Property
+import io.t28.auto.truth.processor.generator.ClassNames
+import io.t28.auto.truth.processor.generator.RenderLimits
+import io.t28.auto.truth.processor.generator.method.TypeCategory.ITERABLE
+import io.t28.auto.truth.processor.log.debug
 import io.t28.auto.truth.processor.utils.isAssignable
-import java.util.Arrays
 import javax.lang.model.element.Modifier
 import javax.lang.model.type.DeclaredType
+import javax.lang.model.type.TypeKind
+import javax.lang.model.type.TypeMirror
+
+// Varargs assertions check the array first, and delegate to the Collection overloads only when the check fails
+sealed class IterableAssertionGenerator(
+    protected val context: Context,
+    private val requiredClass: ClassName = ClassNames.ITERABLE,
+    private val limits: RenderLimits = RenderLimits.from(context.options)
+) : MethodGenerator {
+    override val categories: Set<TypeCategory> = setOf(ITERABLE)
+
+    override val assertion: Assertion = Assertion.ELEMENTS
 
-sealed class IterableAssertionGenerator(protected val context: Context) : MethodGenerator {
     override fun isSupported(property: Property): Boolean {
         return object : SupportedTypeMatcher<Void?>() {
             override fun visitDeclared(type: DeclaredType, p: Void?): Boolean {
-                if (!context.utils.isAssignable<Iterable<*>>(type)) {
+                if (!context.utils.isAssignable(type, requiredClass)) {
                     return false
                 }
-                return type.typeArguments.size == 1
+                // Neither an array nor a bounded Collection can be declared for a wildcard element type
+                return type.typeArguments.size == 1 && type.typeArguments.first().kind != TypeKind.WILDCARD
             }
         }.visit(property.type)
     }
 
     final override fun generate(input: Property): MethodSpec {
         require(isSupported(input))
-        context.logger.debug(input.element, "Generating an assertion method for Iterable<T>")
+        context.logger.debug(input.element) { "Generating an assertion method for Iterable<T>" }
 
         val type = input.type as DeclaredType
-        val componentType = type.typeArguments.first()
-        val parameterType = context.utils.getArrayType(componentType)
         return MethodSpec.methodBuilder(generateName(input)).apply {
             addModifiers(Modifier.PUBLIC)
-            addParameter(ParameterSpec.builder(TypeName.get(parameterType), "expected").build())
-            varargs(true)
-            addStatement("\$T.checkNotNull(\$L)", Preconditions::class.java, "actual")
-            addCode(generateCode(input))
+            generateBody(input, type.typeArguments.first())
         }.build()
     }
 
     protected abstract fun generateName(input: Property): String
 
-    protected abstract fun generateCode(input: Property): CodeBlock
+    protected abstract fun MethodSpec.Builder.generateBody(input: Property, elementType: TypeMirror)
+
+    protected fun MethodSpec.Builder.addActualStatement(input: Property) {
+        addStatement("final \$T actual = \$T.checkNotNull(this.actual).\$L", input.type, ClassNames.PRECONDITIONS, input.symbol)
+    }
+
+    protected fun MethodSpec.Builder.addVarargsParameter(elementType: TypeMirror) {
+        addParameter(ParameterSpec.builder(TypeName.get(context.utils.getArrayType(elementType)), "expected").build())
+        varargs(true)
+    }
+
+    protected fun MethodSpec.Builder.addCollectionParameter(elementType: TypeMirror) {
+        val parameterType = ParameterizedTypeName.get(ClassNames.COLLECTION, WildcardTypeName.subtypeOf(TypeName.get(elementType)))
+        addParameter(ParameterSpec.builder(parameterType, "expected").build())
+    }
+
+    // Truth renders every element of the collections, so it is only called when they fit within the limits
+    protected fun MethodSpec.Builder.addBoundedCheckStatement(
+        input: Property,
+        assertion: CodeBlock,
+        message: String,
+        expected: String? = null,
+        isExpectedCollection: Boolean = true
+    ) {
+        val collections = listOfNotNull(expected?.takeIf { isExpectedCollection }, "actual")
+        beginControlFlow("if (\$L)", CodeBlock.join(collections.map { collection -> limits.isBounded(collection) }, " && "))
+        addStatement("check(\$S).that(actual).\$L", input.symbol, assertion)
+        nextControlFlow("else")
+        val arguments = listOfNotNull(expected).map { value ->
+            if (isExpectedCollection) limits.render(value) else CodeBlock.of("\$L", value)
+        } + limits.render("actual")
+        addStatement("check(\$S).withMessage(\$S, \$L).fail()", input.symbol, message, CodeBlock.join(arguments, ", "))
+        endControlFlow()
+    }
+
+    // Truth requires each expected element as many times as it is expected, so duplicates are counted without copying them
+    protected fun containsAllCondition(input: Property): CodeBlock? {
+        val elements = ClassNames.ITERABLE_ELEMENTS
+        return when {
+            input.isAssignableTo(ClassNames.MULTISET) -> CodeBlock.of("\$T.containsOccurrences(actual::count, expected)", elements)
+            input.isAssignableTo(ClassNames.SET) -> CodeBlock.of("\$T.containsAllOnce(actual, expected)", elements)
+            else -> null
+        }
+    }
+
+    protected fun MethodSpec.Builder.addReturnIfStatement(condition: CodeBlock) {
+        beginControlFlow("if (\$L)", condition)
+        addStatement("return")
+        endControlFlow()
+    }
+
+    protected fun Property.isAssignableTo(className: ClassName): Boolean {
+        return context.utils.isAssignable(type, className)
+    }
 
     class PositiveAssertionGenerator(context: Context) : IterableAssertionGenerator(context) {
         override fun generateName(input: Property): String {
             return "has${input.name.capitalize()}"
         }
 
-        override fun generateCode(input: Property): CodeBlock {
-            val symbol = input.symbol
-            return CodeBlock.builder().apply {
-                addStatement(
-                    "check(\$S).that(\$L.\$L).containsAtLeastElementsIn(\$T.asList(\$L))",
-                    symbol, "actual", symbol, Arrays::class.java, "expected"
-                )
-            }.build()
+        override fun MethodSpec.Builder.generateBody(input: Property, elementType: TypeMirror) {
+            addVarargsParameter(elementType)
+            val passCondition = containsAllCondition(input)
+            if (passCondition != null) {
+                addActualStatement(input)
+                addReturnIfStatement(CodeBlock.of("actual != null && \$L", passCondition))
+            }
+            addStatement("\$L(\$T.asList(\$L))", generateName(input), ClassNames.ARRAYS, "expected")
         }
     }
 
@@ -81,14 +147,82 @@ sealed class IterableAssertionGenerator(protected val context: Context) : Method
             return "doesNotHave${input.name.capitalize()}"
         }
 
-        override fun generateCode(input: Property): CodeBlock {
-            val symbol = input.symbol
-            return CodeBlock.builder().apply {
-                addStatement(
-                    "check(\$S).that(\$L.\$L).containsNoneIn(\$T.asList(\$L))",
-                    symbol, "actual", symbol, Arrays::class.java, "expected"
-                )
-            }.build()
+        override fun MethodSpec.Builder.generateBody(input: Property, elementType: TypeMirror) {
+            addVarargsParameter(elementType)
+            if (input.isAssignableTo(ClassNames.COLLECTION)) {
+                addActualStatement(input)
+                addReturnIfStatement(CodeBlock.of("actual != null && \$T.containsNone(actual, expected)", ClassNames.ITERABLE_ELEMENTS))
+            }
+            addStatement("\$L(\$T.asList(\$L))", generateName(input), ClassNames.ARRAYS, "expected")
+        }
+    }
+
+    class PositiveCollectionAssertionGenerator(context: Context) : IterableAssertionGenerator(context) {
+        override fun generateName(input: Property): String {
+            return "has${input.name.capitalize()}"
+        }
+
+        override fun MethodSpec.Builder.generateBody(input: Property, elementType: TypeMirror) {
+            addCollectionParameter(elementType)
+            addActualStatement(input)
+            val passCondition = containsAllCondition(input)
+            if (passCondition == null) {
+                addStatement("check(\$S).that(actual).containsAtLeastElementsIn(\$L)", input.symbol, "expected")
+                return
+            }
+            beginControlFlow("if (actual == null || !(\$L))", passCondition)
+            addBoundedCheckStatement(
+                input, CodeBlock.of("containsAtLeastElementsIn(expected)"), "expected to contain at least %s, but was %s", "expected"
+            )
+            endControlFlow()
+        }
+    }
+
+    class NegativeCollectionAssertionGenerator(context: Context) : IterableAssertionGenerator(context) {
+        override fun generateName(input: Property): String {
+            return "doesNotHave${input.name.capitalize()}"
+        }
+
+        override fun MethodSpec.Builder.generateBody(input: Property, elementType: TypeMirror) {
+            addCollectionParameter(elementType)
+            addActualStatement(input)
+            if (input.isAssignableTo(ClassNames.COLLECTION)) {
+                // Elements are looked up in whichever collection is a Set
+                beginControlFlow("if (actual == null || !\$T.disjoint(actual, expected))", ClassNames.ITERABLE_ELEMENTS)
+                addBoundedCheckStatement(input, CodeBlock.of("containsNoneIn(expected)"), "expected not to contain any of %s, but was %s", "expected")
+                endControlFlow()
+            } else {
+                addStatement("check(\$S).that(actual).containsNoneIn(\$L)", input.symbol, "expected")
+            }
+        }
+    }
+
+    class SizeAssertionGenerator(context: Context) : IterableAssertionGenerator(context, ClassNames.COLLECTION) {
+        override fun generateName(input: Property): String {
+            return "has${input.name.capitalize()}Size"
+        }
+
+        override fun MethodSpec.Builder.generateBody(input: Property, elementType: TypeMirror) {
+            addParameter(ParameterSpec.builder(TypeName.INT, "expected").build())
+            addActualStatement(input)
+            beginControlFlow("if (actual == null || actual.size() != expected)")
+            addBoundedCheckStatement(
+                input, CodeBlock.of("hasSize(expected)"), "expected to have size %s, but was %s", "expected", isExpectedCollection = false
+            )
+            endControlFlow()
+        }
+    }
+
+    class EmptyAssertionGenerator(context: Context) : IterableAssertionGenerator(context, ClassNames.COLLECTION) {
+        override fun generateName(input: Property): String {
+            return "hasNo${input.name.capitalize()}"
+        }
+
+        override fun MethodSpec.Builder.generateBody(input: Property, elementType: TypeMirror) {
+            addActualStatement(input)
+            beginControlFlow("if (actual == null || !actual.isEmpty())")
+            addBoundedCheckStatement(input, CodeBlock.of("isEmpty()"), "expected to be empty, but was %s")
+            endControlFlow()
         }
     }
 }
@@ -16,33 +16,32 @@
 
 package io.t28.auto.truth.processor.generator.method
 
-import com.google.common.collect.Multiset
-import com.google.common.truth.IterableSubject
-import com.google.common.truth.MultisetSubject
-import com.squareup.javapoet.ClassName
 import com.squareup.javapoet.TypeName
 import io.t28.auto.truth.processor.Context
+import io.t28.auto.truth.processor.generator.ClassNames
+import io.t28.auto.truth.processor.generator.method.TypeCategory.ITERABLE
 import io.t28.auto.truth.processor.utils.TypeUtils
 import io.t28.auto.truth.processor.utils.isAssignable
-import java.nio.file.Path
 import javax.lang.model.type.DeclaredType
 import javax.lang.model.type.TypeMirror
 
 class IterableSubjectGenerator(context: Context) : TruthSubjectGenerator(context) {
+    override val categories: Set<TypeCategory> = setOf(ITERABLE)
+
     private val typeUtils: TypeUtils = context.utils
 
     override fun matches(type: DeclaredType): Boolean {
-        if (typeUtils.isAssignable<Path>(type)) {
+        if (typeUtils.isAssignable(type, ClassNames.PATH)) {
             return false
         }
-        return typeUtils.isAssignable<Iterable<*>>(type)
+        return typeUtils.isAssignable(type, ClassNames.ITERABLE)
     }
 
     override fun subjectClass(type: TypeMirror): TypeName {
-        return if (typeUtils.isAssignable<Multiset<*>>(type)) {
-            ClassName.get(MultisetSubject::class.java)
+        return if (typeUtils.isAssignable(type, ClassNames.MULTISET)) {
+            ClassNames.MULTISET_SUBJECT
         } else {
-            ClassName.get(IterableSubject::class.java)
+            ClassNames.ITERABLE_SUBJECT
         }
     }
 }
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.processor.generator.method
+
+import com.squareup.javapoet.ClassName
+import com.squareup.javapoet.CodeBlock
+import com.squareup.javapoet.MethodSpec
+import com.squareup.javapoet.ParameterSpec
+import com.squareup.javapoet.ParameterizedTypeName
+import com.squareup.javapoet.TypeName
+import io.t28.auto.truth.AutoSubject.Assertion
+import io.t28.auto.truth.processor.Context
+import io.t28.auto.truth.processor.data.Property
+import io.t28.auto.truth.processor.generator.ClassNames
+import io.t28.auto.truth.processor.generator.RenderLimits
+import io.t28.auto.truth.processor.generator.method.TypeCategory.ITERABLE
+import io.t28.auto.truth.processor.generator.method.TypeCategory.MAP
+import io.t28.auto.truth.processor.generator.method.TypeCategory.MULTIMAP
+import io.t28.auto.truth.processor.generator.method.TypeCategory.TABLE
+import io.t28.auto.truth.processor.log.debug
+import io.t28.auto.truth.processor.utils.findSupertype
+import javax.lang.model.element.Modifier
+import javax.lang.model.type.DeclaredType
+import javax.lang.model.type.TypeKind
+
+// Each assertion answers with a single lookup, and a failure reports the keys around the expected key
+// rather than every entry as Truth does. Keys and values are rendered within the limits, since any of them may be large.
+// Lookups go through MapEntries, since a sorted map throws for a null or incomparable key instead of reporting it missing.
+sealed class LookupAssertionGenerator(
+    protected val context: Context,
+    category: TypeCategory,
+    private val requiredClass: ClassName,
+    protected val limits: RenderLimits = RenderLimits.from(context.options)
+) : MethodGenerator {
+    override val categories: Set<TypeCategory> = setOf(category)
+
+    override val assertion: Assertion = Assertion.ELEMENTS
+
+    override fun isSupported(property: Property): Boolean {
+        return object : SupportedTypeMatcher<Void?>() {
+            override fun visitDeclared(type: DeclaredType, p: Void?): Boolean = typeArguments(type) != null
+        }.visit(property.type)
+    }
+
+    final override fun generate(input: Property): MethodSpec {
+        require(isSupported(input))
+        context.logger.debug(input.element) { "Generating a lookup assertion method for ${input.type}" }
+
+        val typeArguments = requireNotNull(typeArguments(input.type as DeclaredType))
+        return MethodSpec.methodBuilder(generateName(input)).apply {
+            addModifiers(Modifier.PUBLIC)
+            generateParameters(typeArguments)
+            addStatement("final \$T actual = \$T.checkNotNull(this.actual).\$L", input.type, ClassNames.PRECONDITIONS, input.symbol)
+            beginControlFlow("if (actual == null)")
+            addStatement("check(\$S).that(actual).isNotNull()", input.symbol)
+            addStatement("return")
+            endControlFlow()
+            generateBody(input, typeArguments)
+        }.build()
+    }
+
+    protected abstract fun generateName(input: Property): String
+
+    protected abstract fun MethodSpec.Builder.generateParameters(typeArguments: List<TypeName>)
+
+    protected abstract fun MethodSpec.Builder.generateBody(input: Property, typeArguments: List<TypeName>)
+
+    // Wildcard type arguments are not supported since no parameter can be declared for them
+    private fun typeArguments(type: DeclaredType): List<TypeName>? {
+        val supertype = context.utils.findSupertype(type, requiredClass) ?: return null
+        if (supertype.typeArguments.isEmpty() || supertype.typeArguments.any { it.kind == TypeKind.WILDCARD }) {
+            return null
+        }
+        return supertype.typeArguments.map { TypeName.get(it) }
+    }
+
+    protected fun render(vararg values: String): CodeBlock {
+        return CodeBlock.join(values.map { value -> limits.render(value) }, ", ")
+    }
+
+    protected fun MethodSpec.Builder.addParameters(vararg parameters: Pair<TypeName, String>) {
+        parameters.forEach { (type, name) ->
+            addParameter(ParameterSpec.builder(type, name).build())
+        }
+    }
+
+    class MapEntryAssertionGenerator(context: Context) : LookupAssertionGenerator(context, MAP, ClassNames.MAP) {
+        override fun generateName(input: Property): String {
+            return "has${input.name.capitalize()}Entry"
+        }
+
+        override fun MethodSpec.Builder.generateParameters(typeArguments: List<TypeName>) {
+            addParameters(typeArguments[0] to "key", typeArguments[1] to "value")
+        }
+
+        // containsKey is only called when the value may be null or the assertion fails
+        override fun MethodSpec.Builder.generateBody(input: Property, typeArguments: List<TypeName>) {
+            addStatement("final \$T actualValue = \$T.get(actual, key)", typeArguments[1], ClassNames.MAP_ENTRIES)
+            beginControlFlow(
+                "if (\$T.equals(actualValue, value) && (value != null || \$T.containsKey(actual, key)))", ClassNames.OBJECTS, ClassNames.MAP_ENTRIES
+            )
+            addStatement("return")
+            endControlFlow()
+            beginControlFlow("if (\$T.containsKey(actual, key))", ClassNames.MAP_ENTRIES)
+            addStatement(
+                "check(\$S).withMessage(\$S, \$L).fail()",
+                input.symbol, "expected to contain entry %s=%s, but the key was mapped to %s", render("key", "value", "actualValue")
+            )
+            nextControlFlow("else")
+            addStatement(
+                "check(\$S).withMessage(\$S, \$L, \$L).fail()",
+                input.symbol, "expected to contain entry %s=%s, but the key was not present; nearby keys: %s", render("key", "value"),
+                limits.nearbyKeys("actual", "key")
+            )
+            endControlFlow()
+        }
+    }
+
+    class MapKeyAssertionGenerator(context: Context) : LookupAssertionGenerator(context, MAP, ClassNames.MAP) {
+        override fun generateName(input: Property): String {
+            return "has${input.name.capitalize()}Key"
+        }
+
+        override fun MethodSpec.Builder.generateParameters(typeArguments: List<TypeName>) {
+            addParameters(typeArguments[0] to "key")
+        }
+
+        override fun MethodSpec.Builder.generateBody(input: Property, typeArguments: List<TypeName>) {
+            beginControlFlow("if (!\$T.containsKey(actual, key))", ClassNames.MAP_ENTRIES)
+            addStatement(
+                "check(\$S).withMessage(\$S, \$L, \$L).fail()",
+                input.symbol, "expected to contain key %s, but it was not present; nearby keys: %s", render("key"), limits.nearbyKeys("actual", "key")
+            )
+            endControlFlow()
+        }
+    }
+
+    class MultimapEntryAssertionGenerator(context: Context) : LookupAssertionGenerator(context, MULTIMAP, ClassNames.MULTIMAP) {
+        override fun generateName(input: Property): String {
+            return "has${input.name.capitalize()}Entry"
+        }
+
+        override fun MethodSpec.Builder.generateParameters(typeArguments: List<TypeName>) {
+            addParameters(typeArguments[0] to "key", typeArguments[1] to "value")
+        }
+
+        // The values of a key are looked up once, since asMap() has no entry for a key without values
+        override fun MethodSpec.Builder.generateBody(input: Property, typeArguments: List<TypeName>) {
+            val valuesType = ParameterizedTypeName.get(ClassNames.COLLECTION, typeArguments[1])
+            addStatement("final \$T actualValues = \$T.get(actual.asMap(), key)", valuesType, ClassNames.MAP_ENTRIES)
+            beginControlFlow("if (actualValues != null && \$T.contains(actualValues, value))", ClassNames.MAP_ENTRIES)
+            addStatement("return")
+            endControlFlow()
+            beginControlFlow("if (actualValues != null)")
+            addStatement(
+                "check(\$S).withMessage(\$S, \$L, \$L).fail()",
+                input.symbol, "expected to contain entry %s=%s, but the key was mapped to %s", render("key", "value"), limits.head("actualValues")
+            )
+            nextControlFlow("else")
+            addStatement(
+                "check(\$S).withMessage(\$S, \$L, \$L).fail()",
+                input.symbol, "expected to contain entry %s=%s, but the key was not present; nearby keys: %s", render("key", "value"),
+                limits.nearbyKeys("actual.asMap()", "key")
+            )
+            endControlFlow()
+        }
+    }
+
+    class MultimapKeyAssertionGenerator(context: Context) : LookupAssertionGenerator(context, MULTIMAP, ClassNames.MULTIMAP) {
+        override fun generateName(input: Property): String {
+            return "has${input.name.capitalize()}Key"
+        }
+
+        override fun MethodSpec.Builder.generateParameters(typeArguments: List<TypeName>) {
+            addParameters(typeArguments[0] to "key")
+        }
+
+        override fun MethodSpec.Builder.generateBody(input: Property, typeArguments: List<TypeName>) {
+            beginControlFlow("if (!\$T.containsKey(actual.asMap(), key))", ClassNames.MAP_ENTRIES)
+            addStatement(
+                "check(\$S).withMessage(\$S, \$L, \$L).fail()",
+                input.symbol, "expected to contain key %s, but it was not present; nearby keys: %s", render("key"),
+                limits.nearbyKeys("actual.asMap()", "key")
+            )
+            endControlFlow()
+        }
+    }
+
+    class TableCellAssertionGenerator(context: Context) : LookupAssertionGenerator(context, TABLE, ClassNames.TABLE) {
+        override fun generateName(input: Property): String {
+            return "has${input.name.capitalize()}Cell"
+        }
+
+        override fun MethodSpec.Builder.generateParameters(typeArguments: List<TypeName>) {
+            addParameters(typeArguments[0] to "rowKey", typeArguments[1] to "columnKey", typeArguments[2] to "value")
+        }
+
+        // Nearby columns are reported when the row exists, and nearby rows otherwise.
+        // rowMap() has no entry for a row without cells, so the row is looked up once and the column is looked up in it.
+        override fun MethodSpec.Builder.generateBody(input: Property, typeArguments: List<TypeName>) {
+            val rowType = ParameterizedTypeName.get(ClassNames.MAP, typeArguments[1], typeArguments[2])
+            addStatement("final \$T actualRow = \$T.get(actual.rowMap(), rowKey)", rowType, ClassNames.MAP_ENTRIES)
+            addStatement("final \$T actualValue = actualRow == null ? null : \$T.get(actualRow, columnKey)", typeArguments[2], ClassNames.MAP_ENTRIES)
+            addStatement("final boolean containsCell = actualRow != null && \$T.containsKey(actualRow, columnKey)", ClassNames.MAP_ENTRIES)
+            beginControlFlow("if (\$T.equals(actualValue, value) && (value != null || containsCell))", ClassNames.OBJECTS)
+            addStatement("return")
+            endControlFlow()
+            beginControlFlow("if (containsCell)")
+            addStatement(
+                "check(\$S).withMessage(\$S, \$L).fail()",
+                input.symbol, "expected to contain cell (%s, %s)=%s, but the cell had value %s", render("rowKey", "columnKey", "value", "actualValue")
+            )
+            nextControlFlow("else if (actualRow != null)")
+            addStatement(
+                "check(\$S).withMessage(\$S, \$L, \$L).fail()",
+                input.symbol, "expected to contain cell (%s, %s)=%s, but the column was not present in the row; nearby columns: %s",
+                render("rowKey", "columnKey", "value"), limits.nearbyKeys("actualRow", "columnKey")
+            )
+            nextControlFlow("else")
+            addStatement(
+                "check(\$S).withMessage(\$S, \$L, \$L).fail()",
+                input.symbol, "expected to contain cell (%s, %s)=%s, but the row was not present; nearby rows: %s",
+                render("rowKey", "columnKey", "value"), limits.nearbyKeys("actual.rowMap()", "rowKey")
+            )
+            endControlFlow()
+        }
+    }
+
+    class MultisetCountAssertionGenerator(context: Context) : LookupAssertionGenerator(context, ITERABLE, ClassNames.MULTISET) {
+        override fun generateName(input: Property): String {
+            return "has${input.name.capitalize()}Count"
+        }
+
+        override fun MethodSpec.Builder.generateParameters(typeArguments: List<TypeName>) {
+            addParameters(typeArguments[0] to "element", TypeName.INT to "expected")
+        }
+
+        override fun MethodSpec.Builder.generateBody(input: Property, typeArguments: List<TypeName>) {
+            addStatement("final int count = actual.count(element)")
+            beginControlFlow("if (count != expected)")
+            addStatement(
+                "check(\$S).withMessage(\$S, \$L, expected, count).fail()",
+                input.symbol, "expected %s to occur %s times, but it occurred %s times", render("element")
+            )
+            endControlFlow()
+        }
+    }
+}
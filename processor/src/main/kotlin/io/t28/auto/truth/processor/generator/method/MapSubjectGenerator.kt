@@ -16,20 +16,22 @@
 
 package io.t28.auto.truth.processor.generator.method
 
-import com.google.common.truth.MapSubject
-import com.squareup.javapoet.ClassName
 import com.squareup.javapoet.TypeName
 import io.t28.auto.truth.processor.Context
+import io.t28.auto.truth.processor.generator.ClassNames
+import io.t28.auto.truth.processor.generator.method.TypeCategory.MAP
 import io.t28.auto.truth.processor.utils.isAssignable
 import javax.lang.model.type.DeclaredType
 import javax.lang.model.type.TypeMirror
 
 class MapSubjectGenerator(context: Context) : TruthSubjectGenerator(context) {
+    override val categories: Set<TypeCategory> = setOf(MAP)
+
     override fun matches(type: DeclaredType): Boolean {
-        return context.utils.isAssignable<Map<*, *>>(type)
+        return context.utils.isAssignable(type, ClassNames.MAP)
     }
 
     override fun subjectClass(type: TypeMirror): TypeName {
-        return ClassName.get(MapSubject::class.java)
+        return ClassNames.MAP_SUBJECT
     }
 }
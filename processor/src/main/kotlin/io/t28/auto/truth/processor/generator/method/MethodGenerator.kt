@@ -17,9 +17,19 @@
 package io.t28.auto.truth.processor.generator.method
 
 import com.squareup.javapoet.MethodSpec
+import io.t28.auto.truth.AutoSubject.Assertion
 import io.t28.auto.truth.processor.data.Property
 import io.t28.auto.truth.processor.generator.Generator
 
 interface MethodGenerator : Generator<Property, MethodSpec> {
+    val categories: Set<TypeCategory>
+
+    val assertion: Assertion
+
     fun isSupported(property: Property): Boolean
+
+    // Generators may skip type checks that are already answered by the categories of the property
+    fun isSupported(property: Property, categories: Set<TypeCategory>): Boolean {
+        return isSupported(property)
+    }
 }
@@ -16,21 +16,22 @@
 
 package io.t28.auto.truth.processor.generator.method
 
-import com.google.common.collect.Multimap
-import com.google.common.truth.MultimapSubject
-import com.squareup.javapoet.ClassName
 import com.squareup.javapoet.TypeName
 import io.t28.auto.truth.processor.Context
+import io.t28.auto.truth.processor.generator.ClassNames
+import io.t28.auto.truth.processor.generator.method.TypeCategory.MULTIMAP
 import io.t28.auto.truth.processor.utils.isAssignable
 import javax.lang.model.type.DeclaredType
 import javax.lang.model.type.TypeMirror
 
 class MultimapSubjectGenerator(context: Context) : TruthSubjectGenerator(context) {
+    override val categories: Set<TypeCategory> = setOf(MULTIMAP)
+
     override fun matches(type: DeclaredType): Boolean {
-        return context.utils.isAssignable<Multimap<*, *>>(type)
+        return context.utils.isAssignable(type, ClassNames.MULTIMAP)
     }
 
     override fun subjectClass(type: TypeMirror): TypeName {
-        return ClassName.get(MultimapSubject::class.java)
+        return ClassNames.MULTIMAP_SUBJECT
     }
 }
@@ -16,62 +16,113 @@
 
 package io.t28.auto.truth.processor.generator.method
 
-import com.google.common.base.Preconditions
 import com.squareup.javapoet.MethodSpec
 import com.squareup.javapoet.ParameterSpec
 import com.squareup.javapoet.TypeName
+import io.t28.auto.truth.AutoSubject.Assertion
 import io.t28.auto.truth.processor.Context
 import io.t28.auto.truth.processor.data.Property
+import io.t28.auto.truth.processor.extensions.isBoxedPrimitive
 import io.t28.auto.truth.processor.extensions.isNull
+import io.t28.auto.truth.processor.generator.ClassNames
+import io.t28.auto.truth.processor.generator.RenderLimits
+import io.t28.auto.truth.processor.generator.method.TypeCategory.BOXED_BOOLEAN
+import io.t28.auto.truth.processor.generator.method.TypeCategory.ITERATOR
+import io.t28.auto.truth.processor.generator.method.TypeCategory.OBJECT
+import io.t28.auto.truth.processor.generator.method.TypeCategory.PRIMITIVE
+import io.t28.auto.truth.processor.log.debug
+import javax.lang.model.element.ElementKind
 import javax.lang.model.element.Modifier.PUBLIC
 import javax.lang.model.type.DeclaredType
 import javax.lang.model.type.ErrorType
 import javax.lang.model.type.PrimitiveType
 import javax.lang.model.type.TypeKind.BOOLEAN
+import javax.lang.model.type.TypeMirror
 import javax.lang.model.type.TypeVariable
 
-class ObjectAssertionGenerator(private val context: Context) : MethodGenerator {
+class ObjectAssertionGenerator(
+    private val context: Context,
+    private val limits: RenderLimits = RenderLimits.from(context.options)
+) : MethodGenerator {
+    override val categories: Set<TypeCategory> = setOf(PRIMITIVE, BOXED_BOOLEAN, ITERATOR, OBJECT)
+
+    override val assertion: Assertion = Assertion.VALUE
+
     override fun isSupported(property: Property): Boolean {
-        if (property is Property.EnumConstant) {
-            return false
-        }
-        if (property is Property.Getter && property.element.typeParameters.isNotEmpty()) {
-            return false
-        }
-        return SupportedObjectTypeMatcher.visit(property.type, context)
+        return isSupportedProperty(property) && SupportedObjectTypeMatcher.visit(property.type, context)
+    }
+
+    // Types handled by other generators belong to other categories, so the ignored classes are not checked again
+    override fun isSupported(property: Property, categories: Set<TypeCategory>): Boolean {
+        return isSupportedProperty(property) && this.categories.containsAll(categories)
     }
 
     override fun generate(input: Property): MethodSpec {
-        require(isSupported(input))
-        context.logger.debug(input.element, "Generating an assertion method for %s", input.type)
+        require(isSupportedProperty(input))
+        context.logger.debug(input.element) { "Generating an assertion method for ${input.type}" }
 
         return MethodSpec.methodBuilder("has${input.name.capitalize()}").apply {
             addModifiers(PUBLIC)
             addParameter(ParameterSpec.builder(TypeName.get(input.type), "expected").build())
-            addStatement("final \$T actual = \$T.checkNotNull(this.actual).\$L", input.type, Preconditions::class.java, input.symbol)
-            addStatement("check(\$S).that(actual).isEqualTo(\$L)", input.symbol, "expected")
+            addStatement("final \$T actual = \$T.checkNotNull(this.actual).\$L", input.type, ClassNames.PRECONDITIONS, input.symbol)
+            // Values equal by Objects.deepEquals (e.g. arrays held by an Object property) are equal for Truth as well
+            if (input.type.kind.isPrimitive) {
+                beginControlFlow("if (\$L)", notEqualCode(input.type.kind, "actual", "expected"))
+            } else {
+                beginControlFlow("if (!\$T.deepEquals(\$L, \$L))", ClassNames.OBJECTS, "actual", "expected")
+            }
+            if (hasBoundedRendering(input.type)) {
+                addStatement("check(\$S).that(actual).isEqualTo(\$L)", input.symbol, "expected")
+            } else {
+                // Truth decides the remaining cases such as Integer and Long of the same value, which are always bounded.
+                // Unbounded values are arrays, collections, maps and strings, and Truth compares them as deepEquals does.
+                beginControlFlow("if (\$L && \$L)", limits.isBounded("actual"), limits.isBounded("expected"))
+                addStatement("check(\$S).that(actual).isEqualTo(\$L)", input.symbol, "expected")
+                nextControlFlow("else")
+                addStatement(
+                    "check(\$S).withMessage(\$S, \$L, \$L).fail()",
+                    input.symbol, "expected %s, but was %s", limits.render("expected"), limits.render("actual")
+                )
+                endControlFlow()
+            }
+            endControlFlow()
         }.build()
     }
 
+    private fun isSupportedProperty(property: Property): Boolean {
+        if (property is Property.EnumConstant) {
+            return false
+        }
+        return property !is Property.Getter || property.element.typeParameters.isEmpty()
+    }
+
+    private fun hasBoundedRendering(type: TypeMirror): Boolean {
+        if (type.kind.isPrimitive || type.isBoxedPrimitive()) {
+            return true
+        }
+        return type is DeclaredType && type.asElement().kind == ElementKind.ENUM
+    }
+
     internal object SupportedObjectTypeMatcher : SupportedTypeMatcher<Context>() {
         // Following classes are handled by other generators
         private val IGNORED_CLASSES = arrayOf(
-            java.lang.Void::class,
-            java.lang.Class::class,
-            java.lang.Iterable::class,
-            java.util.Map::class,
-            java.util.Optional::class,
-            java.util.OptionalInt::class,
-            java.util.OptionalLong::class,
-            java.util.OptionalDouble::class,
-            java.nio.file.Path::class,
-            java.util.stream.Stream::class,
-            java.util.stream.IntStream::class,
-            java.util.stream.LongStream::class,
-            com.google.common.base.Optional::class,
-            com.google.common.collect.Multimap::class,
-            com.google.common.collect.Multiset::class,
-            com.google.common.collect.Table::class
+            ClassNames.VOID,
+            ClassNames.CLASS,
+            ClassNames.ITERABLE,
+            ClassNames.MAP,
+            ClassNames.OPTIONAL,
+            ClassNames.OPTIONAL_INT,
+            ClassNames.OPTIONAL_LONG,
+            ClassNames.OPTIONAL_DOUBLE,
+            ClassNames.PATH,
+            ClassNames.STREAM,
+            ClassNames.INT_STREAM,
+            ClassNames.LONG_STREAM,
+            ClassNames.DOUBLE_STREAM,
+            ClassNames.GUAVA_OPTIONAL,
+            ClassNames.MULTIMAP,
+            ClassNames.MULTISET,
+            ClassNames.TABLE
         )
 
         override fun visitPrimitive(type: PrimitiveType, context: Context): Boolean {
@@ -16,34 +16,29 @@
 
 package io.t28.auto.truth.processor.generator.method
 
-import com.google.common.truth.OptionalDoubleSubject
-import com.google.common.truth.OptionalIntSubject
-import com.google.common.truth.OptionalLongSubject
-import com.google.common.truth.OptionalSubject
-import com.squareup.javapoet.ClassName
 import com.squareup.javapoet.TypeName
 import io.t28.auto.truth.processor.Context
+import io.t28.auto.truth.processor.generator.ClassNames
+import io.t28.auto.truth.processor.generator.method.TypeCategory.OPTIONAL
 import io.t28.auto.truth.processor.utils.TypeUtils
 import io.t28.auto.truth.processor.utils.isAssignable
 import java.lang.IllegalArgumentException
-import java.util.Optional
-import java.util.OptionalDouble
-import java.util.OptionalInt
-import java.util.OptionalLong
 import javax.lang.model.type.DeclaredType
 import javax.lang.model.type.TypeMirror
 
 private val SUPPORTED_CLASSES = arrayOf(
-    Optional::class,
-    OptionalInt::class,
-    OptionalLong::class,
-    OptionalDouble::class
+    ClassNames.OPTIONAL,
+    ClassNames.OPTIONAL_INT,
+    ClassNames.OPTIONAL_LONG,
+    ClassNames.OPTIONAL_DOUBLE
 )
 
 class OptionalSubjectGenerator(
     context: Context,
     private val utils: TypeUtils = context.utils
 ) : Truth8SubjectGenerator(context) {
+    override val categories: Set<TypeCategory> = setOf(OPTIONAL)
+
     override fun matches(type: DeclaredType): Boolean {
         return SUPPORTED_CLASSES
             .mapNotNull { supportedClass -> utils.getDeclaredType(supportedClass) }
@@ -64,22 +59,22 @@ class OptionalSubjectGenerator(
 
     override fun subjectClass(type: TypeMirror): TypeName {
         return type.accept(object : OptionalTypeVisitor<TypeName> {
-            override fun visitOptional(type: TypeMirror) = ClassName.get(OptionalSubject::class.java)
+            override fun visitOptional(type: TypeMirror) = ClassNames.OPTIONAL_SUBJECT
 
-            override fun visitOptionalInt(type: TypeMirror) = ClassName.get(OptionalIntSubject::class.java)
+            override fun visitOptionalInt(type: TypeMirror) = ClassNames.OPTIONAL_INT_SUBJECT
 
-            override fun visitOptionalLong(type: TypeMirror) = ClassName.get(OptionalLongSubject::class.java)
+            override fun visitOptionalLong(type: TypeMirror) = ClassNames.OPTIONAL_LONG_SUBJECT
 
-            override fun visitOptionalDouble(type: TypeMirror) = ClassName.get(OptionalDoubleSubject::class.java)
+            override fun visitOptionalDouble(type: TypeMirror) = ClassNames.OPTIONAL_DOUBLE_SUBJECT
         })
     }
 
     private fun <R : Any> TypeMirror.accept(visitor: OptionalTypeVisitor<R>): R {
         return when {
-            utils.isAssignable<Optional<*>>(this) -> visitor.visitOptional(this)
-            utils.isAssignable<OptionalInt>(this) -> visitor.visitOptionalInt(this)
-            utils.isAssignable<OptionalLong>(this) -> visitor.visitOptionalLong(this)
-            utils.isAssignable<OptionalDouble>(this) -> visitor.visitOptionalDouble(this)
+            utils.isAssignable(this, ClassNames.OPTIONAL) -> visitor.visitOptional(this)
+            utils.isAssignable(this, ClassNames.OPTIONAL_INT) -> visitor.visitOptionalInt(this)
+            utils.isAssignable(this, ClassNames.OPTIONAL_LONG) -> visitor.visitOptionalLong(this)
+            utils.isAssignable(this, ClassNames.OPTIONAL_DOUBLE) -> visitor.visitOptionalDouble(this)
             else -> throw IllegalArgumentException("Unsupported and non-Optional type: $this")
         }
     }
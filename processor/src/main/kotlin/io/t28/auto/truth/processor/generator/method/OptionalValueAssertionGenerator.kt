@@ -0,0 +1,85 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.processor.generator.method
+
+import com.squareup.javapoet.ClassName
+import com.squareup.javapoet.CodeBlock
+import com.squareup.javapoet.MethodSpec
+import com.squareup.javapoet.ParameterSpec
+import com.squareup.javapoet.TypeName
+import io.t28.auto.truth.AutoSubject.Assertion
+import io.t28.auto.truth.processor.Context
+import io.t28.auto.truth.processor.data.Property
+import io.t28.auto.truth.processor.generator.ClassNames
+import io.t28.auto.truth.processor.generator.method.TypeCategory.OPTIONAL
+import io.t28.auto.truth.processor.log.debug
+import io.t28.auto.truth.processor.utils.TypeUtils
+import io.t28.auto.truth.processor.utils.isAssignable
+import javax.lang.model.element.Modifier.PUBLIC
+import javax.lang.model.type.DeclaredType
+import javax.lang.model.type.TypeKind
+
+class OptionalValueAssertionGenerator(
+    private val context: Context,
+    private val utils: TypeUtils = context.utils
+) : MethodGenerator {
+    override val categories: Set<TypeCategory> = setOf(OPTIONAL)
+
+    override val assertion: Assertion = Assertion.VALUE
+
+    override fun isSupported(property: Property): Boolean {
+        return object : SupportedTypeMatcher<Void?>() {
+            override fun visitDeclared(type: DeclaredType, p: Void?): Boolean {
+                return findOptionalType(type) != null
+            }
+        }.visit(property.type)
+    }
+
+    override fun generate(input: Property): MethodSpec {
+        require(isSupported(input))
+        context.logger.debug(input.element) { "Generating a value assertion method for ${input.type}" }
+
+        val optionalType = requireNotNull(findOptionalType(input.type as DeclaredType))
+        val symbol = input.symbol
+        return MethodSpec.methodBuilder("has${input.name.capitalize()}").apply {
+            addModifiers(PUBLIC)
+            addParameter(ParameterSpec.builder(optionalType.valueType, "expected").build())
+            addStatement("final \$T actual = \$T.checkNotNull(this.actual).\$L", input.type, ClassNames.PRECONDITIONS, symbol)
+            val valueCode = CodeBlock.of("actual.\$L()", optionalType.getter)
+            beginControlFlow("if (actual == null || !actual.isPresent() || \$L)", notEqualCode(optionalType.valueKind, "$valueCode", "expected"))
+            addStatement("check(\$S).about(\$T.\$L()).that(actual).hasValue(expected)", symbol, optionalType.subjectClass, optionalType.factoryMethod)
+            endControlFlow()
+        }.build()
+    }
+
+    private fun findOptionalType(type: DeclaredType): OptionalType? {
+        return OptionalType.values().firstOrNull { optionalType -> utils.isAssignable(type, optionalType.className) }
+    }
+
+    private enum class OptionalType(
+        val className: ClassName,
+        val valueType: TypeName,
+        val valueKind: TypeKind,
+        val getter: String,
+        val subjectClass: ClassName,
+        val factoryMethod: String
+    ) {
+        INT(ClassNames.OPTIONAL_INT, TypeName.INT, TypeKind.INT, "getAsInt", ClassNames.OPTIONAL_INT_SUBJECT, "optionalInts"),
+        LONG(ClassNames.OPTIONAL_LONG, TypeName.LONG, TypeKind.LONG, "getAsLong", ClassNames.OPTIONAL_LONG_SUBJECT, "optionalLongs"),
+        DOUBLE(ClassNames.OPTIONAL_DOUBLE, TypeName.DOUBLE, TypeKind.DOUBLE, "getAsDouble", ClassNames.OPTIONAL_DOUBLE_SUBJECT, "optionalDoubles")
+    }
+}
@@ -16,23 +16,24 @@
 
 package io.t28.auto.truth.processor.generator.method
 
-import com.google.common.truth.PathSubject
-import com.squareup.javapoet.ClassName
 import com.squareup.javapoet.TypeName
 import io.t28.auto.truth.processor.Context
+import io.t28.auto.truth.processor.generator.ClassNames
+import io.t28.auto.truth.processor.generator.method.TypeCategory.PATH
 import io.t28.auto.truth.processor.utils.isAssignable
-import java.nio.file.Path
 import javax.lang.model.type.DeclaredType
 import javax.lang.model.type.TypeMirror
 
 class PathSubjectGenerator(context: Context) : Truth8SubjectGenerator(context) {
+    override val categories: Set<TypeCategory> = setOf(PATH)
+
     override fun matches(type: DeclaredType): Boolean {
-        return context.utils.isAssignable<Path>(type)
+        return context.utils.isAssignable(type, ClassNames.PATH)
     }
 
     override fun factoryMethodName(type: TypeMirror) = "paths"
 
     override fun subjectClass(type: TypeMirror): TypeName {
-        return ClassName.get(PathSubject::class.java)
+        return ClassNames.PATH_SUBJECT
     }
 }
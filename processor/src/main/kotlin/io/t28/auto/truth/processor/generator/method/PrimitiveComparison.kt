@@ -0,0 +1,30 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.processor.generator.method
+
+import com.squareup.javapoet.CodeBlock
+import io.t28.auto.truth.processor.generator.ClassNames
+import javax.lang.model.type.TypeKind
+
+// Floating point values are compared as Truth compares boxed values, so that NaN equals NaN and 0.0 differs from -0.0
+internal fun notEqualCode(kind: TypeKind, actual: String, expected: String): CodeBlock {
+    return when (kind) {
+        TypeKind.FLOAT -> CodeBlock.of("\$T.compare(\$L, \$L) != 0", ClassNames.FLOAT, actual, expected)
+        TypeKind.DOUBLE -> CodeBlock.of("\$T.compare(\$L, \$L) != 0", ClassNames.DOUBLE, actual, expected)
+        else -> CodeBlock.of("\$L != \$L", actual, expected)
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.processor.generator.method
+
+import com.squareup.javapoet.ArrayTypeName
+import com.squareup.javapoet.ClassName
+import com.squareup.javapoet.CodeBlock
+import com.squareup.javapoet.MethodSpec
+import com.squareup.javapoet.ParameterSpec
+import com.squareup.javapoet.ParameterizedTypeName
+import com.squareup.javapoet.TypeName
+import com.squareup.javapoet.WildcardTypeName
+import io.t28.auto.truth.AutoSubject.Assertion
+import io.t28.auto.truth.processor.Context
+import io.t28.auto.truth.processor.data.Property
+import io.t28.auto.truth.processor.generator.ClassNames
+import io.t28.auto.truth.processor.generator.RenderLimits
+import io.t28.auto.truth.processor.generator.method.TypeCategory.ITERATOR
+import io.t28.auto.truth.processor.generator.method.TypeCategory.STREAM
+import io.t28.auto.truth.processor.log.debug
+import javax.lang.model.element.Modifier
+import javax.lang.model.element.TypeElement
+import javax.lang.model.type.DeclaredType
+import javax.lang.model.type.TypeKind
+
+// Elements are pulled one at a time from an iterator and the assertion returns as soon as the result is decided,
+// so that a stream which cannot be materialized is never collected into a list
+sealed class StreamAssertionGenerator(
+    protected val context: Context,
+    protected val limits: RenderLimits = RenderLimits.from(context.options)
+) : MethodGenerator {
+    override val categories: Set<TypeCategory> = setOf(STREAM, ITERATOR)
+
+    override val assertion: Assertion = Assertion.ELEMENTS
+
+    override fun isSupported(property: Property): Boolean {
+        return object : SupportedTypeMatcher<Void?>() {
+            override fun visitDeclared(type: DeclaredType, p: Void?): Boolean = Elements.of(type) != null
+        }.visit(property.type)
+    }
+
+    final override fun generate(input: Property): MethodSpec {
+        require(isSupported(input))
+        context.logger.debug(input.element) { "Generating an assertion method for ${input.type}" }
+
+        val elements = requireNotNull(Elements.of(input.type as DeclaredType))
+        return MethodSpec.methodBuilder(generateName(input)).apply {
+            addModifiers(Modifier.PUBLIC)
+            generateParameters(elements)
+            addStatement("final \$T actual = \$T.checkNotNull(this.actual).\$L", input.type, ClassNames.PRECONDITIONS, input.symbol)
+            beginControlFlow("if (actual == null)")
+            addStatement("check(\$S).that(actual).isNotNull()", input.symbol)
+            addStatement("return")
+            endControlFlow()
+            if (elements.isCloseable) {
+                // The stream is closed on every path, so that resources registered with onClose are released
+                beginControlFlow("try")
+            }
+            addStatement("final \$T iterator = \$L", elements.iteratorType, elements.iteratorCode)
+            generateBody(input, elements)
+            if (elements.isCloseable) {
+                nextControlFlow("finally")
+                addStatement("actual.close()")
+                endControlFlow()
+            }
+        }.build()
+    }
+
+    protected abstract fun generateName(input: Property): String
+
+    protected abstract fun MethodSpec.Builder.generateParameters(elements: Elements)
+
+    protected abstract fun MethodSpec.Builder.generateBody(input: Property, elements: Elements)
+
+    protected fun MethodSpec.Builder.addFailStatement(input: Property, format: String, vararg args: Any) {
+        val arguments = args.map { arg -> CodeBlock.of("\$L", arg) }
+        addStatement("check(\$S).withMessage(\$S, \$L).fail()", input.symbol, format, CodeBlock.join(arguments, ", "))
+        addStatement("return")
+    }
+
+    class AnyMatchAssertionGenerator(context: Context) : StreamAssertionGenerator(context) {
+        override fun generateName(input: Property): String {
+            return "${input.name}AnyMatch"
+        }
+
+        override fun MethodSpec.Builder.generateParameters(elements: Elements) {
+            addParameter(ParameterSpec.builder(elements.predicateType, "predicate").build())
+        }
+
+        override fun MethodSpec.Builder.generateBody(input: Property, elements: Elements) {
+            addStatement("long count = 0")
+            beginControlFlow("while (iterator.hasNext())")
+            beginControlFlow("if (predicate.test(iterator.\$L()))", elements.nextMethod)
+            addStatement("return")
+            endControlFlow()
+            addStatement("count++")
+            endControlFlow()
+            addStatement(
+                "check(\$S).withMessage(\$S, count).fail()",
+                input.symbol, "expected any element to match the predicate, but none of %s elements did"
+            )
+        }
+    }
+
+    class AllMatchAssertionGenerator(context: Context) : StreamAssertionGenerator(context) {
+        override fun generateName(input: Property): String {
+            return "${input.name}AllMatch"
+        }
+
+        override fun MethodSpec.Builder.generateParameters(elements: Elements) {
+            addParameter(ParameterSpec.builder(elements.predicateType, "predicate").build())
+        }
+
+        override fun MethodSpec.Builder.generateBody(input: Property, elements: Elements) {
+            beginControlFlow("for (long index = 0; iterator.hasNext(); index++)")
+            addStatement("final \$T element = iterator.\$L()", elements.elementType, elements.nextMethod)
+            beginControlFlow("if (!predicate.test(element))")
+            addFailStatement(
+                input, "expected all elements to match the predicate, but element at index %s did not: %s", "index", limits.render("element")
+            )
+            endControlFlow()
+            endControlFlow()
+        }
+    }
+
+    class StartsWithAssertionGenerator(context: Context) : StreamAssertionGenerator(context) {
+        override fun generateName(input: Property): String {
+            return "${input.name}StartsWith"
+        }
+
+        override fun MethodSpec.Builder.generateParameters(elements: Elements) {
+            addParameter(ParameterSpec.builder(elements.arrayType, "expected").build())
+            varargs(true)
+        }
+
+        override fun MethodSpec.Builder.generateBody(input: Property, elements: Elements) {
+            beginControlFlow("for (int index = 0; index < expected.length; index++)")
+            beginControlFlow("if (!iterator.hasNext())")
+            addFailStatement(
+                input, "expected to start with %s, but had only %s elements", CodeBlock.of("\$T.toString(expected)", ClassNames.ARRAYS), "index"
+            )
+            endControlFlow()
+            addStatement("final \$T element = iterator.\$L()", elements.elementType, elements.nextMethod)
+            val notEqual = elements.primitiveKind?.let { kind -> notEqualCode(kind, "element", "expected[index]") }
+                ?: CodeBlock.of("!\$T.equals(element, expected[index])", ClassNames.OBJECTS)
+            beginControlFlow("if (\$L)", notEqual)
+            addFailStatement(
+                input, "expected to start with %s, but element at index %s was %s",
+                CodeBlock.of("\$T.toString(expected)", ClassNames.ARRAYS), "index", limits.render("element")
+            )
+            endControlFlow()
+            endControlFlow()
+        }
+    }
+
+    class CountAtMostAssertionGenerator(context: Context) : StreamAssertionGenerator(context) {
+        override fun generateName(input: Property): String {
+            return "${input.name}HasCountAtMost"
+        }
+
+        override fun MethodSpec.Builder.generateParameters(elements: Elements) {
+            addParameter(ParameterSpec.builder(TypeName.LONG, "maxCount").build())
+            addStatement("\$T.checkArgument(maxCount >= 0, \$S, maxCount)", ClassNames.PRECONDITIONS, "maxCount must not be negative: %s")
+        }
+
+        // Only one element beyond maxCount is consumed
+        override fun MethodSpec.Builder.generateBody(input: Property, elements: Elements) {
+            addStatement("long count = 0")
+            beginControlFlow("while (iterator.hasNext())")
+            addStatement("iterator.\$L()", elements.nextMethod)
+            beginControlFlow("if (++count > maxCount)")
+            addFailStatement(input, "expected at most %s elements, but had more than %s", "maxCount", "maxCount")
+            endControlFlow()
+            endControlFlow()
+        }
+    }
+
+    // Primitive streams are iterated with a primitive iterator so that no element is boxed
+    protected class Elements private constructor(
+        val elementType: TypeName,
+        val iteratorType: TypeName,
+        val iteratorCode: CodeBlock,
+        val nextMethod: String,
+        val predicateType: TypeName,
+        val primitiveKind: TypeKind? = null
+    ) {
+        val arrayType: TypeName
+            get() = ArrayTypeName.of(elementType)
+
+        val isCloseable: Boolean
+            get() = iteratorCode == STREAM_ITERATOR
+
+        companion object {
+            private val STREAM_ITERATOR = CodeBlock.of("actual.iterator()")
+
+            fun of(type: DeclaredType): Elements? {
+                val element = type.asElement() as? TypeElement ?: return null
+                return when (ClassName.get(element)) {
+                    ClassNames.INT_STREAM -> primitive(TypeName.INT, TypeKind.INT, "OfInt", "nextInt", ClassNames.INT_PREDICATE)
+                    ClassNames.LONG_STREAM -> primitive(TypeName.LONG, TypeKind.LONG, "OfLong", "nextLong", ClassNames.LONG_PREDICATE)
+                    ClassNames.DOUBLE_STREAM -> primitive(TypeName.DOUBLE, TypeKind.DOUBLE, "OfDouble", "nextDouble", ClassNames.DOUBLE_PREDICATE)
+                    ClassNames.STREAM -> generic(type, STREAM_ITERATOR)
+                    ClassNames.ITERATOR -> generic(type, CodeBlock.of("actual"))
+                    ClassNames.SPLITERATOR -> generic(type, CodeBlock.of("\$T.iterator(actual)", ClassNames.SPLITERATORS))
+                    else -> null
+                }
+            }
+
+            private fun primitive(elementType: TypeName, kind: TypeKind, iterator: String, nextMethod: String, predicate: ClassName): Elements {
+                return Elements(
+                    elementType = elementType,
+                    iteratorType = ClassNames.PRIMITIVE_ITERATOR.nestedClass(iterator),
+                    iteratorCode = STREAM_ITERATOR,
+                    nextMethod = nextMethod,
+                    predicateType = predicate,
+                    primitiveKind = kind
+                )
+            }
+
+            // Wildcard element types are not supported since neither a predicate nor an array can be declared for them
+            private fun generic(type: DeclaredType, iteratorCode: CodeBlock): Elements? {
+                val typeArgument = type.typeArguments.singleOrNull() ?: return null
+                if (typeArgument.kind == TypeKind.WILDCARD) {
+                    return null
+                }
+                val elementType = TypeName.get(typeArgument)
+                return Elements(
+                    elementType = elementType,
+                    iteratorType = ParameterizedTypeName.get(ClassNames.ITERATOR, elementType),
+                    iteratorCode = iteratorCode,
+                    nextMethod = "next",
+                    predicateType = ParameterizedTypeName.get(ClassNames.PREDICATE, WildcardTypeName.supertypeOf(elementType))
+                )
+            }
+        }
+    }
+}
@@ -16,18 +16,13 @@
 
 package io.t28.auto.truth.processor.generator.method
 
-import com.google.common.truth.IntStreamSubject
-import com.google.common.truth.LongStreamSubject
-import com.google.common.truth.StreamSubject
-import com.squareup.javapoet.ClassName
 import com.squareup.javapoet.TypeName
 import io.t28.auto.truth.processor.Context
+import io.t28.auto.truth.processor.generator.ClassNames
+import io.t28.auto.truth.processor.generator.method.TypeCategory.STREAM
 import io.t28.auto.truth.processor.utils.TypeUtils
 import io.t28.auto.truth.processor.utils.isAssignable
 import java.lang.IllegalArgumentException
-import java.util.stream.IntStream
-import java.util.stream.LongStream
-import java.util.stream.Stream
 import javax.lang.model.type.DeclaredType
 import javax.lang.model.type.TypeMirror
 
@@ -35,8 +30,10 @@ class StreamSubjectGenerator(
     context: Context,
     private val utils: TypeUtils = context.utils
 ) : Truth8SubjectGenerator(context) {
+    override val categories: Set<TypeCategory> = setOf(STREAM)
+
     override fun matches(type: DeclaredType): Boolean {
-        return arrayOf(Stream::class, IntStream::class, LongStream::class)
+        return arrayOf(ClassNames.STREAM, ClassNames.INT_STREAM, ClassNames.LONG_STREAM)
             .mapNotNull { supportedClass -> utils.getDeclaredType(supportedClass) }
             .any { supportedType -> utils.isAssignableType(type, supportedType) }
     }
@@ -53,19 +50,19 @@ class StreamSubjectGenerator(
 
     override fun subjectClass(type: TypeMirror): TypeName {
         return type.accept(object : StreamTypeVisitor<TypeName> {
-            override fun visitStream(type: TypeMirror) = ClassName.get(StreamSubject::class.java)
+            override fun visitStream(type: TypeMirror) = ClassNames.STREAM_SUBJECT
 
-            override fun visitIntStream(type: TypeMirror) = ClassName.get(IntStreamSubject::class.java)
+            override fun visitIntStream(type: TypeMirror) = ClassNames.INT_STREAM_SUBJECT
 
-            override fun visitLongStream(type: TypeMirror) = ClassName.get(LongStreamSubject::class.java)
+            override fun visitLongStream(type: TypeMirror) = ClassNames.LONG_STREAM_SUBJECT
         })
     }
 
     private fun <R : Any> TypeMirror.accept(visitor: StreamTypeVisitor<R>): R {
         return when {
-            utils.isAssignable<Stream<*>>(this) -> visitor.visitStream(this)
-            utils.isAssignable<IntStream>(this) -> visitor.visitIntStream(this)
-            utils.isAssignable<LongStream>(this) -> visitor.visitLongStream(this)
+            utils.isAssignable(this, ClassNames.STREAM) -> visitor.visitStream(this)
+            utils.isAssignable(this, ClassNames.INT_STREAM) -> visitor.visitIntStream(this)
+            utils.isAssignable(this, ClassNames.LONG_STREAM) -> visitor.visitLongStream(this)
             else -> throw IllegalArgumentException("Unsupported and non-Stream type: $this")
         }
     }
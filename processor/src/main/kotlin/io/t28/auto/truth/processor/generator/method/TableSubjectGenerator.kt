@@ -16,21 +16,22 @@
 
 package io.t28.auto.truth.processor.generator.method
 
-import com.google.common.collect.Table
-import com.google.common.truth.TableSubject
-import com.squareup.javapoet.ClassName
 import com.squareup.javapoet.TypeName
 import io.t28.auto.truth.processor.Context
+import io.t28.auto.truth.processor.generator.ClassNames
+import io.t28.auto.truth.processor.generator.method.TypeCategory.TABLE
 import io.t28.auto.truth.processor.utils.isAssignable
 import javax.lang.model.type.DeclaredType
 import javax.lang.model.type.TypeMirror
 
 class TableSubjectGenerator(context: Context) : TruthSubjectGenerator(context) {
+    override val categories: Set<TypeCategory> = setOf(TABLE)
+
     override fun matches(type: DeclaredType): Boolean {
-        return context.utils.isAssignable<Table<*, *, *>>(type)
+        return context.utils.isAssignable(type, ClassNames.TABLE)
     }
 
     override fun subjectClass(type: TypeMirror): TypeName {
-        return ClassName.get(TableSubject::class.java)
+        return ClassNames.TABLE_SUBJECT
     }
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.processor.generator.method
+
+import com.squareup.javapoet.MethodSpec
+import com.squareup.javapoet.ParameterSpec
+import com.squareup.javapoet.TypeName
+import io.t28.auto.truth.AutoSubject.Assertion
+import io.t28.auto.truth.processor.Context
+import io.t28.auto.truth.processor.data.Property
+import io.t28.auto.truth.processor.generator.ClassNames
+import io.t28.auto.truth.processor.generator.method.TypeCategory.PRIMITIVE
+import io.t28.auto.truth.processor.log.debug
+import javax.lang.model.element.Modifier.PUBLIC
+import javax.lang.model.type.PrimitiveType
+import javax.lang.model.type.TypeKind.DOUBLE
+import javax.lang.model.type.TypeKind.FLOAT
+
+class ToleranceAssertionGenerator(private val context: Context) : MethodGenerator {
+    override val categories: Set<TypeCategory> = setOf(PRIMITIVE)
+
+    override val assertion: Assertion = Assertion.VALUE
+
+    override fun isSupported(property: Property): Boolean {
+        return object : SupportedTypeMatcher<Void?>() {
+            override fun visitPrimitive(type: PrimitiveType, p: Void?): Boolean {
+                return type.kind == FLOAT || type.kind == DOUBLE
+            }
+        }.visit(property.type)
+    }
+
+    override fun generate(input: Property): MethodSpec {
+        require(isSupported(input))
+        context.logger.debug(input.element) { "Generating a tolerance assertion method for ${input.type}" }
+
+        val type = TypeName.get(input.type)
+        val boxedType = if (input.type.kind == FLOAT) ClassNames.FLOAT else ClassNames.DOUBLE
+        return MethodSpec.methodBuilder("has${input.name.capitalize()}").apply {
+            addModifiers(PUBLIC)
+            addParameter(ParameterSpec.builder(type, "expected").build())
+            addParameter(ParameterSpec.builder(type, "tolerance").build())
+            addStatement("final \$T actual = \$T.checkNotNull(this.actual).\$L", type, ClassNames.PRECONDITIONS, input.symbol)
+            // An invalid tolerance falls through to Truth, which rejects it
+            beginControlFlow("if (!(tolerance >= 0 && tolerance < \$T.POSITIVE_INFINITY && \$T.abs(actual - expected) <= tolerance))",
+                boxedType, ClassNames.MATH)
+            addStatement("check(\$S).that(actual).isWithin(tolerance).of(expected)", input.symbol)
+            endControlFlow()
+        }.build()
+    }
+}
@@ -16,16 +16,20 @@
 
 package io.t28.auto.truth.processor.generator.method
 
-import com.google.common.base.Preconditions
 import com.squareup.javapoet.MethodSpec
 import com.squareup.javapoet.TypeName
+import io.t28.auto.truth.AutoSubject.Assertion
 import io.t28.auto.truth.processor.Context
 import io.t28.auto.truth.processor.data.Property
+import io.t28.auto.truth.processor.generator.ClassNames
+import io.t28.auto.truth.processor.log.debug
 import javax.lang.model.element.Modifier
 import javax.lang.model.type.DeclaredType
 import javax.lang.model.type.TypeMirror
 
 abstract class Truth8SubjectGenerator(protected val context: Context) : MethodGenerator {
+    final override val assertion: Assertion = Assertion.SUBJECT
+
     final override fun isSupported(property: Property): Boolean {
         return object : SupportedTypeMatcher<Void?>() {
             override fun visitDeclared(type: DeclaredType, p: Void?): Boolean = matches(type)
@@ -34,7 +38,7 @@ abstract class Truth8SubjectGenerator(protected val context: Context) : MethodGe
 
     final override fun generate(input: Property): MethodSpec {
         require(isSupported(input))
-        context.logger.debug(input.element, "Generating a method returns Truth8's Subject for ${input.type}")
+        context.logger.debug(input.element) { "Generating a method returns Truth8's Subject for ${input.type}" }
 
         val subjectClass = subjectClass(input.type)
         val factoryMethod = "${factoryMethodName(input.type)}()"
@@ -42,7 +46,7 @@ abstract class Truth8SubjectGenerator(protected val context: Context) : MethodGe
         return MethodSpec.methodBuilder(input.name.decapitalize()).apply {
             returns(subjectClass)
             addModifiers(Modifier.PUBLIC)
-            addStatement("final \$T actual = \$T.checkNotNull(this.actual).\$L", input.type, Preconditions::class.java, symbol)
+            addStatement("final \$T actual = \$T.checkNotNull(this.actual).\$L", input.type, ClassNames.PRECONDITIONS, symbol)
             addStatement("return check(\$S).about(\$T.\$L).that(actual)", symbol, subjectClass, factoryMethod)
         }.build()
     }
@@ -16,17 +16,21 @@
 
 package io.t28.auto.truth.processor.generator.method
 
-import com.google.common.base.Preconditions
 import com.squareup.javapoet.MethodSpec
 import com.squareup.javapoet.TypeName
+import io.t28.auto.truth.AutoSubject.Assertion
 import io.t28.auto.truth.processor.Context
 import io.t28.auto.truth.processor.data.Property
+import io.t28.auto.truth.processor.generator.ClassNames
+import io.t28.auto.truth.processor.log.debug
 import javax.lang.model.element.Modifier
 import javax.lang.model.type.ArrayType
 import javax.lang.model.type.DeclaredType
 import javax.lang.model.type.TypeMirror
 
 abstract class TruthSubjectGenerator(protected val context: Context) : MethodGenerator {
+    final override val assertion: Assertion = Assertion.SUBJECT
+
     final override fun isSupported(property: Property): Boolean {
         return object : SupportedTypeMatcher<Void?>() {
             override fun visitDeclared(type: DeclaredType, p: Void?): Boolean = matches(type)
@@ -37,14 +41,14 @@ abstract class TruthSubjectGenerator(protected val context: Context) : MethodGen
 
     final override fun generate(input: Property): MethodSpec {
         require(isSupported(input))
-        context.logger.debug(input.element, "Generating a method returns Subject for ${input.type}")
+        context.logger.debug(input.element) { "Generating a method returns Subject for ${input.type}" }
 
         val subjectClass = subjectClass(input.type)
         val symbol = input.symbol
         return MethodSpec.methodBuilder(input.name.decapitalize()).apply {
             returns(subjectClass)
             addModifiers(Modifier.PUBLIC)
-            addStatement("final \$T actual = \$T.checkNotNull(this.actual).\$L", input.type, Preconditions::class.java, input.symbol)
+            addStatement("final \$T actual = \$T.checkNotNull(this.actual).\$L", input.type, ClassNames.PRECONDITIONS, input.symbol)
             addStatement("return check(\$S).that(actual)", symbol)
         }.build()
     }
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.processor.generator.method
+
+enum class TypeCategory {
+    BOOLEAN,
+    BOXED_BOOLEAN,
+    PRIMITIVE,
+    ARRAY,
+    ITERABLE,
+    MAP,
+    MULTIMAP,
+    TABLE,
+    OPTIONAL,
+    GUAVA_OPTIONAL,
+    STREAM,
+    ITERATOR,
+    PATH,
+    CLASS,
+    ENUM_CONSTANT,
+    OBJECT,
+    UNSUPPORTED
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.processor.generator.method
+
+import io.t28.auto.truth.processor.Context
+import io.t28.auto.truth.processor.data.Property
+import io.t28.auto.truth.processor.generator.ClassNames
+import io.t28.auto.truth.processor.generator.method.TypeCategory.ARRAY
+import io.t28.auto.truth.processor.generator.method.TypeCategory.BOOLEAN
+import io.t28.auto.truth.processor.generator.method.TypeCategory.BOXED_BOOLEAN
+import io.t28.auto.truth.processor.generator.method.TypeCategory.CLASS
+import io.t28.auto.truth.processor.generator.method.TypeCategory.ENUM_CONSTANT
+import io.t28.auto.truth.processor.generator.method.TypeCategory.GUAVA_OPTIONAL
+import io.t28.auto.truth.processor.generator.method.TypeCategory.ITERABLE
+import io.t28.auto.truth.processor.generator.method.TypeCategory.ITERATOR
+import io.t28.auto.truth.processor.generator.method.TypeCategory.MAP
+import io.t28.auto.truth.processor.generator.method.TypeCategory.MULTIMAP
+import io.t28.auto.truth.processor.generator.method.TypeCategory.OBJECT
+import io.t28.auto.truth.processor.generator.method.TypeCategory.OPTIONAL
+import io.t28.auto.truth.processor.generator.method.TypeCategory.PATH
+import io.t28.auto.truth.processor.generator.method.TypeCategory.PRIMITIVE
+import io.t28.auto.truth.processor.generator.method.TypeCategory.STREAM
+import io.t28.auto.truth.processor.generator.method.TypeCategory.TABLE
+import io.t28.auto.truth.processor.generator.method.TypeCategory.UNSUPPORTED
+import io.t28.auto.truth.processor.utils.TypeUtils
+import io.t28.auto.truth.processor.utils.isAssignable
+import java.util.EnumSet
+import javax.lang.model.type.ArrayType
+import javax.lang.model.type.DeclaredType
+import javax.lang.model.type.ErrorType
+import javax.lang.model.type.PrimitiveType
+import javax.lang.model.type.TypeKind
+import javax.lang.model.type.TypeMirror
+import javax.lang.model.type.TypeVariable
+import javax.lang.model.util.SimpleTypeVisitor8
+
+class TypeClassifier(context: Context) {
+    private val visitor = CategoryVisitor(context.utils)
+
+    // A type may belong to several categories (e.g. Path is Iterable), and each generator decides by isSupported
+    fun classify(property: Property): Set<TypeCategory> {
+        if (property is Property.EnumConstant) {
+            return ENUM_CONSTANT_CATEGORIES
+        }
+        return visitor.visit(property.type)
+    }
+
+    companion object {
+        private val ENUM_CONSTANT_CATEGORIES: Set<TypeCategory> = EnumSet.of(ENUM_CONSTANT)
+        private val BOOLEAN_CATEGORIES: Set<TypeCategory> = EnumSet.of(BOOLEAN)
+        private val PRIMITIVE_CATEGORIES: Set<TypeCategory> = EnumSet.of(PRIMITIVE)
+        private val ARRAY_CATEGORIES: Set<TypeCategory> = EnumSet.of(ARRAY)
+        private val OBJECT_CATEGORIES: Set<TypeCategory> = EnumSet.of(OBJECT)
+        private val UNSUPPORTED_CATEGORIES: Set<TypeCategory> = EnumSet.of(UNSUPPORTED)
+    }
+
+    private class CategoryVisitor(private val utils: TypeUtils) : SimpleTypeVisitor8<Set<TypeCategory>, Void?>(UNSUPPORTED_CATEGORIES) {
+        override fun visitPrimitive(type: PrimitiveType, p: Void?): Set<TypeCategory> {
+            return if (type.kind == TypeKind.BOOLEAN) BOOLEAN_CATEGORIES else PRIMITIVE_CATEGORIES
+        }
+
+        override fun visitArray(type: ArrayType, p: Void?): Set<TypeCategory> {
+            return ARRAY_CATEGORIES
+        }
+
+        override fun visitDeclared(type: DeclaredType, p: Void?): Set<TypeCategory> {
+            if (utils.isAssignable(type, ClassNames.VOID)) {
+                return UNSUPPORTED_CATEGORIES
+            }
+            val categories = EnumSet.noneOf(TypeCategory::class.java)
+            if (utils.isAssignable(type, ClassNames.BOOLEAN)) categories.add(BOXED_BOOLEAN)
+            if (utils.isAssignable(type, ClassNames.CLASS)) categories.add(CLASS)
+            if (utils.isAssignable(type, ClassNames.PATH)) categories.add(PATH)
+            if (utils.isAssignable(type, ClassNames.ITERABLE)) categories.add(ITERABLE)
+            if (utils.isAssignable(type, ClassNames.MAP)) categories.add(MAP)
+            if (type.isOptional()) categories.add(OPTIONAL)
+            if (type.isStream()) categories.add(STREAM)
+            if (utils.isAssignable(type, ClassNames.GUAVA_OPTIONAL)) categories.add(GUAVA_OPTIONAL)
+            if (utils.isAssignable(type, ClassNames.MULTIMAP)) categories.add(MULTIMAP)
+            if (utils.isAssignable(type, ClassNames.TABLE)) categories.add(TABLE)
+            if (utils.isAssignable(type, ClassNames.ITERATOR) || utils.isAssignable(type, ClassNames.SPLITERATOR)) categories.add(ITERATOR)
+            return if (categories.isEmpty()) OBJECT_CATEGORIES else categories
+        }
+
+        override fun visitError(type: ErrorType, p: Void?): Set<TypeCategory> {
+            return OBJECT_CATEGORIES
+        }
+
+        override fun visitTypeVariable(type: TypeVariable, p: Void?): Set<TypeCategory> {
+            return OBJECT_CATEGORIES
+        }
+
+        private fun TypeMirror.isOptional(): Boolean {
+            return utils.isAssignable(this, ClassNames.OPTIONAL) ||
+                utils.isAssignable(this, ClassNames.OPTIONAL_INT) ||
+                utils.isAssignable(this, ClassNames.OPTIONAL_LONG) ||
+                utils.isAssignable(this, ClassNames.OPTIONAL_DOUBLE)
+        }
+
+        private fun TypeMirror.isStream(): Boolean {
+            return utils.isAssignable(this, ClassNames.STREAM) ||
+                utils.isAssignable(this, ClassNames.INT_STREAM) ||
+                utils.isAssignable(this, ClassNames.LONG_STREAM) ||
+                utils.isAssignable(this, ClassNames.DOUBLE_STREAM)
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.processor.index
+
+import com.squareup.javapoet.ClassName
+import io.t28.auto.truth.processor.AutoTruthProcessor
+import io.t28.auto.truth.processor.Options
+import io.t28.auto.truth.processor.data.SubjectClass
+import io.t28.auto.truth.processor.log.Logger
+import io.t28.auto.truth.processor.log.debug
+import java.io.IOException
+import java.security.MessageDigest
+import javax.annotation.processing.Filer
+import javax.lang.model.element.TypeElement
+import javax.tools.StandardLocation.CLASS_OUTPUT
+import javax.tools.StandardLocation.CLASS_PATH
+
+// Each value object has its own resource, so that a lookup opens a single known path instead of scanning the class path
+class ClassPathSubjectIndex(
+    private val filer: Filer,
+    private val options: Options,
+    private val logger: Logger
+) : SubjectIndex {
+    companion object {
+        const val INDEX_DIRECTORY = "META-INF/auto-truth/subjects"
+
+        private const val SIGNATURE_LENGTH = 16
+        private val SEPARATOR = Regex("\\s+")
+    }
+
+    override val isEnabled: Boolean = true
+
+    // Keyed by the qualified name of value objects, since elements are not reused across rounds
+    private val classPathEntries = mutableMapOf<String, SubjectIndex.Entry?>()
+    private val recordedEntries = mutableMapOf<String, SubjectIndex.Entry>()
+
+    override fun find(valueObject: TypeElement): SubjectIndex.Entry? {
+        val name = "${valueObject.qualifiedName}"
+        recordedEntries[name]?.let { entry -> return entry }
+        if (!classPathEntries.containsKey(name)) {
+            classPathEntries[name] = read(name)
+        }
+        return classPathEntries[name]
+    }
+
+    // Covers everything the generated source depends on, so that an outdated subject on the class path is never reused
+    override fun signature(subjectClass: SubjectClass): String {
+        val selection = subjectClass.selection
+        val lines = listOf(
+            AutoTruthProcessor::class.java.`package`?.implementationVersion.orEmpty(),
+            subjectClass.qualifiedName,
+            selection.includes.sorted().joinToString(","),
+            selection.excludes.sorted().joinToString(","),
+            selection.assertions.map { assertion -> assertion.name }.sorted().joinToString(","),
+            "${options.isBaseSubjectsEnabled},${options.maxRenderedElements},${options.maxRenderedLength}"
+        ) + subjectClass.valueObject.findProperties().map { property -> "${property.symbol}:${property.type}" }
+        val digest = MessageDigest.getInstance("SHA-256").digest(lines.joinToString("\n").toByteArray(Charsets.UTF_8))
+        return digest.joinToString("") { byte -> "%02x".format(byte) }.take(SIGNATURE_LENGTH)
+    }
+
+    override fun record(subjectClass: SubjectClass) {
+        val name = "${subjectClass.valueObject.element.qualifiedName}"
+        if (recordedEntries.containsKey(name)) {
+            logger.debug(subjectClass.element) { "$name is already indexed by ${recordedEntries[name]?.subject}" }
+            return
+        }
+        val entry = SubjectIndex.Entry(
+            subject = ClassName.get(subjectClass.packageName, subjectClass.simpleName),
+            signature = signature(subjectClass),
+            isOnClassPath = false
+        )
+        recordedEntries[name] = entry
+        try {
+            val resource = filer.createResource(CLASS_OUTPUT, "", "$INDEX_DIRECTORY/$name", subjectClass.element)
+            resource.openWriter().use { writer ->
+                writer.write("${entry.subject} ${entry.signature}\n")
+            }
+        } catch (e: IOException) {
+            logger.warn(subjectClass.element, "Failed to write subject index for %s: %s", name, e.message)
+        }
+    }
+
+    private fun read(name: String): SubjectIndex.Entry? {
+        return try {
+            val content = filer.getResource(CLASS_PATH, "", "$INDEX_DIRECTORY/$name").getCharContent(true)
+            val values = "$content".trim().split(SEPARATOR)
+            if (values.size != 2) {
+                logger.warn("Ignoring malformed subject index for %s", name)
+                return null
+            }
+            SubjectIndex.Entry(subject = ClassName.bestGuess(values[0]), signature = values[1], isOnClassPath = true)
+        } catch (e: IOException) {
+            // Most value objects are not indexed, which is reported as a missing resource
+            null
+        } catch (expected: RuntimeException) {
+            // javac 8 fails to wrap a missing resource when the compiler API provides the file manager
+            if (expected !is NullPointerException && expected.cause !is NullPointerException) {
+                throw expected
+            }
+            null
+        } catch (e: IllegalArgumentException) {
+            logger.warn("Ignoring malformed subject index for %s: %s", name, e.message)
+            null
+        }
+    }
+}
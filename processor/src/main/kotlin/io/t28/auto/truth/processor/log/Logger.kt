@@ -16,9 +16,12 @@
 
 package io.t28.auto.truth.processor.log
 
+import java.io.Closeable
 import javax.lang.model.element.Element
 
-interface Logger {
+interface Logger : Closeable {
+    fun isEnabled(level: Level): Boolean
+
     fun debug(message: String, vararg args: Any?)
 
     fun debug(element: Element, message: String, vararg args: Any?)
@@ -31,3 +34,16 @@ interface Logger {
 
     fun error(element: Element, message: String, vararg args: Any?)
 }
+
+// Messages are built only when debug is enabled, so that disabled logging costs a single check per call
+inline fun Logger.debug(message: () -> String) {
+    if (isEnabled(Level.DEBUG)) {
+        debug("%s", message())
+    }
+}
+
+inline fun Logger.debug(element: Element, message: () -> String) {
+    if (isEnabled(Level.DEBUG)) {
+        debug(element, "%s", message())
+    }
+}
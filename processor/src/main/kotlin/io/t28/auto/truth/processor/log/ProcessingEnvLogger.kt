@@ -16,7 +16,12 @@
 
 package io.t28.auto.truth.processor.log
 
+import io.t28.auto.truth.processor.Options
 import io.t28.auto.truth.processor.extensions.safeFormat
+import java.io.IOException
+import java.io.Writer
+import java.nio.file.Files
+import java.nio.file.Path
 import javax.annotation.processing.Messager
 import javax.lang.model.element.Element
 import javax.tools.Diagnostic.Kind
@@ -24,25 +29,45 @@ import javax.tools.Diagnostic.Kind.ERROR
 import javax.tools.Diagnostic.Kind.NOTE
 import javax.tools.Diagnostic.Kind.WARNING
 
-class ProcessingEnvLogger(private val messager: Messager, private val debug: Boolean) : Logger {
+// javac keeps every diagnostic in memory, so debug messages are capped unless they are written to a file
+class ProcessingEnvLogger(
+    private val messager: Messager,
+    private val level: Level,
+    private val debugLimit: Int = Options.DEFAULT_DEBUG_LIMIT,
+    private val debugFile: Path? = null
+) : Logger {
+    constructor(messager: Messager, debug: Boolean) : this(messager, if (debug) Level.DEBUG else Level.WARN)
+
+    private var debugCount = 0
+    private var debugWriter: Writer? = null
+    private var isDebugFileFailed = false
+
+    override fun isEnabled(level: Level): Boolean {
+        return level >= this.level
+    }
+
     override fun debug(message: String, vararg args: Any?) {
-        if (debug) {
-            print(NOTE, message, *args)
+        if (isEnabled(Level.DEBUG)) {
+            printDebug(null, message.safeFormat(*args))
         }
     }
 
     override fun debug(element: Element, message: String, vararg args: Any?) {
-        if (debug) {
-            print(NOTE, element, message, *args)
+        if (isEnabled(Level.DEBUG)) {
+            printDebug(element, message.safeFormat(*args))
         }
     }
 
     override fun warn(message: String, vararg args: Any?) {
-        print(WARNING, message, *args)
+        if (isEnabled(Level.WARN)) {
+            print(WARNING, message, *args)
+        }
     }
 
     override fun warn(element: Element, message: String, vararg args: Any?) {
-        print(WARNING, element, message, *args)
+        if (isEnabled(Level.WARN)) {
+            print(WARNING, element, message, *args)
+        }
     }
 
     override fun error(message: String, vararg args: Any?) {
@@ -53,6 +78,59 @@ class ProcessingEnvLogger(private val messager: Messager, private val debug: Boo
         print(ERROR, element, message, *args)
     }
 
+    @Synchronized
+    override fun close() {
+        try {
+            debugWriter?.close()
+        } catch (e: IOException) {
+            print(WARNING, "Failed to close debug log %s: %s", debugFile, e.message)
+        }
+        debugWriter = null
+        if (debugCount > debugLimit) {
+            print(NOTE, "%d debug messages were dropped after the first %d; pass -A%s or -A%s to see all of them",
+                debugCount - debugLimit, debugLimit, Options.DEBUG_LIMIT, Options.DEBUG_FILE)
+        }
+        debugCount = 0
+    }
+
+    @Synchronized
+    private fun printDebug(element: Element?, message: String) {
+        if (writeDebug(element, message)) {
+            return
+        }
+        debugCount++
+        if (debugCount > debugLimit) {
+            return
+        }
+        if (element == null) {
+            messager.printMessage(NOTE, message)
+        } else {
+            messager.printMessage(NOTE, message, element)
+        }
+    }
+
+    private fun writeDebug(element: Element?, message: String): Boolean {
+        val file = debugFile ?: return false
+        if (isDebugFileFailed) {
+            return false
+        }
+        return try {
+            val writer = debugWriter ?: openDebugWriter(file).also { writer -> debugWriter = writer }
+            writer.write(if (element == null) message else "$element: $message")
+            writer.write(System.lineSeparator())
+            true
+        } catch (e: IOException) {
+            isDebugFileFailed = true
+            print(WARNING, "Failed to write debug log %s: %s", file, e.message)
+            false
+        }
+    }
+
+    private fun openDebugWriter(file: Path): Writer {
+        file.toAbsolutePath().parent?.let { directory -> Files.createDirectories(directory) }
+        return Files.newBufferedWriter(file, Charsets.UTF_8)
+    }
+
     private fun print(kind: Kind, message: String, vararg args: Any?) {
         messager.printMessage(kind, message.safeFormat(*args))
     }
@@ -18,8 +18,12 @@ package io.t28.auto.truth.processor.processor
 
 import io.t28.auto.truth.AutoSubject
 import io.t28.auto.truth.processor.Context
+import io.t28.auto.truth.processor.data.BaseSubjectClass
+import io.t28.auto.truth.processor.data.PropertySelection
 import io.t28.auto.truth.processor.data.SubjectClass
 import io.t28.auto.truth.processor.data.ValueObjectClass
+import io.t28.auto.truth.processor.extensions.asEnumName
+import io.t28.auto.truth.processor.extensions.asList
 import io.t28.auto.truth.processor.extensions.asString
 import io.t28.auto.truth.processor.extensions.asType
 import io.t28.auto.truth.processor.extensions.asTypeElement
@@ -27,22 +31,34 @@ import io.t28.auto.truth.processor.extensions.findAnnotationMirror
 import io.t28.auto.truth.processor.extensions.getAnnotationValue
 import io.t28.auto.truth.processor.extensions.isValidClassPrefix
 import io.t28.auto.truth.processor.extensions.isValidClassSuffix
+import javax.lang.model.element.AnnotationMirror
+import javax.lang.model.element.Element
 import javax.lang.model.element.TypeElement
 import javax.lang.model.type.DeclaredType
 
-class AutoSubjectProcessor(context: Context) : Processor<TypeElement, SubjectClass> {
+class AutoSubjectProcessor(
+    context: Context,
+    private val valueObjectProcessor: ValueObjectProcessor = ValueObjectProcessor(context.utils, context.stats)
+) : Processor<TypeElement, SubjectClass> {
     private val logger = context.logger
+    private val isBaseSubjectsEnabled = context.options.isBaseSubjectsEnabled
+
+    // Qualified names of top-level types compiled by this compilation, accumulated over rounds
+    private val sourceTypes = mutableSetOf<String>()
 
     companion object {
         private const val VALUE_OBJECT_CLASS = "value"
         private const val SUBJECT_CLASS_PREFIX = "prefix"
         private const val SUBJECT_CLASS_SUFFIX = "suffix"
+        private const val INCLUDED_PROPERTIES = "include"
+        private const val EXCLUDED_PROPERTIES = "exclude"
+        private const val ALLOWED_ASSERTIONS = "assertions"
     }
 
     override fun process(element: TypeElement): SubjectClass {
         val annotation = element.findAnnotationMirror<AutoSubject>() ?: run {
-            logger.error(element, "Required annotation %s is missing", AutoSubject::class.simpleName)
-            throw IllegalStateException("Required annotation ${AutoSubject::class.simpleName} does not exist ${element.qualifiedName}")
+            logger.error(element, "Required annotation %s is missing", AutoSubject::class.java.simpleName)
+            throw IllegalStateException("Required annotation ${AutoSubject::class.java.simpleName} does not exist ${element.qualifiedName}")
         }
 
         val valueObjectType = requireNotNull(annotation.getAnnotationValue(VALUE_OBJECT_CLASS)).asType()
@@ -58,11 +74,44 @@ class AutoSubjectProcessor(context: Context) : Processor<TypeElement, SubjectCla
             throw ProcessingException(element, "Suffix given within @AutoTruth is invalid: %s", classSuffix)
         }
 
+        val selection = annotation.getSelection()
+        val valueObject = valueObjectProcessor.process(valueObjectElement)
         return SubjectClass(
             prefix = classPrefix,
             suffix = classSuffix,
             element = element,
-            valueObject = ValueObjectClass(valueObjectElement)
+            valueObject = valueObject,
+            // A base subject asserts every inherited property, so it cannot be shared by a subject with its own selection
+            baseSubject = if (isBaseSubjectsEnabled && selection.isAll) valueObject.findBaseSubject() else null,
+            selection = selection
+        )
+    }
+
+    fun addRootElements(rootElements: Collection<Element>) {
+        rootElements.filterIsInstance<TypeElement>().mapTo(sourceTypes) { element -> "${element.qualifiedName}" }
+    }
+
+    private fun AnnotationMirror.getSelection(): PropertySelection {
+        return PropertySelection(
+            includes = getAnnotationValue(INCLUDED_PROPERTIES)?.asList().orEmpty().map { value -> value.asString() }.toSet(),
+            excludes = getAnnotationValue(EXCLUDED_PROPERTIES)?.asList().orEmpty().map { value -> value.asString() }.toSet(),
+            assertions = getAnnotationValue(ALLOWED_ASSERTIONS)?.asList().orEmpty().map { value ->
+                AutoSubject.Assertion.valueOf(value.asEnumName())
+            }.toSet()
         )
     }
+
+    // Generic supertypes are excluded, since their properties may depend on type arguments given by each subclass.
+    // Supertypes on the class path are excluded as well, since another compilation may generate the same base subject.
+    private fun ValueObjectClass.findBaseSubject(): BaseSubjectClass? {
+        val supertype = supertypes.firstOrNull { supertype ->
+            supertype.element.typeParameters.isEmpty() && supertype.properties.isNotEmpty() && supertype.element.isSourceType()
+        } ?: return null
+        return BaseSubjectClass(supertype, supertype.findBaseSubject())
+    }
+
+    private fun TypeElement.isSourceType(): Boolean {
+        val topLevelElement = generateSequence(this) { element -> element.enclosingElement as? TypeElement }.last()
+        return "${topLevelElement.qualifiedName}" in sourceTypes
+    }
 }
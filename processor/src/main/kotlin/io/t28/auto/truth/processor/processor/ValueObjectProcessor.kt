@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.processor.processor
+
+import io.t28.auto.truth.processor.data.Property
+import io.t28.auto.truth.processor.data.ValueObjectClass
+import io.t28.auto.truth.processor.stats.DisabledStats
+import io.t28.auto.truth.processor.stats.Phase
+import io.t28.auto.truth.processor.stats.Stats
+import io.t28.auto.truth.processor.stats.measure
+import io.t28.auto.truth.processor.utils.Cache
+import io.t28.auto.truth.processor.utils.TypeUtils
+import javax.lang.model.element.TypeElement
+import javax.lang.model.type.DeclaredType
+import javax.lang.model.type.ExecutableType
+import javax.lang.model.type.TypeKind
+import javax.lang.model.type.TypeMirror
+
+class ValueObjectProcessor(
+    private val utils: TypeUtils,
+    private val stats: Stats = DisabledStats
+) : Processor<TypeElement, ValueObjectClass> {
+    // Supertypes are cached as well, so that a base class shared by many value objects is scanned once per round
+    private val valueObjects = Cache<String, ValueObjectClass>()
+
+    var scanCount: Int = 0
+        private set
+
+    companion object {
+        // Properties declared by JDK and Kotlin types (e.g. Object, Enum, Collection) are not part of value objects
+        private val PLATFORM_PACKAGES = listOf("java.", "javax.", "kotlin.")
+    }
+
+    override fun process(element: TypeElement): ValueObjectClass {
+        return valueObjects.getOrPut("${element.qualifiedName}") { qualifiedName ->
+            val supertypes = element.supertypeElements().map { supertype -> process(supertype) }
+            scanCount++
+            stats.measure(Phase.PROPERTY_EXTRACTION, qualifiedName) {
+                val type = element.asType() as DeclaredType
+                val inheritedProperties = supertypes.flatMap { supertype -> supertype.properties }.map { property ->
+                    property.asMemberOf(type)
+                }
+                ValueObjectClass(element, supertypes, inheritedProperties)
+            }
+        }
+    }
+
+    fun clear() {
+        valueObjects.clear()
+        scanCount = 0
+    }
+
+    private fun TypeElement.supertypeElements(): List<TypeElement> {
+        return (listOf(superclass) + interfaces)
+            .filter { supertype -> supertype.kind == TypeKind.DECLARED }
+            .map { supertype -> (supertype as DeclaredType).asElement() as TypeElement }
+            .filterNot { supertype -> PLATFORM_PACKAGES.any { "${supertype.qualifiedName}".startsWith(it) } }
+    }
+
+    // Type variables of a generic supertype are resolved against the value object, e.g. T getId() of Entity<Long> returns Long
+    private fun Property.asMemberOf(type: DeclaredType): Property {
+        val declaringElement = element.enclosingElement as TypeElement
+        if (declaringElement.typeParameters.isEmpty()) {
+            return this
+        }
+        val memberType: TypeMirror = utils.asMemberOf(type, element)
+        return when (this) {
+            is Property.Field -> Property.Field(element, memberType)
+            is Property.Getter -> Property.Getter(element, (memberType as ExecutableType).returnType)
+            is Property.EnumConstant -> this
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.processor.stats
+
+object DisabledStats : Stats {
+    override val isEnabled: Boolean = false
+
+    override fun recordInit(nanos: Long, loadedClassCount: Long) = Unit
+
+    override fun startRound() = Unit
+
+    override fun record(phase: Phase, className: String?, nanos: Long) = Unit
+
+    override fun enter() = Unit
+
+    override fun exit(phase: Phase, className: String?, nanos: Long) = Unit
+
+    override fun countGenerator(name: String) = Unit
+
+    override fun recordFile(className: String, methodCount: Int, byteCount: Int) = Unit
+
+    override fun toJson(): String = "{}"
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.processor.stats
+
+import java.util.ArrayDeque
+
+// Rendering may run on worker threads, so every mutation is synchronized
+class RecordingStats : Stats {
+    private val rounds = mutableListOf<RoundStats>()
+    private val generators = sortedMapOf<String, Long>()
+    private var init: InitStats? = null
+
+    // Time spent in nested phases of each thread, so that a phase is recorded exclusive of the phases measured inside it
+    private val nestedNanos = ThreadLocal.withInitial { ArrayDeque<LongArray>() }
+
+    override val isEnabled: Boolean = true
+
+    @Synchronized
+    override fun recordInit(nanos: Long, loadedClassCount: Long) {
+        init = InitStats(nanos, loadedClassCount)
+    }
+
+    @Synchronized
+    override fun startRound() {
+        rounds += RoundStats(rounds.size + 1)
+    }
+
+    @Synchronized
+    override fun record(phase: Phase, className: String?, nanos: Long) {
+        val round = currentRound()
+        round.phases.add(phase, nanos)
+        if (className != null) {
+            round.classOf(className).phases.add(phase, nanos)
+        }
+    }
+
+    override fun enter() {
+        nestedNanos.get().push(LongArray(1))
+    }
+
+    override fun exit(phase: Phase, className: String?, nanos: Long) {
+        val frames = nestedNanos.get()
+        val nested = frames.pop()[0]
+        frames.peek()?.let { parent -> parent[0] += nanos }
+        record(phase, className, nanos - nested)
+    }
+
+    @Synchronized
+    override fun countGenerator(name: String) {
+        generators[name] = (generators[name] ?: 0L) + 1
+    }
+
+    @Synchronized
+    override fun recordFile(className: String, methodCount: Int, byteCount: Int) {
+        currentRound().classOf(className).apply {
+            this.methodCount = methodCount
+            this.byteCount = byteCount
+        }
+    }
+
+    @Synchronized
+    override fun toJson(): String {
+        val totals = mutableMapOf<Phase, Long>()
+        rounds.forEach { round ->
+            round.phases.forEach { (phase, nanos) -> totals.add(phase, nanos) }
+        }
+        return buildString {
+            append('{')
+            init?.let { (nanos, loadedClassCount) ->
+                append("\"init\":{\"nanos\":").append(nanos)
+                append(",\"loadedClasses\":").append(loadedClassCount)
+                append("},")
+            }
+            append("\"totals\":").appendPhases(totals)
+            append(",\"generators\":{")
+            generators.entries.forEachIndexed { index, (name, count) ->
+                if (index > 0) append(',')
+                appendString(name).append(':').append(count)
+            }
+            append("},\"rounds\":[")
+            rounds.forEachIndexed { index, round ->
+                if (index > 0) append(',')
+                appendRound(round)
+            }
+            append("]}")
+        }
+    }
+
+    private fun currentRound(): RoundStats {
+        if (rounds.isEmpty()) {
+            startRound()
+        }
+        return rounds.last()
+    }
+
+    private fun StringBuilder.appendRound(round: RoundStats): StringBuilder {
+        append("{\"round\":").append(round.number)
+        append(",\"phases\":").appendPhases(round.phases)
+        append(",\"classes\":[")
+        round.classes.entries.forEachIndexed { index, (name, stats) ->
+            if (index > 0) append(',')
+            append("{\"name\":").appendString(name)
+            append(",\"phases\":").appendPhases(stats.phases)
+            append(",\"methods\":").append(stats.methodCount)
+            append(",\"bytes\":").append(stats.byteCount)
+            append('}')
+        }
+        return append("]}")
+    }
+
+    // Phases are written in declaration order, so that reports can be diffed line by line
+    private fun StringBuilder.appendPhases(phases: Map<Phase, Long>): StringBuilder {
+        append('{')
+        Phase.values().filter { phases.containsKey(it) }.forEachIndexed { index, phase ->
+            if (index > 0) append(',')
+            appendString(phase.key).append(':').append(phases.getValue(phase))
+        }
+        return append('}')
+    }
+
+    private fun StringBuilder.appendString(value: String): StringBuilder {
+        append('"')
+        value.forEach { char ->
+            when (char) {
+                '"' -> append("\\\"")
+                '\\' -> append("\\\\")
+                '\n' -> append("\\n")
+                '\r' -> append("\\r")
+                '\t' -> append("\\t")
+                else -> if (char < ' ') append("\\u%04x".format(char.toInt())) else append(char)
+            }
+        }
+        return append('"')
+    }
+
+    private fun MutableMap<Phase, Long>.add(phase: Phase, nanos: Long) {
+        this[phase] = (this[phase] ?: 0L) + nanos
+    }
+
+    private data class InitStats(val nanos: Long, val loadedClassCount: Long)
+
+    private class RoundStats(val number: Int) {
+        val phases = mutableMapOf<Phase, Long>()
+        val classes = linkedMapOf<String, ClassStats>()
+
+        fun classOf(name: String): ClassStats {
+            return classes.getOrPut(name) { ClassStats() }
+        }
+    }
+
+    private class ClassStats {
+        val phases = mutableMapOf<Phase, Long>()
+        var methodCount = 0
+        var byteCount = 0
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.processor.stats
+
+interface Stats {
+    val isEnabled: Boolean
+
+    fun recordInit(nanos: Long, loadedClassCount: Long)
+
+    fun startRound()
+
+    fun record(phase: Phase, className: String?, nanos: Long)
+
+    fun enter()
+
+    fun exit(phase: Phase, className: String?, nanos: Long)
+
+    fun countGenerator(name: String)
+
+    fun recordFile(className: String, methodCount: Int, byteCount: Int)
+
+    fun toJson(): String
+}
+
+inline fun <T> Stats.measure(phase: Phase, className: String? = null, block: () -> T): T {
+    if (!isEnabled) {
+        return block()
+    }
+    val start = System.nanoTime()
+    enter()
+    try {
+        return block()
+    } finally {
+        exit(phase, className, System.nanoTime() - start)
+    }
+}
+
+// The class name is taken from the result, and the time is recorded without a class when the block throws
+inline fun <T : Any> Stats.measureResult(phase: Phase, className: (T) -> String, block: () -> T): T {
+    if (!isEnabled) {
+        return block()
+    }
+    val start = System.nanoTime()
+    var result: T? = null
+    enter()
+    try {
+        result = block()
+        return result
+    } finally {
+        exit(phase, result?.let(className), System.nanoTime() - start)
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.processor.utils
+
+class Cache<K : Any, V> {
+    private val entries = mutableMapOf<K, V>()
+    private var hitCount = 0L
+    private var missCount = 0L
+
+    val stats: CacheStats
+        get() = CacheStats(hitCount = hitCount, missCount = missCount)
+
+    val size: Int
+        get() = entries.size
+
+    fun getOrPut(key: K, compute: (K) -> V): V {
+        // Use containsKey instead of getOrPut, since null is a valid value to be cached
+        if (entries.containsKey(key)) {
+            hitCount++
+            @Suppress("UNCHECKED_CAST")
+            return entries[key] as V
+        }
+        missCount++
+        return compute(key).also { value -> entries[key] = value }
+    }
+
+    fun clear() {
+        entries.clear()
+    }
+}
+
+data class CacheStats(val hitCount: Long, val missCount: Long) {
+    val requestCount: Long
+        get() = hitCount + missCount
+
+    operator fun plus(other: CacheStats): CacheStats {
+        return CacheStats(hitCount = hitCount + other.hitCount, missCount = missCount + other.missCount)
+    }
+}
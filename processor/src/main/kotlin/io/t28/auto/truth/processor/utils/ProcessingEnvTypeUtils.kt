@@ -16,42 +16,65 @@
 
 package io.t28.auto.truth.processor.utils
 
+import com.squareup.javapoet.ClassName
 import javax.lang.model.element.Element
 import javax.lang.model.type.ArrayType
 import javax.lang.model.type.DeclaredType
 import javax.lang.model.type.TypeMirror
 import javax.lang.model.util.Elements
 import javax.lang.model.util.Types
-import kotlin.reflect.KClass
 
 class ProcessingEnvTypeUtils(private val types: Types, private val elements: Elements) : TypeUtils {
+    // Resolved types and assignability results are only valid within a round
+    private val declaredTypes = Cache<ClassName, DeclaredType?>()
+    private val assignableTypes = Cache<Pair<TypeMirror, TypeMirror>, Boolean>()
+
+    val declaredTypeStats: CacheStats
+        get() = declaredTypes.stats
+
+    val assignableTypeStats: CacheStats
+        get() = assignableTypes.stats
+
     override fun isSameType(type1: TypeMirror, type2: TypeMirror): Boolean {
         return types.isSameType(type1, type2)
     }
 
     override fun isAssignableType(type1: TypeMirror, type2: TypeMirror): Boolean {
-        return types.isAssignable(type1, type2)
+        return assignableTypes.getOrPut(type1 to type2) { (type, target) ->
+            types.isAssignable(type, target)
+        }
     }
 
     override fun getArrayType(componentType: TypeMirror): ArrayType {
         return types.getArrayType(componentType)
     }
 
-    override fun getDeclaredType(type: KClass<*>): DeclaredType? {
-        val typeArgs = type.typeParameters.map {
-            types.getWildcardType(null, null)
-        }.toTypedArray()
-
-        return elements.getTypeElement(type.java.canonicalName)?.let { element ->
-            return try {
-                types.getDeclaredType(element, *typeArgs)
-            } catch (e: IllegalArgumentException) {
-                types.getDeclaredType(element)
-            }
-        }
+    override fun getDeclaredType(className: ClassName): DeclaredType? {
+        return declaredTypes.getOrPut(className) { resolveDeclaredType(it) }
     }
 
     override fun asElement(type: TypeMirror): Element {
         return types.asElement(type)
     }
+
+    override fun asMemberOf(containing: DeclaredType, element: Element): TypeMirror {
+        return types.asMemberOf(containing, element)
+    }
+
+    override fun directSupertypes(type: TypeMirror): List<TypeMirror> {
+        return types.directSupertypes(type)
+    }
+
+    override fun clearCache() {
+        declaredTypes.clear()
+        assignableTypes.clear()
+    }
+
+    private fun resolveDeclaredType(className: ClassName): DeclaredType? {
+        val element = elements.getTypeElement(className.canonicalName()) ?: return null
+        val typeArgs = element.typeParameters.map {
+            types.getWildcardType(null, null)
+        }.toTypedArray()
+        return types.getDeclaredType(element, *typeArgs)
+    }
 }
@@ -16,11 +16,13 @@
 
 package io.t28.auto.truth.processor.utils
 
+import com.squareup.javapoet.ClassName
+import java.util.ArrayDeque
 import javax.lang.model.element.Element
+import javax.lang.model.element.TypeElement
 import javax.lang.model.type.ArrayType
 import javax.lang.model.type.DeclaredType
 import javax.lang.model.type.TypeMirror
-import kotlin.reflect.KClass
 
 interface TypeUtils {
     fun isSameType(type1: TypeMirror, type2: TypeMirror): Boolean
@@ -29,13 +31,36 @@ interface TypeUtils {
 
     fun getArrayType(componentType: TypeMirror): ArrayType
 
-    fun getDeclaredType(type: KClass<*>): DeclaredType?
+    fun getDeclaredType(className: ClassName): DeclaredType?
 
     fun asElement(type: TypeMirror): Element
+
+    fun asMemberOf(containing: DeclaredType, element: Element): TypeMirror
+
+    fun directSupertypes(type: TypeMirror): List<TypeMirror>
+
+    fun clearCache()
 }
 
-inline fun <reified T : Any> TypeUtils.isAssignable(type: TypeMirror): Boolean {
-    return getDeclaredType(T::class)?.let { declaredType ->
+fun TypeUtils.isAssignable(type: TypeMirror, className: ClassName): Boolean {
+    return getDeclaredType(className)?.let { declaredType ->
         isAssignableType(type, declaredType)
     } ?: false
 }
+
+// Walks up the supertypes, so that type arguments are resolved for subtypes such as HashMap<K, V> or ImmutableSetMultimap<K, V>
+fun TypeUtils.findSupertype(type: TypeMirror, className: ClassName): DeclaredType? {
+    if (!isAssignable(type, className)) {
+        return null
+    }
+    val queue = ArrayDeque<TypeMirror>(listOf(type))
+    while (queue.isNotEmpty()) {
+        val candidate = queue.removeFirst()
+        val element = (candidate as? DeclaredType)?.asElement() as? TypeElement
+        if (element != null && ClassName.get(element) == className) {
+            return candidate as DeclaredType
+        }
+        queue.addAll(directSupertypes(candidate))
+    }
+    return null
+}
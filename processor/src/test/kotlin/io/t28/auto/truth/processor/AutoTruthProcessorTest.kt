@@ -18,9 +18,16 @@ package io.t28.auto.truth.processor
 
 import com.google.common.truth.Truth.assertAbout
 import com.google.common.truth.Truth.assertThat
+import com.google.testing.compile.Compilation
+import com.google.testing.compile.CompilationSubject.assertThat
 import com.google.testing.compile.CompileTester
+import com.google.testing.compile.Compiler.javac
 import com.google.testing.compile.JavaSourcesSubjectFactory.javaSources
+import io.t28.auto.truth.processor.testing.ClassPathEntity
 import io.t28.auto.truth.processor.testing.Resource
+import java.io.File
+import java.nio.file.Files
+import java.nio.file.Path
 import java.util.stream.Stream
 import javax.lang.model.SourceVersion
 import javax.tools.JavaFileObject
@@ -29,6 +36,7 @@ import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Nested
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.TestInstance
+import org.junit.jupiter.api.io.TempDir
 import org.junit.jupiter.params.ParameterizedTest
 import org.junit.jupiter.params.provider.Arguments
 import org.junit.jupiter.params.provider.Arguments.of
@@ -43,8 +51,71 @@ internal class AutoTruthProcessorTest {
 
         // Assert
         assertThat(actual).apply {
-            hasSize(1)
+            hasSize(13)
             contains("debug")
+            contains("autotruth.parallelism")
+            contains("autotruth.stats")
+            contains("autotruth.baseSubjects")
+            contains("autotruth.methodBudget")
+            contains("autotruth.maxRenderedElements")
+            contains("autotruth.maxRenderedLength")
+            contains("autotruth.subjectIndex")
+            contains("autotruth.registry")
+            contains("autotruth.logLevel")
+            contains("autotruth.debugLimit")
+            contains("autotruth.debugFile")
+            contains("org.gradle.annotation.processing.isolating")
+        }
+    }
+
+    @Test
+    fun `getSupportedOptions should return aggregating mode when stats option is enabled`() {
+        // Arrange
+        val processor = AutoTruthProcessor()
+        process(processor, Resource.User, Resource.UserSubject, options = listOf("-Aautotruth.stats=true"))
+            .compilesWithoutError()
+
+        // Act
+        val actual = processor.supportedOptions
+
+        // Assert
+        assertThat(actual).apply {
+            contains("org.gradle.annotation.processing.aggregating")
+            doesNotContain("org.gradle.annotation.processing.isolating")
+        }
+    }
+
+    @Test
+    fun `getSupportedOptions should return aggregating mode when base subjects option is enabled`() {
+        // Arrange
+        val processor = AutoTruthProcessor()
+        process(processor, Resource.User, Resource.UserSubject, options = listOf("-Aautotruth.baseSubjects=true"))
+            .compilesWithoutError()
+
+        // Act
+        val actual = processor.supportedOptions
+
+        // Assert
+        assertThat(actual).apply {
+            contains("org.gradle.annotation.processing.aggregating")
+            doesNotContain("org.gradle.annotation.processing.isolating")
+        }
+    }
+
+    @Test
+    fun `getSupportedOptions should return aggregating mode when subject index option is enabled`() {
+        // Arrange
+        val processor = AutoTruthProcessor()
+        process(processor, Resource.User, Resource.UserSubject, options = listOf("-Aautotruth.subjectIndex=true"))
+            .compilesWithoutError()
+
+        // Act
+        val actual = processor.supportedOptions
+
+        // Assert
+        assertThat(actual).apply {
+            contains("org.gradle.annotation.processing.aggregating")
+            doesNotContain("org.gradle.annotation.processing.isolating")
         }
     }
 
@@ -209,6 +280,206 @@ internal class AutoTruthProcessorTest {
                 )
         }
 
+        @Test
+        fun `should generate identical Subject classes when rendered in parallel`() {
+            // Act & Assert
+            process(Resource.User, Resource.UserSubject, Resource.UserTypeSubject, options = listOf("-Aautotruth.parallelism=4"))
+                .compilesWithoutError()
+                .and()
+                .generatesSources(
+                    Resource.AutoUserSubject.toJavaFileObject(),
+                    Resource.AutoUserTypeSubject.toJavaFileObject()
+                )
+        }
+
+        @Test
+        fun `should write stats report when stats option is enabled`() {
+            // Act & Assert
+            process(Resource.User, Resource.UserSubject, options = listOf("-Aautotruth.stats=true"))
+                .compilesWithoutError()
+                .and()
+                .generatesFileNamed(CLASS_OUTPUT, "", "META-INF/auto-truth/stats.json")
+        }
+
+        @Test
+        fun `should generate shared base subjects once when base subjects option is enabled`() {
+            // Act & Assert
+            process(
+                Resource.Audited,
+                Resource.BaseEntity,
+                Resource.Account,
+                Resource.AccountSubject,
+                Resource.Member,
+                Resource.MemberSubject,
+                options = listOf("-Aautotruth.baseSubjects=true")
+            )
+                .compilesWithoutError()
+                .and()
+                .generatesFileNamed(CLASS_OUTPUT, Resource.BaseEntity.packageName, "AbstractAuditedSubject.class")
+                .and()
+                .generatesFileNamed(CLASS_OUTPUT, Resource.BaseEntity.packageName, "AbstractBaseEntitySubject.class")
+                .and()
+                .generatesFileNamed(CLASS_OUTPUT, Resource.AccountSubject.packageName, "AutoAccountSubject.class")
+                .and()
+                .generatesFileNamed(CLASS_OUTPUT, Resource.MemberSubject.packageName, "AutoMemberSubject.class")
+        }
+
+        @Test
+        fun `should not generate base subject for supertype on class path`() {
+            // Act
+            val compilation = javac()
+                .withProcessors(AutoTruthProcessor())
+                .withOptions("-Aautotruth.baseSubjects=true")
+                .compile(Resource.Invoice.toJavaFileObject(), Resource.InvoiceSubject.toJavaFileObject())
+
+            // Assert
+            assertThat(compilation).succeeded()
+            assertThat(compilation).generatedSourceFile("${Resource.InvoiceSubject.packageName}.AutoInvoiceSubject")
+                .contentsAsUtf8String()
+                .contains("hasId(")
+            assertThat(compilation.generatedSourceFile("${ClassPathEntity::class.java.`package`.name}.AbstractClassPathEntitySubject").isPresent)
+                .isFalse()
+        }
+
+        @Test
+        fun `should inline properties of generic supertype`() {
+            // Act & Assert
+            process(Resource.KeyedEntity, Resource.Tag, Resource.TagSubject, options = listOf("-Aautotruth.baseSubjects=true"))
+                .compilesWithoutError()
+                .and()
+                .generatesFileNamed(CLASS_OUTPUT, Resource.TagSubject.packageName, "AutoTagSubject.class")
+        }
+
+        @Test
+        fun `should generate only selected assertions`() {
+            // Act & Assert
+            process(Resource.Profile, Resource.ProfileSubject)
+                .compilesWithoutError()
+                .and()
+                .generatesFileNamed(CLASS_OUTPUT, Resource.ProfileSubject.packageName, "AutoProfileSubject.class")
+        }
+
+        @Test
+        fun `should warn when generated Subject class exceeds method budget`() {
+            // Act & Assert
+            process(Resource.User, Resource.UserSubject, options = listOf("-Aautotruth.methodBudget=3"))
+                .compilesWithoutError()
+                .withWarningContaining("exceeding the budget of 3")
+        }
+
+        @Test
+        fun `should compile with rendering limits`() {
+            // Act & Assert
+            process(
+                Resource.IterableTypes,
+                Resource.IterableTypesSubject,
+                Resource.ArrayTypes,
+                Resource.ArrayTypesSubject,
+                options = listOf("-Aautotruth.maxRenderedElements=3", "-Aautotruth.maxRenderedLength=50")
+            )
+                .compilesWithoutError()
+                .and()
+                .generatesFileNamed(CLASS_OUTPUT, Resource.IterableTypesSubject.packageName, "AutoIterableTypesSubject.class")
+                .and()
+                .generatesFileNamed(CLASS_OUTPUT, Resource.ArrayTypesSubject.packageName, "AutoArrayTypesSubject.class")
+        }
+
+        @Test
+        fun `should render nearby keys of lookup failures within rendering limits`() {
+            // Act
+            val compilation = javac()
+                .withProcessors(AutoTruthProcessor())
+                .withOptions("-Aautotruth.maxRenderedLength=50")
+                .compile(
+                    listOf(Resource.MapTypes, Resource.MapTypesSubject, Resource.GuavaTypes, Resource.GuavaTypesSubject)
+                        .map { resource -> resource.toJavaFileObject() }
+                )
+
+            // Assert
+            assertThat(compilation).succeeded()
+            assertThat(compilation).generatedSourceFile("${Resource.MapTypesSubject.packageName}.AutoMapTypesSubject")
+                .contentsAsUtf8String()
+                .contains("MapEntries.nearbyKeys(actual, key, 50)")
+            assertThat(compilation).generatedSourceFile("${Resource.GuavaTypesSubject.packageName}.AutoGuavaTypesSubject")
+                .contentsAsUtf8String()
+                .apply {
+                    contains("MapEntries.head(actualValues, 50)")
+                    contains("MapEntries.nearbyKeys(actualRow, columnKey, 50)")
+                }
+        }
+
+        @Test
+        fun `should write subject index and return indexed subjects when subject index is enabled`() {
+            // Act
+            val compilation = compileWithIndex(resources = listOf(Resource.User, Resource.UserSubject, Resource.Team, Resource.TeamSubject))
+
+            // Assert
+            assertThat(compilation).succeeded()
+            assertThat(compilation).generatedFile(CLASS_OUTPUT, "", "META-INF/auto-truth/subjects/${Resource.User.qualifiedName}")
+            assertThat(compilation).generatedFile(CLASS_OUTPUT, "", "META-INF/auto-truth/subjects/${Resource.Team.qualifiedName}")
+            assertThat(compilation).generatedSourceFile("${Resource.TeamSubject.packageName}.AutoTeamSubject")
+                .contentsAsUtf8String()
+                .apply {
+                    contains("import ${Resource.UserSubject.packageName}.AutoUserSubject;")
+                    contains("public AutoUserSubject leader()")
+                    contains("return check(\"getLeader()\").about(AutoUserSubject.factory()).that(actual);")
+                }
+        }
+
+        @Test
+        fun `should reuse indexed subject on class path when signature matches`(@TempDir classPath: Path) {
+            // Arrange
+            writeIndexedClassPath(classPath)
+
+            // Act
+            val compilation = compileWithIndex(classPath, listOf(Resource.User, Resource.UserSubject, Resource.Team, Resource.TeamSubject))
+
+            // Assert
+            assertThat(compilation).succeeded()
+            assertThat(compilation.generatedSourceFile("${Resource.UserSubject.packageName}.AutoUserSubject").isPresent).isFalse()
+            assertThat(compilation).generatedSourceFile("${Resource.TeamSubject.packageName}.AutoTeamSubject")
+                .contentsAsUtf8String()
+                .apply {
+                    contains("import ${Resource.UserSubject.packageName}.AutoUserSubject;")
+                    contains("public AutoUserSubject leader()")
+                    contains("return check(\"getLeader()\").about(AutoUserSubject.factory()).that(actual);")
+                }
+        }
+
+        @Test
+        fun `should regenerate indexed subject on class path when signature does not match`(@TempDir classPath: Path) {
+            // Arrange
+            writeIndexedClassPath(classPath)
+            val index = classPath.resolve("META-INF/auto-truth/subjects/${Resource.User.qualifiedName}")
+            Files.write(index, Files.readAllLines(index).map { line -> line.replaceAfter(' ', "0000000000000000") })
+
+            // Act
+            val compilation = compileWithIndex(classPath)
+
+            // Assert
+            assertThat(compilation).succeeded()
+            assertThat(compilation.generatedSourceFile("${Resource.UserSubject.packageName}.AutoUserSubject").isPresent).isTrue()
+        }
+
+        @Test
+        fun `should generate registry for each package when registry is enabled`() {
+            // Act & Assert
+            process(Resource.User, Resource.UserSubject, Resource.Team, Resource.TeamSubject, options = listOf("-Aautotruth.registry=true"))
+                .compilesWithoutError()
+                .and()
+                .generatesFileNamed(CLASS_OUTPUT, Resource.User.packageName, "AutoSubjects.class")
+                .and()
+                .generatesFileNamed(CLASS_OUTPUT, Resource.Team.packageName, "AutoSubjects.class")
+        }
+
+        @Test
+        fun `should report error when registry class already exists`() {
+            // Act & Assert
+            process(Resource.User, Resource.UserSubject, Resource.AutoSubjects, options = listOf("-Aautotruth.registry=true"))
+                .failsToCompile()
+                .withErrorContaining("UserSubject is not registered since ${Resource.AutoSubjects.qualifiedName} already exists")
+        }
+
         @ParameterizedTest(name = "should compile {0} and {1} and generate {2}")
         @MethodSource("provideSupportedTypes")
         fun `should compile supported types`(valueObject: Resource, subject: Resource, expected: String) {
@@ -239,15 +510,33 @@ internal class AutoTruthProcessorTest {
     }
 
     companion object {
-        private fun process(vararg resources: Resource): CompileTester {
-            return process(*resources.map { it.toJavaFileObject() }.toTypedArray())
+        // Classes and the subject index generated by another compilation, as a library on the class path would have
+        private fun writeIndexedClassPath(classPath: Path) {
+            compileWithIndex().generatedFiles().filter { file -> file.kind != JavaFileObject.Kind.SOURCE }.forEach { file ->
+                val path = classPath.resolve(file.toUri().path.removePrefix("/${CLASS_OUTPUT.name}/"))
+                Files.createDirectories(path.parent)
+                file.openInputStream().use { input -> Files.copy(input, path) }
+            }
+        }
+
+        private fun compileWithIndex(classPath: Path? = null, resources: List<Resource> = listOf(Resource.User, Resource.UserSubject)): Compilation {
+            val compiler = javac().withProcessors(AutoTruthProcessor()).withOptions("-Aautotruth.subjectIndex=true")
+            val classPathFiles = classPath?.let { directory ->
+                listOf(directory.toFile()) + System.getProperty("java.class.path").split(File.pathSeparator).map { path -> File(path) }
+            }
+            return (classPathFiles?.let { files -> compiler.withClasspath(files) } ?: compiler)
+                .compile(resources.map { resource -> resource.toJavaFileObject() })
+        }
+
+        private fun process(vararg resources: Resource, options: List<String> = emptyList()): CompileTester {
+            return process(AutoTruthProcessor(), *resources, options = options)
         }
 
-        private fun process(vararg files: JavaFileObject): CompileTester {
+        private fun process(processor: AutoTruthProcessor, vararg resources: Resource, options: List<String> = emptyList()): CompileTester {
             return assertAbout(javaSources())
-                .that(files.toList())
-                .withCompilerOptions("-Adebug")
-                .processedWith(AutoTruthProcessor())
+                .that(resources.map { it.toJavaFileObject() })
+                .withCompilerOptions(listOf("-Adebug") + options)
+                .processedWith(processor)
         }
     }
 }
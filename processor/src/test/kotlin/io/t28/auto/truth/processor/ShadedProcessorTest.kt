@@ -0,0 +1,77 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.processor
+
+import com.google.common.truth.Truth.assertThat
+import com.tschuchort.compiletesting.KotlinCompilation
+import com.tschuchort.compiletesting.SourceFile.Companion.kotlin
+import io.t28.auto.truth.processor.testing.ResultSubject
+import org.intellij.lang.annotations.Language
+import org.junit.jupiter.api.Assumptions.assumeTrue
+import org.junit.jupiter.api.Test
+import java.io.File
+import java.net.URLClassLoader
+import java.util.ServiceLoader
+import javax.annotation.processing.Processor
+
+// Runs the processor from the shaded jar, so that relocated classes are exercised instead of the ones on the test class path
+internal class ShadedProcessorTest {
+    companion object {
+        private const val SHADED_JAR_PROPERTY = "autotruth.shadedJar"
+    }
+
+    @Test
+    fun `should compile data class with shaded processor`() {
+        // Arrange
+        val shadedJar = System.getProperty(SHADED_JAR_PROPERTY)?.let { path -> File(path) }
+        assumeTrue(shadedJar != null && shadedJar.isFile, "$SHADED_JAR_PROPERTY is not set")
+
+        // Act
+        @Language("kotlin")
+        val source = """
+            package io.t28.auto.truth.test
+            
+            import io.t28.auto.truth.AutoSubject
+            
+            data class User(val name: String, val age: Int)
+            
+            @AutoSubject(User::class)
+            class UserSubject
+        """.trimIndent()
+        // The platform class loader provides javax.annotation.processing without exposing the test class path
+        val parent = ClassLoader.getSystemClassLoader().parent
+        val result = URLClassLoader(arrayOf(shadedJar!!.toURI().toURL()), parent).use { classLoader ->
+            val processor = ServiceLoader.load(Processor::class.java, classLoader).single()
+            assertThat(processor.javaClass.classLoader).isSameInstanceAs(classLoader)
+            KotlinCompilation().apply {
+                sources = listOf(kotlin("main.kt", source))
+                annotationProcessors = listOf(processor)
+                inheritClassPath = true
+                messageOutputStream = System.out
+            }.compile()
+        }
+
+        // Assert
+        ResultSubject.assertThat(result).isOk()
+        val generatedSource = result.generatedFiles.single { file -> file.name == "AutoUserSubject.java" }.readText()
+        assertThat(generatedSource).contains("name()")
+        assertThat(generatedSource).contains("age()")
+        // Component functions are only skipped when kotlin.Metadata is found under its original name
+        assertThat(generatedSource).doesNotContain("component1")
+        assertThat(generatedSource).doesNotContain("component2")
+    }
+}
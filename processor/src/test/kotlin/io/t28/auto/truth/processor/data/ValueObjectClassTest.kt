@@ -18,6 +18,7 @@ package io.t28.auto.truth.processor.data
 
 import com.google.auto.common.MoreTypes
 import com.google.common.truth.Truth.assertThat
+import io.t28.auto.truth.AutoSubject.Assertion
 import io.t28.auto.truth.processor.testing.Resource
 import io.t28.auto.truth.processor.testing.process
 import javax.lang.model.type.DeclaredType
@@ -41,4 +42,36 @@ internal class ValueObjectClassTest {
             assertThat(actual.findEnumConstants()).isEmpty()
         }.compilesWithoutError()
     }
+
+    @Test
+    fun `should skip properties annotated with Ignore`() {
+        process(Resource.Profile, Resource.ProfileSubject) {
+            // Arrange
+            val profileElement = it.getTypeElement(Resource.Profile.qualifiedName)
+
+            // Act
+            val actual = ValueObjectClass(profileElement)
+
+            // Assert
+            assertThat(actual.findProperties().map { property -> property.name })
+                .containsExactly("name", "age", "verified")
+        }.compilesWithoutError()
+    }
+
+    @Test
+    fun `findProperties should return properties matching selection`() {
+        process(Resource.Profile, Resource.ProfileSubject) {
+            // Arrange
+            val profileElement = it.getTypeElement(Resource.Profile.qualifiedName)
+            val valueObject = ValueObjectClass(profileElement)
+
+            // Act
+            val included = valueObject.findProperties(PropertySelection(includes = setOf("name", "isVerified")))
+            val excluded = valueObject.findProperties(PropertySelection(excludes = setOf("age"), assertions = setOf(Assertion.VALUE)))
+
+            // Assert
+            assertThat(included.map { property -> property.name }).containsExactly("name", "verified")
+            assertThat(excluded.map { property -> property.name }).containsExactly("name", "verified")
+        }.compilesWithoutError()
+    }
 }
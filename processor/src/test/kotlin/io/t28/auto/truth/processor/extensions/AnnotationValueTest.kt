@@ -53,6 +53,31 @@ internal class AnnotationValueTest {
         }.compilesWithoutError()
     }
 
+    @Test
+    fun `asEnumName should return name of enum constant`() {
+        process { annotationMirror ->
+            // Act
+            val annotationValue = AnnotationMirrors.getAnnotationValue(annotationMirror, "enumValue")
+
+            // Assert
+            assertThat(annotationValue.asEnumName())
+                .isEqualTo("FIELD")
+        }.compilesWithoutError()
+    }
+
+    @Test
+    fun `asList should return values of array`() {
+        process { annotationMirror ->
+            // Act
+            val annotationValue = AnnotationMirrors.getAnnotationValue(annotationMirror, "arrayValue")
+
+            // Assert
+            assertThat(annotationValue.asList().map { value -> value.asString() })
+                .containsExactly("foo", "bar")
+                .inOrder()
+        }.compilesWithoutError()
+    }
+
     private fun process(handler: (annotationMirror: AnnotationMirror) -> Unit): CompileTester {
         return assertAbout(javaSources())
             .that(listOf(CustomAnnotation.toJavaFileObject(), AnnotatedClass.toJavaFileObject()))
@@ -53,6 +53,16 @@ internal class StringTest {
         assertThat(actual).isEqualTo(expected)
     }
 
+    @ParameterizedTest(name = "should return {1} when string is {0}")
+    @MethodSource("provideUpperUnderscores")
+    fun `should convert string to lower camel case`(string: String, expected: String) {
+        // Act
+        val actual = string.toLowerCamelCase()
+
+        // Assert
+        assertThat(actual).isEqualTo(expected)
+    }
+
     @Suppress("unused")
     companion object {
         @JvmStatic
@@ -94,5 +104,17 @@ internal class StringTest {
                 of("Hello", emptyArray<String>(), "Hello")
             )
         }
+
+        @JvmStatic
+        fun provideUpperUnderscores(): Array<Arguments> {
+            return arrayOf(
+                of("", ""),
+                of("ADMIN", "admin"),
+                of("SUPER_USER", "superUser"),
+                of("SUPER__USER", "superUser"),
+                of("USER_1", "user1"),
+                of("Guest", "guest")
+            )
+        }
     }
 }
@@ -17,12 +17,20 @@
 package io.t28.auto.truth.processor.generator
 
 import com.google.common.truth.Subject
+import com.google.common.truth.Truth.assertThat
 import com.squareup.javapoet.ClassName
+import com.squareup.javapoet.ParameterizedTypeName
+import io.t28.auto.truth.AutoSubject.Assertion
+import io.t28.auto.truth.processor.Context
+import io.t28.auto.truth.processor.data.BaseSubjectClass
+import io.t28.auto.truth.processor.data.PropertySelection
 import io.t28.auto.truth.processor.data.SubjectClass
 import io.t28.auto.truth.processor.data.ValueObjectClass
+import io.t28.auto.truth.processor.processor.ValueObjectProcessor
 import io.t28.auto.truth.processor.testing.Resource
 import io.t28.auto.truth.processor.testing.TypeSpecSubject.Companion.assertThat
 import io.t28.auto.truth.processor.testing.process
+import javax.lang.model.element.Modifier.ABSTRACT
 import javax.lang.model.element.Modifier.FINAL
 import javax.lang.model.element.Modifier.PRIVATE
 import javax.lang.model.element.Modifier.PROTECTED
@@ -31,12 +39,11 @@ import javax.lang.model.element.Modifier.STATIC
 import org.junit.jupiter.api.Test
 
 internal class SubjectClassGeneratorTest {
-    private val generator = SubjectClassGenerator()
-
     @Test
     fun `should return Subject class specification`() {
         process(Resource.User, Resource.UserSubject) { context ->
             // Arrange
+            val generator = SubjectClassGenerator(Context.get(context.processingEnv))
             val input = SubjectClass(
                 prefix = "Auto",
                 suffix = "",
@@ -63,11 +70,173 @@ internal class SubjectClassGeneratorTest {
                     modifiers().containsExactly(PROTECTED)
                     parameters().hasSize(2)
                 }
+                fieldSpec { field -> field.name == "FACTORY" }.apply {
+                    modifiers().containsExactly(PRIVATE, STATIC, FINAL)
+                }
+                methodSpec { method -> method.name == "factory" }.apply {
+                    modifiers().containsExactly(PUBLIC, STATIC)
+                    parameters().isEmpty()
+                }
                 methodSpec { method -> method.name == "assertThat" }.apply {
                     modifiers().containsExactly(PUBLIC, STATIC)
                     parameters().hasSize(1)
                 }
             }
+            assertThat(actual.originatingElements).containsExactly(input.element)
+        }.compilesWithoutError()
+    }
+
+    @Test
+    fun `should extend base subject and skip properties asserted by base subject`() {
+        process(Resource.Audited, Resource.BaseEntity, Resource.Account, Resource.AccountSubject) { context ->
+            // Arrange
+            val processorContext = Context.get(context.processingEnv)
+            val generator = SubjectClassGenerator.create(processorContext)
+            val valueObject = ValueObjectProcessor(processorContext.utils)
+                .process(context.getTypeElement(Resource.Account.qualifiedName))
+            val baseSubject = BaseSubjectClass(valueObject.supertypes.single())
+            val input = SubjectClass(
+                prefix = "Auto",
+                suffix = "",
+                element = context.getTypeElement(Resource.AccountSubject.qualifiedName),
+                valueObject = valueObject,
+                baseSubject = baseSubject
+            )
+
+            // Act
+            val actual = generator.generate(input)
+
+            // Assert
+            assertThat(actual).apply {
+                hasName("AutoAccountSubject")
+                hasSuperclass(ParameterizedTypeName.get(
+                    ClassName.get(Resource.BaseEntity.packageName, "AbstractBaseEntitySubject"),
+                    ClassName.get(valueObject.element)
+                ))
+            }
+            assertThat(actual.methodSpecs.map { method -> method.name })
+                .containsExactly("<init>", "factory", "assertThat", "actualCustomStringRepresentation", "isEqualToComparingProperties", "hasEmail")
+        }.compilesWithoutError()
+    }
+
+    @Test
+    fun `should generate only selected properties and assertions`() {
+        process(Resource.Profile, Resource.ProfileSubject) { context ->
+            // Arrange
+            val processorContext = Context.get(context.processingEnv)
+            val generator = SubjectClassGenerator.create(processorContext)
+            val input = SubjectClass(
+                prefix = "Auto",
+                suffix = "",
+                element = context.getTypeElement(Resource.ProfileSubject.qualifiedName),
+                valueObject = ValueObjectClass(context.getTypeElement(Resource.Profile.qualifiedName)),
+                selection = PropertySelection(excludes = setOf("age"), assertions = setOf(Assertion.VALUE))
+            )
+
+            // Act
+            val actual = generator.generate(input)
+
+            // Assert
+            assertThat(actual.methodSpecs.map { method -> method.name })
+                .containsExactly("<init>", "factory", "assertThat", "actualCustomStringRepresentation", "isEqualToComparingProperties", "hasName")
+        }.compilesWithoutError()
+    }
+
+    @Test
+    fun `should not compare methods redeclared from Object by interface`() {
+        process(Resource.Contact, Resource.ContactSubject) { context ->
+            // Arrange
+            val generator = SubjectClassGenerator.create(Context.get(context.processingEnv))
+            val input = SubjectClass(
+                prefix = "Auto",
+                suffix = "",
+                element = context.getTypeElement(Resource.ContactSubject.qualifiedName),
+                valueObject = ValueObjectClass(context.getTypeElement(Resource.Contact.qualifiedName))
+            )
+
+            // Act
+            val actual = generator.generate(input)
+
+            // Assert
+            val comparison = "${actual.methodSpecs.single { method -> method.name == "isEqualToComparingProperties" }.code}"
+            assertThat(comparison).contains("getEmail()")
+            assertThat(comparison).doesNotContain("hashCode()")
+            assertThat(comparison).doesNotContain("toString()")
+        }.compilesWithoutError()
+    }
+
+    @Test
+    fun `should skip derived assertion colliding with assertion of another property`() {
+        process(Resource.Playlist, Resource.PlaylistSubject) { context ->
+            // Arrange
+            val generator = SubjectClassGenerator.create(Context.get(context.processingEnv))
+            val input = SubjectClass(
+                prefix = "Auto",
+                suffix = "",
+                element = context.getTypeElement(Resource.PlaylistSubject.qualifiedName),
+                valueObject = ValueObjectClass(context.getTypeElement(Resource.Playlist.qualifiedName))
+            )
+
+            // Act
+            val actual = generator.generate(input)
+
+            // Assert
+            val sizeAssertions = actual.methodSpecs.filter { method -> method.name == "hasTracksSize" }
+            assertThat(sizeAssertions).hasSize(1)
+            assertThat("${sizeAssertions.single().code}").contains("getTracksSize()")
+        }.compilesWithoutError()
+            .withWarningContaining("hasTracksSize(int) is not generated for tracks, since it collides with the method for tracksSize")
+    }
+
+    @Test
+    fun `should skip subject getter of property named factory`() {
+        process(Resource.Plant, Resource.PlantSubject) { context ->
+            // Arrange
+            val generator = SubjectClassGenerator.create(Context.get(context.processingEnv))
+            val input = SubjectClass(
+                prefix = "Auto",
+                suffix = "",
+                element = context.getTypeElement(Resource.PlantSubject.qualifiedName),
+                valueObject = ValueObjectClass(context.getTypeElement(Resource.Plant.qualifiedName))
+            )
+
+            // Act
+            val actual = generator.generate(input)
+
+            // Assert
+            val factoryMethods = actual.methodSpecs.filter { method -> method.name == "factory" }
+            assertThat(factoryMethods).hasSize(1)
+            assertThat(factoryMethods.single().modifiers).containsExactly(PUBLIC, STATIC)
+            assertThat(actual.methodSpecs.map { method -> method.name }).contains("hasFactory")
+        }.compilesWithoutError()
+            .withWarningContaining("factory() is not generated for factory, since it would hide the factory of the subject")
+    }
+
+    @Test
+    fun `generateBase should return abstract Subject class specification`() {
+        process(Resource.Audited, Resource.BaseEntity) { context ->
+            // Arrange
+            val processorContext = Context.get(context.processingEnv)
+            val generator = SubjectClassGenerator.create(processorContext)
+            val valueObject = ValueObjectProcessor(processorContext.utils)
+                .process(context.getTypeElement(Resource.BaseEntity.qualifiedName))
+            val input = BaseSubjectClass(valueObject, BaseSubjectClass(valueObject.supertypes.single()))
+
+            // Act
+            val actual = generator.generateBase(input)
+
+            // Assert
+            assertThat(actual).apply {
+                hasName("AbstractBaseEntitySubject")
+                modifiers().containsExactly(PUBLIC, ABSTRACT)
+                methodSpec { method -> method.isConstructor }.apply {
+                    modifiers().containsExactly(PROTECTED)
+                    parameters().hasSize(2)
+                }
+            }
+            assertThat(actual.typeVariables.map { variable -> "$variable" }).containsExactly("T")
+            assertThat("${actual.superclass}").isEqualTo("${Resource.Audited.packageName}.AbstractAuditedSubject<T>")
+            assertThat(actual.methodSpecs.map { method -> method.name }).containsExactly("<init>", "hasId")
         }.compilesWithoutError()
     }
 }
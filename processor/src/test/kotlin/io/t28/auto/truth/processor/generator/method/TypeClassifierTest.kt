@@ -0,0 +1,136 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.processor.generator.method
+
+import com.google.common.truth.Truth.assertThat
+import io.t28.auto.truth.processor.Context
+import io.t28.auto.truth.processor.data.ValueObjectClass
+import io.t28.auto.truth.processor.testing.Resource
+import io.t28.auto.truth.processor.testing.TestContext
+import io.t28.auto.truth.processor.testing.process
+import org.junit.jupiter.api.Test
+
+internal class TypeClassifierTest {
+    @Test
+    fun `should classify primitive types`() {
+        process(Resource.PrimitiveTypes) {
+            // Arrange
+            val classifier = TypeClassifier(Context.get(it.processingEnv))
+
+            // Act
+            val actual = it.classifyAll(classifier, Resource.PrimitiveTypes)
+
+            // Assert
+            assertThat(actual).containsExactly(
+                "booleanValue", setOf(TypeCategory.BOOLEAN),
+                "byteValue", setOf(TypeCategory.PRIMITIVE),
+                "charValue", setOf(TypeCategory.PRIMITIVE),
+                "shortValue", setOf(TypeCategory.PRIMITIVE),
+                "intValue", setOf(TypeCategory.PRIMITIVE),
+                "longValue", setOf(TypeCategory.PRIMITIVE),
+                "floatValue", setOf(TypeCategory.PRIMITIVE),
+                "doubleValue", setOf(TypeCategory.PRIMITIVE)
+            )
+        }.compilesWithoutError()
+    }
+
+    @Test
+    fun `should classify Path as both path and iterable`() {
+        process(Resource.PathTypes) {
+            // Arrange
+            val classifier = TypeClassifier(Context.get(it.processingEnv))
+
+            // Act
+            val actual = it.classifyAll(classifier, Resource.PathTypes)
+
+            // Assert
+            assertThat(actual).containsExactly("path", setOf(TypeCategory.PATH, TypeCategory.ITERABLE))
+        }.compilesWithoutError()
+    }
+
+    @Test
+    fun `should classify iterable types`() {
+        process(Resource.IterableTypes) {
+            // Arrange
+            val classifier = TypeClassifier(Context.get(it.processingEnv))
+
+            // Act
+            val actual = it.classifyAll(classifier, Resource.IterableTypes)
+
+            // Assert
+            assertThat(actual.values.toSet()).containsExactly(setOf(TypeCategory.ITERABLE))
+        }.compilesWithoutError()
+    }
+
+    @Test
+    fun `should classify stream and iterator types`() {
+        process(Resource.StreamTypes) {
+            // Arrange
+            val classifier = TypeClassifier(Context.get(it.processingEnv))
+
+            // Act
+            val actual = it.classifyAll(classifier, Resource.StreamTypes)
+
+            // Assert
+            assertThat(actual).containsExactly(
+                "intStream", setOf(TypeCategory.STREAM),
+                "longStream", setOf(TypeCategory.STREAM),
+                "doubleStream", setOf(TypeCategory.STREAM),
+                "stringStream", setOf(TypeCategory.STREAM),
+                "stringIterator", setOf(TypeCategory.ITERATOR),
+                "stringSpliterator", setOf(TypeCategory.ITERATOR)
+            )
+        }.compilesWithoutError()
+    }
+
+    @Test
+    fun `should classify type in every category it belongs to`() {
+        process(Resource.CursorTypes) {
+            // Arrange
+            val classifier = TypeClassifier(Context.get(it.processingEnv))
+
+            // Act
+            val actual = it.classifyAll(classifier, Resource.CursorTypes)
+
+            // Assert
+            assertThat(actual).containsExactly("cursor", setOf(TypeCategory.ITERABLE, TypeCategory.ITERATOR))
+        }.compilesWithoutError()
+    }
+
+    @Test
+    fun `should classify enum constants`() {
+        process(Resource.EnumTypes) {
+            // Arrange
+            val classifier = TypeClassifier(Context.get(it.processingEnv))
+            val valueObject = ValueObjectClass(it.getTypeElement(Resource.EnumTypes.qualifiedName))
+
+            // Act
+            val actual = valueObject.findEnumConstants().map { property -> classifier.classify(property) }
+
+            // Assert
+            assertThat(actual).isNotEmpty()
+            assertThat(actual.toSet()).containsExactly(setOf(TypeCategory.ENUM_CONSTANT))
+        }.compilesWithoutError()
+    }
+
+    private fun TestContext.classifyAll(classifier: TypeClassifier, resource: Resource): Map<String, Set<TypeCategory>> {
+        val valueObject = ValueObjectClass(getTypeElement(resource.qualifiedName))
+        return valueObject.findProperties().associate { property ->
+            property.name to classifier.classify(property)
+        }
+    }
+}
@@ -16,10 +16,12 @@
 
 package io.t28.auto.truth.processor.log
 
+import com.google.common.truth.Truth.assertThat
 import com.nhaarman.mockitokotlin2.eq
 import com.nhaarman.mockitokotlin2.verify
 import com.nhaarman.mockitokotlin2.verifyNoMoreInteractions
 import com.nhaarman.mockitokotlin2.verifyZeroInteractions
+import java.nio.file.Files
 import javax.annotation.processing.Messager
 import javax.lang.model.element.Element
 import javax.tools.Diagnostic.Kind.ERROR
@@ -71,6 +73,50 @@ internal class ProcessingEnvLoggerTest {
                 verify(messager).printMessage(eq(NOTE), eq("This is debug message"), eq(element))
                 verifyNoMoreInteractions(messager)
             }
+
+            @Test
+            fun `should print lazy message`() {
+                // Act
+                val logger = ProcessingEnvLogger(messager, true)
+                logger.debug(element) { "This is 100% debug message" }
+
+                // Assert
+                verify(messager).printMessage(eq(NOTE), eq("This is 100% debug message"), eq(element))
+                verifyNoMoreInteractions(messager)
+            }
+
+            @Test
+            fun `should drop messages exceeding limit`() {
+                // Act
+                val logger = ProcessingEnvLogger(messager, Level.DEBUG, debugLimit = 1)
+                logger.debug("This is %s message", "first")
+                logger.debug("This is %s message", "second")
+                logger.debug("This is %s message", "third")
+                logger.close()
+
+                // Assert
+                verify(messager).printMessage(eq(NOTE), eq("This is first message"))
+                verify(messager).printMessage(eq(NOTE), eq("2 debug messages were dropped after the first 1; " +
+                    "pass -Aautotruth.debugLimit or -Aautotruth.debugFile to see all of them"))
+                verifyNoMoreInteractions(messager)
+            }
+
+            @Test
+            fun `should write messages to debug file`() {
+                // Arrange
+                val directory = Files.createTempDirectory("auto-truth")
+                val debugFile = directory.resolve("logs/debug.log")
+
+                // Act
+                val logger = ProcessingEnvLogger(messager, Level.DEBUG, debugLimit = 1, debugFile = debugFile)
+                logger.debug("This is %s message", "first")
+                logger.debug("This is %s message", "second")
+                logger.close()
+
+                // Assert
+                assertThat(Files.readAllLines(debugFile)).containsExactly("This is first message", "This is second message").inOrder()
+                verifyZeroInteractions(messager)
+            }
         }
 
         @Nested
@@ -95,6 +141,21 @@ internal class ProcessingEnvLoggerTest {
                 // Assert
                 verifyZeroInteractions(messager)
             }
+
+            @Test
+            fun `should not build lazy message`() {
+                // Act
+                var isBuilt = false
+                val logger = ProcessingEnvLogger(messager, false)
+                logger.debug(element) {
+                    isBuilt = true
+                    "This is debug message"
+                }
+
+                // Assert
+                assertThat(isBuilt).isFalse()
+                verifyZeroInteractions(messager)
+            }
         }
     }
 
@@ -121,6 +182,16 @@ internal class ProcessingEnvLoggerTest {
             verify(messager).printMessage(eq(WARNING), eq("This is warning message"), eq(element))
             verifyNoMoreInteractions(messager)
         }
+
+        @Test
+        fun `should not print message when level is ERROR`() {
+            // Act
+            val logger = ProcessingEnvLogger(messager, Level.ERROR)
+            logger.warn("This is %s message", "warning")
+
+            // Assert
+            verifyZeroInteractions(messager)
+        }
     }
 
     @Nested
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.processor.processor
+
+import com.google.common.truth.Truth.assertThat
+import io.t28.auto.truth.processor.Context
+import io.t28.auto.truth.processor.testing.Resource
+import io.t28.auto.truth.processor.testing.process
+import org.junit.jupiter.api.Test
+
+internal class ValueObjectProcessorTest {
+    @Test
+    fun `should scan value object once when several subjects share it`() {
+        process(Resource.User, Resource.UserSubject, Resource.AnotherUserSubject) {
+            // Arrange
+            val context = Context.get(it.processingEnv)
+            val valueObjectProcessor = ValueObjectProcessor(context.utils)
+            val processor = AutoSubjectProcessor(context, valueObjectProcessor)
+
+            // Act
+            val userSubject = processor.process(it.getTypeElement(Resource.UserSubject.qualifiedName))
+            val anotherUserSubject = processor.process(it.getTypeElement(Resource.AnotherUserSubject.qualifiedName))
+
+            // Assert
+            assertThat(valueObjectProcessor.scanCount).isEqualTo(1)
+            assertThat(userSubject.valueObject).isSameInstanceAs(anotherUserSubject.valueObject)
+            assertThat(userSubject.valueObject.findProperties()).hasSize(5)
+        }.compilesWithoutError()
+    }
+
+    @Test
+    fun `should scan value object again after clear`() {
+        process(Resource.User) {
+            // Arrange
+            val valueObjectProcessor = ValueObjectProcessor(Context.get(it.processingEnv).utils)
+            val element = it.getTypeElement(Resource.User.qualifiedName)
+            valueObjectProcessor.process(element)
+
+            // Act
+            valueObjectProcessor.clear()
+            valueObjectProcessor.process(element)
+            valueObjectProcessor.process(element)
+
+            // Assert
+            assertThat(valueObjectProcessor.scanCount).isEqualTo(1)
+        }.compilesWithoutError()
+    }
+
+    @Test
+    fun `should find properties inherited from superclass and interfaces`() {
+        process(Resource.Audited, Resource.BaseEntity, Resource.Account) {
+            // Arrange
+            val valueObjectProcessor = ValueObjectProcessor(Context.get(it.processingEnv).utils)
+
+            // Act
+            val actual = valueObjectProcessor.process(it.getTypeElement(Resource.Account.qualifiedName))
+
+            // Assert
+            assertThat(actual.findProperties().map { property -> property.symbol })
+                .containsExactly("getEmail()", "getCreatedAt()", "getId()")
+                .inOrder()
+            assertThat(actual.supertypes.map { supertype -> supertype.simpleName }).containsExactly("BaseEntity")
+        }.compilesWithoutError()
+    }
+
+    @Test
+    fun `should scan shared supertypes once`() {
+        process(Resource.Audited, Resource.BaseEntity, Resource.Account, Resource.Member) {
+            // Arrange
+            val valueObjectProcessor = ValueObjectProcessor(Context.get(it.processingEnv).utils)
+
+            // Act
+            val account = valueObjectProcessor.process(it.getTypeElement(Resource.Account.qualifiedName))
+            val member = valueObjectProcessor.process(it.getTypeElement(Resource.Member.qualifiedName))
+
+            // Assert
+            assertThat(valueObjectProcessor.scanCount).isEqualTo(4)
+            assertThat(member.supertypes.single()).isSameInstanceAs(account.supertypes.single())
+        }.compilesWithoutError()
+    }
+
+    @Test
+    fun `should resolve type of property inherited from generic supertype`() {
+        process(Resource.KeyedEntity, Resource.Tag) {
+            // Arrange
+            val valueObjectProcessor = ValueObjectProcessor(Context.get(it.processingEnv).utils)
+
+            // Act
+            val actual = valueObjectProcessor.process(it.getTypeElement(Resource.Tag.qualifiedName))
+
+            // Assert
+            val key = actual.findProperties().single { property -> property.name == "key" }
+            assertThat("${key.type}").isEqualTo("java.lang.String")
+        }.compilesWithoutError()
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.processor.stats
+
+import com.google.common.truth.Truth.assertThat
+import org.junit.jupiter.api.Test
+
+internal class RecordingStatsTest {
+    @Test
+    fun `toJson should return empty report when nothing is recorded`() {
+        // Arrange
+        val stats = RecordingStats()
+
+        // Act
+        val actual = stats.toJson()
+
+        // Assert
+        assertThat(actual).isEqualTo("""{"totals":{},"generators":{},"rounds":[]}""")
+    }
+
+    @Test
+    fun `toJson should return report grouped by round and class`() {
+        // Arrange
+        val stats = RecordingStats()
+        stats.startRound()
+        stats.record(Phase.DISCOVERY, null, 10)
+        stats.record(Phase.BUILDING, "test.AutoUserSubject", 20)
+        stats.countGenerator("ObjectAssertionGenerator")
+        stats.countGenerator("ObjectAssertionGenerator")
+        stats.recordFile("test.AutoUserSubject", 3, 128)
+        stats.startRound()
+        stats.record(Phase.DISCOVERY, null, 5)
+
+        // Act
+        val actual = stats.toJson()
+
+        // Assert
+        assertThat(actual).isEqualTo(
+            """{"totals":{"discovery":15,"building":20},"generators":{"ObjectAssertionGenerator":2},"rounds":[""" +
+                """{"round":1,"phases":{"discovery":10,"building":20},"classes":[""" +
+                """{"name":"test.AutoUserSubject","phases":{"building":20},"methods":3,"bytes":128}]},""" +
+                """{"round":2,"phases":{"discovery":5},"classes":[]}]}"""
+        )
+    }
+
+    @Test
+    fun `toJson should return nested phases exclusive of the enclosing phase`() {
+        // Arrange
+        val stats = RecordingStats()
+        stats.startRound()
+        stats.enter()
+        stats.enter()
+        stats.exit(Phase.MATCHING, "test.AutoUserSubject", 30)
+        stats.enter()
+        stats.exit(Phase.MATCHING, "test.AutoUserSubject", 20)
+        stats.exit(Phase.BUILDING, "test.AutoUserSubject", 100)
+
+        // Act
+        val actual = stats.toJson()
+
+        // Assert
+        assertThat(actual).isEqualTo(
+            """{"totals":{"matching":50,"building":50},"generators":{},"rounds":[""" +
+                """{"round":1,"phases":{"matching":50,"building":50},"classes":[""" +
+                """{"name":"test.AutoUserSubject","phases":{"matching":50,"building":50},"methods":0,"bytes":0}]}]}"""
+        )
+    }
+
+    @Test
+    fun `toJson should return init time and loaded class count when init is recorded`() {
+        // Arrange
+        val stats = RecordingStats()
+        stats.recordInit(1000, 42)
+
+        // Act
+        val actual = stats.toJson()
+
+        // Assert
+        assertThat(actual).isEqualTo("""{"init":{"nanos":1000,"loadedClasses":42},"totals":{},"generators":{},"rounds":[]}""")
+    }
+
+    @Test
+    fun `toJson should escape class names`() {
+        // Arrange
+        val stats = RecordingStats()
+        stats.recordFile("Foo\"Bar", 0, 0)
+
+        // Act
+        val actual = stats.toJson()
+
+        // Assert
+        assertThat(actual).contains(""""name":"Foo\"Bar"""")
+    }
+}
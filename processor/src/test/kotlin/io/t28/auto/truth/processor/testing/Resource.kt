@@ -55,6 +55,7 @@ abstract class Resource(val packageName: String = "io.t28.auto.truth.test") {
     object BoxedPrimitiveTypesSubject : Resource("io.t28.auto.truth.test.data")
     object ClassTypes : Resource("io.t28.auto.truth.test.data")
     object ClassTypesSubject : Resource("io.t28.auto.truth.test.data")
+    object CursorTypes : Resource("io.t28.auto.truth.test.data")
     object EmptyPrefixUserSubject : Resource("io.t28.auto.truth.test.prefix")
     object EmptySuffixUserSubject : Resource("io.t28.auto.truth.test.suffix")
     object EnumTypes : Resource("io.t28.auto.truth.test.data")
@@ -88,10 +89,41 @@ abstract class Resource(val packageName: String = "io.t28.auto.truth.test") {
             return forSourceString(qualifiedName, """
                 package $packageName;
     
+                import java.lang.annotation.ElementType;
+
                 @interface CustomAnnotation {
                     Class<?> classValue();
     
                     String stringValue();
+
+                    ElementType enumValue();
+
+                    String[] arrayValue();
+                }
+            """.trimIndent())
+        }
+    }
+
+    object AnotherUserSubject : Resource("io.t28.auto.truth.test.data") {
+        override fun toJavaFileObject(): JavaFileObject {
+            return forSourceString(qualifiedName, """
+                package $packageName;
+
+                import io.t28.auto.truth.AutoSubject;
+
+                @AutoSubject(User.class)
+                class AnotherUserSubject {
+                }
+            """.trimIndent())
+        }
+    }
+
+    object AutoSubjects : Resource("io.t28.auto.truth.test.data") {
+        override fun toJavaFileObject(): JavaFileObject {
+            return forSourceString(qualifiedName, """
+                package $packageName;
+
+                public final class AutoSubjects {
                 }
             """.trimIndent())
         }
@@ -102,13 +134,364 @@ abstract class Resource(val packageName: String = "io.t28.auto.truth.test") {
             return forSourceString(qualifiedName, """
                 package $packageName;
                     
+                import java.lang.annotation.ElementType;
+
                 @CustomAnnotation(
                     classValue = String.class,
-                    stringValue = "foobarbaz"
+                    stringValue = "foobarbaz",
+                    enumValue = ElementType.FIELD,
+                    arrayValue = {"foo", "bar"}
                 )
                 class AnnotatedClass {
                 }
             """.trimIndent())
         }
     }
+
+    object Audited : Resource("io.t28.auto.truth.test.inheritance") {
+        override fun toJavaFileObject(): JavaFileObject {
+            return forSourceString(qualifiedName, """
+                package $packageName;
+
+                public interface Audited {
+                    long getCreatedAt();
+                }
+            """.trimIndent())
+        }
+    }
+
+    object BaseEntity : Resource("io.t28.auto.truth.test.inheritance") {
+        override fun toJavaFileObject(): JavaFileObject {
+            return forSourceString(qualifiedName, """
+                package $packageName;
+
+                public abstract class BaseEntity implements Audited {
+                    public long getId() {
+                        return 1L;
+                    }
+                }
+            """.trimIndent())
+        }
+    }
+
+    object Account : Resource("io.t28.auto.truth.test.inheritance") {
+        override fun toJavaFileObject(): JavaFileObject {
+            return forSourceString(qualifiedName, """
+                package $packageName;
+
+                public class Account extends BaseEntity {
+                    public String getEmail() {
+                        return "alice@example.com";
+                    }
+
+                    @Override
+                    public long getCreatedAt() {
+                        return 0L;
+                    }
+                }
+            """.trimIndent())
+        }
+    }
+
+    object Member : Resource("io.t28.auto.truth.test.inheritance") {
+        override fun toJavaFileObject(): JavaFileObject {
+            return forSourceString(qualifiedName, """
+                package $packageName;
+
+                public class Member extends BaseEntity {
+                    public boolean isActive() {
+                        return true;
+                    }
+
+                    @Override
+                    public long getCreatedAt() {
+                        return 0L;
+                    }
+                }
+            """.trimIndent())
+        }
+    }
+
+    object KeyedEntity : Resource("io.t28.auto.truth.test.inheritance") {
+        override fun toJavaFileObject(): JavaFileObject {
+            return forSourceString(qualifiedName, """
+                package $packageName;
+
+                public abstract class KeyedEntity<K> {
+                    private final K key;
+
+                    protected KeyedEntity(K key) {
+                        this.key = key;
+                    }
+
+                    public K getKey() {
+                        return key;
+                    }
+                }
+            """.trimIndent())
+        }
+    }
+
+    object Tag : Resource("io.t28.auto.truth.test.inheritance") {
+        override fun toJavaFileObject(): JavaFileObject {
+            return forSourceString(qualifiedName, """
+                package $packageName;
+
+                public class Tag extends KeyedEntity<String> {
+                    public Tag() {
+                        super("tag");
+                    }
+
+                    public int getCount() {
+                        return 0;
+                    }
+                }
+            """.trimIndent())
+        }
+    }
+
+    object AccountSubject : Resource("io.t28.auto.truth.test.inheritance") {
+        override fun toJavaFileObject(): JavaFileObject {
+            return forSourceString(qualifiedName, """
+                package $packageName;
+
+                import io.t28.auto.truth.AutoSubject;
+
+                @AutoSubject(Account.class)
+                class AccountSubject {
+                }
+            """.trimIndent())
+        }
+    }
+
+    object MemberSubject : Resource("io.t28.auto.truth.test.inheritance") {
+        override fun toJavaFileObject(): JavaFileObject {
+            return forSourceString(qualifiedName, """
+                package $packageName;
+
+                import io.t28.auto.truth.AutoSubject;
+
+                @AutoSubject(Member.class)
+                class MemberSubject {
+                }
+            """.trimIndent())
+        }
+    }
+
+    object TagSubject : Resource("io.t28.auto.truth.test.inheritance") {
+        override fun toJavaFileObject(): JavaFileObject {
+            return forSourceString(qualifiedName, """
+                package $packageName;
+
+                import io.t28.auto.truth.AutoSubject;
+
+                @AutoSubject(Tag.class)
+                class TagSubject {
+                }
+            """.trimIndent())
+        }
+    }
+
+    object Invoice : Resource("io.t28.auto.truth.test.inheritance") {
+        override fun toJavaFileObject(): JavaFileObject {
+            return forSourceString(qualifiedName, """
+                package $packageName;
+
+                import io.t28.auto.truth.processor.testing.ClassPathEntity;
+
+                public class Invoice extends ClassPathEntity {
+                    public String getNumber() {
+                        return "INV-1";
+                    }
+                }
+            """.trimIndent())
+        }
+    }
+
+    object InvoiceSubject : Resource("io.t28.auto.truth.test.inheritance") {
+        override fun toJavaFileObject(): JavaFileObject {
+            return forSourceString(qualifiedName, """
+                package $packageName;
+
+                import io.t28.auto.truth.AutoSubject;
+
+                @AutoSubject(Invoice.class)
+                class InvoiceSubject {
+                }
+            """.trimIndent())
+        }
+    }
+
+    object Playlist : Resource("io.t28.auto.truth.test.selection") {
+        override fun toJavaFileObject(): JavaFileObject {
+            return forSourceString(qualifiedName, """
+                package $packageName;
+
+                import java.util.Collections;
+                import java.util.List;
+
+                public class Playlist {
+                    public List<String> getTracks() {
+                        return Collections.emptyList();
+                    }
+
+                    public int getTracksSize() {
+                        return 0;
+                    }
+                }
+            """.trimIndent())
+        }
+    }
+
+    object PlaylistSubject : Resource("io.t28.auto.truth.test.selection") {
+        override fun toJavaFileObject(): JavaFileObject {
+            return forSourceString(qualifiedName, """
+                package $packageName;
+
+                import io.t28.auto.truth.AutoSubject;
+
+                @AutoSubject(Playlist.class)
+                class PlaylistSubject {
+                }
+            """.trimIndent())
+        }
+    }
+
+    object Contact : Resource("io.t28.auto.truth.test.value") {
+        override fun toJavaFileObject(): JavaFileObject {
+            return forSourceString(qualifiedName, """
+                package $packageName;
+
+                public interface Contact {
+                    String getEmail();
+
+                    int hashCode();
+
+                    String toString();
+                }
+            """.trimIndent())
+        }
+    }
+
+    object ContactSubject : Resource("io.t28.auto.truth.test.value") {
+        override fun toJavaFileObject(): JavaFileObject {
+            return forSourceString(qualifiedName, """
+                package $packageName;
+
+                import io.t28.auto.truth.AutoSubject;
+
+                @AutoSubject(Contact.class)
+                class ContactSubject {
+                }
+            """.trimIndent())
+        }
+    }
+
+    object Plant : Resource("io.t28.auto.truth.test.selection") {
+        override fun toJavaFileObject(): JavaFileObject {
+            return forSourceString(qualifiedName, """
+                package $packageName;
+
+                import java.util.Collections;
+                import java.util.List;
+
+                public class Plant {
+                    public List<String> getFactory() {
+                        return Collections.emptyList();
+                    }
+                }
+            """.trimIndent())
+        }
+    }
+
+    object PlantSubject : Resource("io.t28.auto.truth.test.selection") {
+        override fun toJavaFileObject(): JavaFileObject {
+            return forSourceString(qualifiedName, """
+                package $packageName;
+
+                import io.t28.auto.truth.AutoSubject;
+
+                @AutoSubject(Plant.class)
+                class PlantSubject {
+                }
+            """.trimIndent())
+        }
+    }
+
+    object Profile : Resource("io.t28.auto.truth.test.selection") {
+        override fun toJavaFileObject(): JavaFileObject {
+            return forSourceString(qualifiedName, """
+                package $packageName;
+
+                import io.t28.auto.truth.AutoSubject;
+
+                public class Profile {
+                    public String getName() {
+                        return "alice";
+                    }
+
+                    public int getAge() {
+                        return 20;
+                    }
+
+                    public boolean isVerified() {
+                        return true;
+                    }
+
+                    @AutoSubject.Ignore
+                    public String getPassword() {
+                        return "secret";
+                    }
+                }
+            """.trimIndent())
+        }
+    }
+
+    object ProfileSubject : Resource("io.t28.auto.truth.test.selection") {
+        override fun toJavaFileObject(): JavaFileObject {
+            return forSourceString(qualifiedName, """
+                package $packageName;
+
+                import io.t28.auto.truth.AutoSubject;
+
+                @AutoSubject(value = Profile.class, exclude = "age", assertions = AutoSubject.Assertion.VALUE)
+                class ProfileSubject {
+                }
+            """.trimIndent())
+        }
+    }
+
+    object Team : Resource("io.t28.auto.truth.test.index") {
+        override fun toJavaFileObject(): JavaFileObject {
+            return forSourceString(qualifiedName, """
+                package $packageName;
+
+                import io.t28.auto.truth.test.data.User;
+
+                public class Team {
+                    public String getName() {
+                        return "Core";
+                    }
+
+                    public User getLeader() {
+                        return new User(1L, "Alice", 20, true, User.Type.OWNER);
+                    }
+                }
+            """.trimIndent())
+        }
+    }
+
+    object TeamSubject : Resource("io.t28.auto.truth.test.index") {
+        override fun toJavaFileObject(): JavaFileObject {
+            return forSourceString(qualifiedName, """
+                package $packageName;
+
+                import io.t28.auto.truth.AutoSubject;
+
+                @AutoSubject(Team.class)
+                class TeamSubject {
+                }
+            """.trimIndent())
+        }
+    }
 }
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.processor.utils
+
+import com.google.common.truth.Truth.assertThat
+import com.squareup.javapoet.ClassName
+import io.t28.auto.truth.processor.generator.ClassNames
+import io.t28.auto.truth.processor.testing.Resource
+import io.t28.auto.truth.processor.testing.process
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+
+internal class ProcessingEnvTypeUtilsTest {
+    @Nested
+    @DisplayName("getDeclaredType")
+    inner class GetDeclaredTypeTest {
+        @Test
+        fun `should resolve declared type only once`() {
+            process(Resource.User) {
+                // Arrange
+                val utils = ProcessingEnvTypeUtils(it.processingEnv.typeUtils, it.processingEnv.elementUtils)
+
+                // Act
+                val first = utils.getDeclaredType(ClassName.get("java.util", "List"))
+                val second = utils.getDeclaredType(ClassName.get("java.util", "List"))
+
+                // Assert
+                assertThat(first).isNotNull()
+                assertThat(second).isSameInstanceAs(first)
+                assertThat(utils.declaredTypeStats).isEqualTo(CacheStats(hitCount = 1, missCount = 1))
+            }.compilesWithoutError()
+        }
+
+        @Test
+        fun `should resolve declared type again after cache is cleared`() {
+            process(Resource.User) {
+                // Arrange
+                val utils = ProcessingEnvTypeUtils(it.processingEnv.typeUtils, it.processingEnv.elementUtils)
+
+                // Act
+                utils.getDeclaredType(ClassNames.MAP)
+                utils.clearCache()
+                utils.getDeclaredType(ClassNames.MAP)
+
+                // Assert
+                assertThat(utils.declaredTypeStats).isEqualTo(CacheStats(hitCount = 0, missCount = 2))
+            }.compilesWithoutError()
+        }
+
+        @Test
+        fun `should resolve type arguments as wildcards from element`() {
+            process(Resource.User) {
+                // Arrange
+                val utils = ProcessingEnvTypeUtils(it.processingEnv.typeUtils, it.processingEnv.elementUtils)
+
+                // Act
+                val actual = utils.getDeclaredType(ClassNames.TABLE)
+
+                // Assert
+                assertThat(actual).isNotNull()
+                assertThat(actual!!.typeArguments).hasSize(3)
+            }.compilesWithoutError()
+        }
+
+        @Test
+        fun `should return null when class does not exist`() {
+            process(Resource.User) {
+                // Arrange
+                val utils = ProcessingEnvTypeUtils(it.processingEnv.typeUtils, it.processingEnv.elementUtils)
+
+                // Act
+                val actual = utils.getDeclaredType(ClassName.get("io.t28.auto.truth", "Unknown"))
+
+                // Assert
+                assertThat(actual).isNull()
+            }.compilesWithoutError()
+        }
+    }
+
+    @Nested
+    @DisplayName("isAssignableType")
+    inner class IsAssignableTypeTest {
+        @Test
+        fun `should memoize assignability of a pair of types`() {
+            process(Resource.User) {
+                // Arrange
+                val utils = ProcessingEnvTypeUtils(it.processingEnv.typeUtils, it.processingEnv.elementUtils)
+                val userType = it.getTypeElement(Resource.User.qualifiedName).asType()
+                val iterableType = requireNotNull(utils.getDeclaredType(ClassNames.ITERABLE))
+
+                // Act
+                val actual = (1..3).map { utils.isAssignableType(userType, iterableType) }
+
+                // Assert
+                assertThat(actual).containsExactly(false, false, false)
+                assertThat(utils.assignableTypeStats).isEqualTo(CacheStats(hitCount = 2, missCount = 1))
+            }.compilesWithoutError()
+        }
+
+        @Test
+        fun `should memoize assignability of each pair of types separately`() {
+            process(Resource.User) {
+                // Arrange
+                val utils = ProcessingEnvTypeUtils(it.processingEnv.typeUtils, it.processingEnv.elementUtils)
+                val userType = it.getTypeElement(Resource.User.qualifiedName).asType()
+                val objectType = requireNotNull(utils.getDeclaredType(ClassNames.OBJECT))
+                val iterableType = requireNotNull(utils.getDeclaredType(ClassNames.ITERABLE))
+
+                // Act
+                val assignableToObject = utils.isAssignableType(userType, objectType)
+                val assignableToIterable = utils.isAssignableType(userType, iterableType)
+
+                // Assert
+                assertThat(assignableToObject).isTrue()
+                assertThat(assignableToIterable).isFalse()
+                assertThat(utils.assignableTypeStats).isEqualTo(CacheStats(hitCount = 0, missCount = 2))
+            }.compilesWithoutError()
+        }
+    }
+
+    @Nested
+    @DisplayName("findSupertype")
+    inner class FindSupertypeTest {
+        @Test
+        fun `should resolve type arguments of supertype`() {
+            process(Resource.MapTypes) {
+                // Arrange
+                val utils = ProcessingEnvTypeUtils(it.processingEnv.typeUtils, it.processingEnv.elementUtils)
+                val hashMapType = it.getTypeElement(Resource.MapTypes.qualifiedName).enclosedElements
+                    .first { element -> "${element.simpleName}" == "hashMap" }
+                    .asType()
+
+                // Act
+                val actual = utils.findSupertype(hashMapType, ClassNames.MAP)
+
+                // Assert
+                assertThat(actual).isNotNull()
+                assertThat(actual!!.typeArguments.map { type -> "$type" })
+                    .containsExactly("java.lang.String", "java.lang.String")
+                    .inOrder()
+            }.compilesWithoutError()
+        }
+
+        @Test
+        fun `should return null when type is not assignable`() {
+            process(Resource.User) {
+                // Arrange
+                val utils = ProcessingEnvTypeUtils(it.processingEnv.typeUtils, it.processingEnv.elementUtils)
+                val userType = it.getTypeElement(Resource.User.qualifiedName).asType()
+
+                // Act
+                val actual = utils.findSupertype(userType, ClassNames.MAP)
+
+                // Assert
+                assertThat(actual).isNull()
+            }.compilesWithoutError()
+        }
+    }
+}
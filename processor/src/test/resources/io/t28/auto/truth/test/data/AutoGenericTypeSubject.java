@@ -1,9 +1,13 @@
 package io.t28.auto.truth.test.data;
 
 import com.google.common.base.Preconditions;
+import com.google.common.truth.Fact;
 import com.google.common.truth.FailureMetadata;
 import com.google.common.truth.Subject;
 import com.google.common.truth.Truth;
+import io.t28.auto.truth.internal.PropertyDiff;
+import io.t28.auto.truth.internal.ValueRenderer;
+import java.util.Objects;
 import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -11,6 +15,13 @@ import javax.annotation.Nullable;
 @Generated("io.t28.auto.truth.processor.AutoTruthProcessor")
 @SuppressWarnings("unchecked")
 public class AutoGenericTypesSubject<T> extends Subject {
+    private static final Subject.Factory<AutoGenericTypesSubject<?>, GenericTypes<?>> FACTORY = new Subject.Factory<AutoGenericTypesSubject<?>, GenericTypes<?>>() {
+        @Override
+        public final AutoGenericTypesSubject<?> createSubject(FailureMetadata metadata, GenericTypes<?> _actual) {
+            return new AutoGenericTypesSubject<>(metadata, _actual);
+        }
+    };
+
     private final GenericTypes<T> actual;
 
     protected AutoGenericTypesSubject(@Nonnull FailureMetadata failureMetadata,
@@ -19,19 +30,39 @@ public class AutoGenericTypesSubject<T> extends Subject {
         this.actual = actual;
     }
 
+    @Nonnull
+    public static <T> Subject.Factory<AutoGenericTypesSubject<T>, GenericTypes<T>> factory() {
+        return (Subject.Factory<AutoGenericTypesSubject<T>, GenericTypes<T>>) (Subject.Factory<?, ?>) FACTORY;
+    }
+
     @Nonnull
     public static <T> AutoGenericTypesSubject<T> assertThat(@Nullable GenericTypes<T> actual) {
-        return Truth.assertAbout(new Subject.Factory<AutoGenericTypesSubject<T>, GenericTypes<T>>() {
-            @Override
-            public final AutoGenericTypesSubject<T> createSubject(FailureMetadata metadata,
-                                                                  GenericTypes<T> _actual) {
-                return new AutoGenericTypesSubject<T>(metadata, _actual);
-            }
-        }).that(actual);
+        return Truth.assertAbout(AutoGenericTypesSubject.<T>factory()).that(actual);
+    }
+
+    public void isEqualToComparingProperties(@Nullable GenericTypes<T> expected) {
+        if (actual == expected) {
+            return;
+        }
+        if (actual == null || expected == null) {
+            failWithoutActual(Fact.simpleFact(expected == null ? "expected to be null, but was not" : "expected not to be null"));
+            return;
+        }
+        final PropertyDiff diff = new PropertyDiff();
+        diff.compare("value()", actual.value(), expected.value());
+        if (!diff.isEmpty()) {
+            failWithoutActual(Fact.simpleFact(diff.describe()));
+        }
     }
 
     public void hasValue(T expected) {
         final T actual = Preconditions.checkNotNull(this.actual).value();
-        check("value()").that(actual).isEqualTo(expected);
+        if (!Objects.deepEquals(actual, expected)) {
+            if (ValueRenderer.isBounded(actual) && ValueRenderer.isBounded(expected)) {
+                check("value()").that(actual).isEqualTo(expected);
+            } else {
+                check("value()").withMessage("expected %s, but was %s", ValueRenderer.render(expected), ValueRenderer.render(actual)).fail();
+            }
+        }
     }
 }
@@ -21,7 +21,10 @@ import com.google.common.truth.Fact;
 import com.google.common.truth.FailureMetadata;
 import com.google.common.truth.Subject;
 import com.google.common.truth.Truth;
+import io.t28.auto.truth.internal.PropertyDiff;
+import io.t28.auto.truth.internal.ValueRenderer;
 
+import java.util.Objects;
 import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -29,6 +32,13 @@ import javax.annotation.Nullable;
 @Generated("io.t28.auto.truth.processor.AutoTruthProcessor")
 @SuppressWarnings("unchecked")
 public class AutoUserSubject extends Subject {
+    private static final Subject.Factory<AutoUserSubject, User> FACTORY = new Subject.Factory<AutoUserSubject, User>() {
+        @Override
+        public final AutoUserSubject createSubject(FailureMetadata metadata, User _actual) {
+            return new AutoUserSubject(metadata, _actual);
+        }
+    };
+
     private final User actual;
 
     protected AutoUserSubject(@Nonnull FailureMetadata failureMetadata, @Nullable User actual) {
@@ -36,47 +46,83 @@ public class AutoUserSubject extends Subject {
         this.actual = actual;
     }
 
+    @Nonnull
+    public static Subject.Factory<AutoUserSubject, User> factory() {
+        return FACTORY;
+    }
+
     @Nonnull
     public static AutoUserSubject assertThat(@Nullable User actual) {
-        return Truth.assertAbout(new Subject.Factory<AutoUserSubject, User>() {
-            @Override
-            public final AutoUserSubject createSubject(FailureMetadata metadata, User _actual) {
-                return new AutoUserSubject(metadata, _actual);
-            }
-        }).that(actual);
+        return Truth.assertAbout(factory()).that(actual);
+    }
+
+    @Override
+    protected String actualCustomStringRepresentation() {
+        return ValueRenderer.render(actual);
+    }
+
+    public void isEqualToComparingProperties(@Nullable User expected) {
+        if (actual == expected) {
+            return;
+        }
+        if (actual == null || expected == null) {
+            failWithoutActual(Fact.simpleFact(expected == null ? "expected to be null, but was not" : "expected not to be null"));
+            return;
+        }
+        final PropertyDiff diff = new PropertyDiff();
+        diff.compare("getId()", actual.getId(), expected.getId());
+        diff.compare("getName()", actual.getName(), expected.getName());
+        diff.compare("getAge()", actual.getAge(), expected.getAge());
+        diff.compare("isAdmin()", actual.isAdmin(), expected.isAdmin());
+        diff.compare("getType()", actual.getType(), expected.getType());
+        if (!diff.isEmpty()) {
+            failWithoutActual(Fact.simpleFact(diff.describe()));
+        }
     }
 
     public void hasId(long expected) {
         final long actual = Preconditions.checkNotNull(this.actual).getId();
-        check("getId()").that(actual).isEqualTo(expected);
+        if (actual != expected) {
+            check("getId()").that(actual).isEqualTo(expected);
+        }
     }
 
     public void hasName(String expected) {
         final String actual = Preconditions.checkNotNull(this.actual).getName();
-        check("getName()").that(actual).isEqualTo(expected);
+        if (!Objects.deepEquals(actual, expected)) {
+            if (ValueRenderer.isBounded(actual) && ValueRenderer.isBounded(expected)) {
+                check("getName()").that(actual).isEqualTo(expected);
+            } else {
+                check("getName()").withMessage("expected %s, but was %s", ValueRenderer.render(expected), ValueRenderer.render(actual)).fail();
+            }
+        }
     }
 
     public void hasAge(int expected) {
         final int actual = Preconditions.checkNotNull(this.actual).getAge();
-        check("getAge()").that(actual).isEqualTo(expected);
+        if (actual != expected) {
+            check("getAge()").that(actual).isEqualTo(expected);
+        }
     }
 
     public void isAdmin() {
-        Preconditions.checkNotNull(actual);
-        if (!actual.isAdmin()) {
-            failWithActual(Fact.simpleFact("expected to be admin"));
+        final boolean actual = Preconditions.checkNotNull(this.actual).isAdmin();
+        if (!actual) {
+            failWithoutActual(Fact.simpleFact("expected to be admin"), Fact.fact("but was", actual));
         }
     }
 
     public void isNotAdmin() {
-        Preconditions.checkNotNull(actual);
-        if (actual.isAdmin()) {
-            failWithActual(Fact.simpleFact("expected not to be admin"));
+        final boolean actual = Preconditions.checkNotNull(this.actual).isAdmin();
+        if (actual) {
+            failWithoutActual(Fact.simpleFact("expected not to be admin"), Fact.fact("but was", actual));
         }
     }
 
     public void hasType(User.Type expected) {
         final User.Type actual = Preconditions.checkNotNull(this.actual).getType();
-        check("getType()").that(actual).isEqualTo(expected);
+        if (!Objects.deepEquals(actual, expected)) {
+            check("getType()").that(actual).isEqualTo(expected);
+        }
     }
 }
@@ -16,9 +16,11 @@
 
 package io.t28.auto.truth.test.data;
 
+import com.google.common.truth.Fact;
 import com.google.common.truth.FailureMetadata;
 import com.google.common.truth.Subject;
 import com.google.common.truth.Truth;
+import io.t28.auto.truth.internal.ValueRenderer;
 
 import javax.annotation.Generated;
 import javax.annotation.Nonnull;
@@ -27,6 +29,13 @@ import javax.annotation.Nullable;
 @Generated("io.t28.auto.truth.processor.AutoTruthProcessor")
 @SuppressWarnings("unchecked")
 public class AutoUserTypeSubject extends Subject {
+    private static final Subject.Factory<AutoUserTypeSubject, User.Type> FACTORY = new Subject.Factory<AutoUserTypeSubject, User.Type>() {
+        @Override
+        public final AutoUserTypeSubject createSubject(FailureMetadata metadata, User.Type _actual) {
+            return new AutoUserTypeSubject(metadata, _actual);
+        }
+    };
+
     private final User.Type actual;
 
     protected AutoUserTypeSubject(@Nonnull FailureMetadata failureMetadata, @Nullable User.Type actual) {
@@ -34,38 +43,42 @@ public class AutoUserTypeSubject extends Subject {
         this.actual = actual;
     }
 
+    @Nonnull
+    public static Subject.Factory<AutoUserTypeSubject, User.Type> factory() {
+        return FACTORY;
+    }
+
     @Nonnull
     public static AutoUserTypeSubject assertThat(@Nullable User.Type actual) {
-        return Truth.assertAbout(new Subject.Factory<AutoUserTypeSubject, User.Type>() {
-            @Override
-            public final AutoUserTypeSubject createSubject(FailureMetadata metadata,
-                                                           User.Type _actual) {
-                return new AutoUserTypeSubject(metadata, _actual);
-            }
-        }).that(actual);
+        return Truth.assertAbout(factory()).that(actual);
+    }
+
+    @Override
+    protected String actualCustomStringRepresentation() {
+        return ValueRenderer.render(actual);
     }
 
     public void isGuest() {
         if (actual != User.Type.GUEST) {
-            failWithActual("expected to be GUEST", actual);
+            failWithoutActual(Fact.fact("expected to be GUEST", ValueRenderer.render(actual)), Fact.fact("but was", ValueRenderer.render(actual)));
         }
     }
 
     public void isNotGuest() {
         if (actual == User.Type.GUEST) {
-            failWithActual("expected not to be GUEST", actual);
+            failWithoutActual(Fact.fact("expected not to be GUEST", ValueRenderer.render(actual)), Fact.fact("but was", ValueRenderer.render(actual)));
         }
     }
 
     public void isOwner() {
         if (actual != User.Type.OWNER) {
-            failWithActual("expected to be OWNER", actual);
+            failWithoutActual(Fact.fact("expected to be OWNER", ValueRenderer.render(actual)), Fact.fact("but was", ValueRenderer.render(actual)));
         }
     }
 
     public void isNotOwner() {
         if (actual == User.Type.OWNER) {
-            failWithActual("expected not to be OWNER", actual);
+            failWithoutActual(Fact.fact("expected not to be OWNER", ValueRenderer.render(actual)), Fact.fact("but was", ValueRenderer.render(actual)));
         }
     }
 }
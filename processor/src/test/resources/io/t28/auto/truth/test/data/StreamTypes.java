@@ -16,6 +16,8 @@
 
 package io.t28.auto.truth.test.data;
 
+import java.util.Iterator;
+import java.util.Spliterator;
 import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
@@ -26,4 +28,6 @@ public class StreamTypes {
     public LongStream longStream;
     public DoubleStream doubleStream;
     public Stream<String> stringStream;
+    public Iterator<String> stringIterator;
+    public Spliterator<String> stringSpliterator;
 }
@@ -18,3 +18,4 @@ rootProject.name = "auto-truth"
 include(":annotations")
 include(":processor")
 include(":test")
+include(":benchmarks")
@@ -17,6 +17,7 @@
 plugins {
     java
     idea
+    id("me.champeau.gradle.jmh") version "0.5.0"
 }
 
 repositories {
@@ -49,9 +50,30 @@ dependencies {
     // AutoTruth
     testImplementation(project(":annotations"))
     testAnnotationProcessor(project(":processor"))
+
+    // JMH
+    jmh("com.google.truth:truth:$truthVersion")
+    jmh("com.google.truth.extensions:truth-java8-extension:$truthVersion")
+    jmh(project(":annotations"))
+    "jmhAnnotationProcessor"(project(":processor"))
+}
+
+jmh {
+    jmhVersion = "1.25"
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    resultFormat = "JSON"
+    profilers = listOf("gc")
+    duplicateClassesStrategy = DuplicatesStrategy.EXCLUDE
 }
 
 tasks {
+    compileTestJava {
+        // AutoSubjectsTest covers the registry generated for the test package
+        options.compilerArgs.add("-Aautotruth.registry=true")
+    }
+
     test {
         useJUnitPlatform()
         testLogging {
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.benchmark;
+
+import com.google.common.truth.FailureMetadata;
+import com.google.common.truth.StandardSubjectBuilder;
+import io.t28.auto.truth.AutoSubject;
+import io.t28.auto.truth.data.BoxedPrimitiveTypes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BoxedPrimitiveTypesBenchmark {
+    private static final StandardSubjectBuilder IGNORE_FAILURE = StandardSubjectBuilder.forCustomFailureStrategy(failure -> {
+    });
+
+    private final BoxedPrimitiveTypes actual = BoxedPrimitiveTypes.builder()
+        .booleanValue(true)
+        .byteValue((byte) 1)
+        .characterValue('a')
+        .shortValue((short) 2)
+        .integerValue(43)
+        .longValue(1024L)
+        .floatValue(12.3f)
+        .doubleValue(1.234567890)
+        .build();
+
+    private final Integer expectedInteger = 43;
+
+    private final Integer unexpectedInteger = 34;
+
+    @Benchmark
+    public void isBooleanValuePass() {
+        IGNORE_FAILURE.about(BoxedPrimitiveTypesSubject::new).that(actual).isBooleanValue();
+    }
+
+    @Benchmark
+    public void isBooleanValueFail() {
+        IGNORE_FAILURE.about(BoxedPrimitiveTypesSubject::new).that(actual).isNotBooleanValue();
+    }
+
+    @Benchmark
+    public boolean isBooleanValueHandWritten() {
+        return Objects.equals(actual.booleanValue(), Boolean.TRUE);
+    }
+
+    @Benchmark
+    public void hasIntegerValuePass() {
+        IGNORE_FAILURE.about(BoxedPrimitiveTypesSubject::new).that(actual).hasIntegerValue(expectedInteger);
+    }
+
+    @Benchmark
+    public void hasIntegerValueFail() {
+        IGNORE_FAILURE.about(BoxedPrimitiveTypesSubject::new).that(actual).hasIntegerValue(unexpectedInteger);
+    }
+
+    @Benchmark
+    public boolean hasIntegerValueHandWritten() {
+        return Objects.equals(actual.integerValue(), expectedInteger);
+    }
+
+    @AutoSubject(BoxedPrimitiveTypes.class)
+    public static class BoxedPrimitiveTypesSubject extends AutoBoxedPrimitiveTypesSubject {
+        protected BoxedPrimitiveTypesSubject(@Nonnull FailureMetadata failureMetadata, @Nullable BoxedPrimitiveTypes actual) {
+            super(failureMetadata, actual);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.benchmark;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.truth.FailureMetadata;
+import com.google.common.truth.StandardSubjectBuilder;
+import io.t28.auto.truth.AutoSubject;
+import io.t28.auto.truth.data.IterableTypes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IterableTypesBenchmark {
+    private static final StandardSubjectBuilder IGNORE_FAILURE = StandardSubjectBuilder.forCustomFailureStrategy(failure -> {
+    });
+
+    private final IterableTypes actual = IterableTypes.builder()
+        .iterable(Collections.emptyList())
+        .collection(ImmutableList.of("Alice", "Bob", "Charlie"))
+        .list(ImmutableList.of(1, 2, 3, 4, 5))
+        .set(ImmutableSet.of("foo", "bar"))
+        .build();
+
+    @Benchmark
+    public void hasListPass() {
+        IGNORE_FAILURE.about(IterableTypesSubject::new).that(actual).hasList(1, 3, 5);
+    }
+
+    @Benchmark
+    public void hasListFail() {
+        IGNORE_FAILURE.about(IterableTypesSubject::new).that(actual).hasList(1, 3, 6);
+    }
+
+    @Benchmark
+    public boolean hasListHandWritten() {
+        return actual.list().containsAll(Arrays.asList(1, 3, 5));
+    }
+
+    @Benchmark
+    public void doesNotHaveSetPass() {
+        IGNORE_FAILURE.about(IterableTypesSubject::new).that(actual).doesNotHaveSet("baz", "qux");
+    }
+
+    @Benchmark
+    public void doesNotHaveSetFail() {
+        IGNORE_FAILURE.about(IterableTypesSubject::new).that(actual).doesNotHaveSet("foo", "qux");
+    }
+
+    @Benchmark
+    public boolean doesNotHaveSetHandWritten() {
+        return Collections.disjoint(actual.set(), Arrays.asList("baz", "qux"));
+    }
+
+    @Benchmark
+    public void collectionContainsExactlyPass() {
+        IGNORE_FAILURE.about(IterableTypesSubject::new).that(actual).collection().containsExactly("Alice", "Bob", "Charlie");
+    }
+
+    @Benchmark
+    public void collectionContainsExactlyFail() {
+        IGNORE_FAILURE.about(IterableTypesSubject::new).that(actual).collection().containsExactly("Alice", "Bob");
+    }
+
+    @Benchmark
+    public boolean collectionContainsExactlyHandWritten() {
+        return actual.collection().equals(Arrays.asList("Alice", "Bob", "Charlie"));
+    }
+
+    @AutoSubject(IterableTypes.class)
+    public static class IterableTypesSubject extends AutoIterableTypesSubject {
+        protected IterableTypesSubject(@Nonnull FailureMetadata failureMetadata, @Nullable IterableTypes actual) {
+            super(failureMetadata, actual);
+        }
+    }
+}
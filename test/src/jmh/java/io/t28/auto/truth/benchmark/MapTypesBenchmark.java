@@ -0,0 +1,105 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.benchmark;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.truth.FailureMetadata;
+import com.google.common.truth.StandardSubjectBuilder;
+import io.t28.auto.truth.AutoSubject;
+import io.t28.auto.truth.data.MapTypes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapTypesBenchmark {
+    private static final StandardSubjectBuilder IGNORE_FAILURE = StandardSubjectBuilder.forCustomFailureStrategy(failure -> {
+    });
+
+    private final MapTypes actual = MapTypes.builder()
+        .map(ImmutableMap.of("key", "value"))
+        .sortedMap(ImmutableSortedMap.of(1L, "Alice", 2L, "Bob"))
+        .build();
+
+    @Benchmark
+    public void mapContainsEntryPass() {
+        IGNORE_FAILURE.about(MapTypesSubject::new).that(actual).map().containsEntry("key", "value");
+    }
+
+    @Benchmark
+    public void mapContainsEntryFail() {
+        IGNORE_FAILURE.about(MapTypesSubject::new).that(actual).map().containsEntry("key", "other");
+    }
+
+    @Benchmark
+    public void hasMapEntryPass() {
+        IGNORE_FAILURE.about(MapTypesSubject::new).that(actual).hasMapEntry("key", "value");
+    }
+
+    @Benchmark
+    public void hasMapEntryFail() {
+        IGNORE_FAILURE.about(MapTypesSubject::new).that(actual).hasMapEntry("key", "other");
+    }
+
+    @Benchmark
+    public boolean mapContainsEntryHandWritten() {
+        return Objects.equals(actual.map().get("key"), "value");
+    }
+
+    @Benchmark
+    public void sortedMapContainsKeyPass() {
+        IGNORE_FAILURE.about(MapTypesSubject::new).that(actual).sortedMap().containsKey(1L);
+    }
+
+    @Benchmark
+    public void sortedMapContainsKeyFail() {
+        IGNORE_FAILURE.about(MapTypesSubject::new).that(actual).sortedMap().containsKey(3L);
+    }
+
+    @Benchmark
+    public void hasSortedMapKeyPass() {
+        IGNORE_FAILURE.about(MapTypesSubject::new).that(actual).hasSortedMapKey(1L);
+    }
+
+    @Benchmark
+    public void hasSortedMapKeyFail() {
+        IGNORE_FAILURE.about(MapTypesSubject::new).that(actual).hasSortedMapKey(3L);
+    }
+
+    @Benchmark
+    public boolean sortedMapContainsKeyHandWritten() {
+        return actual.sortedMap().containsKey(1L);
+    }
+
+    @AutoSubject(MapTypes.class)
+    public static class MapTypesSubject extends AutoMapTypesSubject {
+        protected MapTypesSubject(@Nonnull FailureMetadata failureMetadata, @Nullable MapTypes actual) {
+            super(failureMetadata, actual);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.benchmark;
+
+import com.google.common.truth.FailureMetadata;
+import com.google.common.truth.StandardSubjectBuilder;
+import io.t28.auto.truth.AutoSubject;
+import io.t28.auto.truth.data.PrimitiveArrayTypes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PrimitiveArrayTypesBenchmark {
+    private static final StandardSubjectBuilder IGNORE_FAILURE = StandardSubjectBuilder.forCustomFailureStrategy(failure -> {
+    });
+
+    private final PrimitiveArrayTypes actual = PrimitiveArrayTypes.builder()
+        .booleanArray(true, false, true)
+        .byteArray((byte) 1, (byte) 2)
+        .charArray('a', 'b', 'c')
+        .shortArray((short) 3, (short) 4, (short) 5)
+        .intArray(6, 7, 8, 9, 10, 11, 12, 13)
+        .longArray(7L, 8L)
+        .floatArray(1.0f, 2.0f, 3.0f)
+        .doubleArray(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY)
+        .build();
+
+    private final int[] expectedIntArray = {6, 7, 8, 9, 10, 11, 12, 13};
+
+    private final int[] unexpectedIntArray = {6, 7, 8, 9, 10, 11, 12, 14};
+
+    @Benchmark
+    public void intArrayIsEqualToPass() {
+        IGNORE_FAILURE.about(PrimitiveArrayTypesSubject::new).that(actual).intArray().isEqualTo(expectedIntArray);
+    }
+
+    @Benchmark
+    public void intArrayIsEqualToFail() {
+        IGNORE_FAILURE.about(PrimitiveArrayTypesSubject::new).that(actual).intArray().isEqualTo(unexpectedIntArray);
+    }
+
+    @Benchmark
+    public boolean intArrayIsEqualToHandWritten() {
+        return Arrays.equals(actual.intArray(), expectedIntArray);
+    }
+
+    @AutoSubject(PrimitiveArrayTypes.class)
+    public static class PrimitiveArrayTypesSubject extends AutoPrimitiveArrayTypesSubject {
+        protected PrimitiveArrayTypesSubject(@Nonnull FailureMetadata failureMetadata, @Nullable PrimitiveArrayTypes actual) {
+            super(failureMetadata, actual);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.benchmark;
+
+import com.google.common.truth.FailureMetadata;
+import com.google.common.truth.StandardSubjectBuilder;
+import io.t28.auto.truth.AutoSubject;
+import io.t28.auto.truth.data.PrimitiveTypes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PrimitiveTypesBenchmark {
+    // Failures are swallowed so that the cost of building them is measured without unwinding the stack
+    private static final StandardSubjectBuilder IGNORE_FAILURE = StandardSubjectBuilder.forCustomFailureStrategy(failure -> {
+    });
+
+    private final PrimitiveTypes actual = PrimitiveTypes.builder()
+        .booleanValue(true)
+        .byteValue((byte) 1)
+        .charValue('a')
+        .shortValue((short) 2)
+        .intValue(43)
+        .longValue(1024L)
+        .floatValue(12.3f)
+        .doubleValue(1.234567890)
+        .build();
+
+    @Benchmark
+    public void isBooleanValuePass() {
+        IGNORE_FAILURE.about(PrimitiveTypesSubject::new).that(actual).isBooleanValue();
+    }
+
+    @Benchmark
+    public void isBooleanValueFail() {
+        IGNORE_FAILURE.about(PrimitiveTypesSubject::new).that(actual).isNotBooleanValue();
+    }
+
+    @Benchmark
+    public boolean isBooleanValueHandWritten() {
+        return actual.booleanValue();
+    }
+
+    @Benchmark
+    public void hasIntValuePass() {
+        IGNORE_FAILURE.about(PrimitiveTypesSubject::new).that(actual).hasIntValue(43);
+    }
+
+    @Benchmark
+    public void hasIntValueFail() {
+        IGNORE_FAILURE.about(PrimitiveTypesSubject::new).that(actual).hasIntValue(34);
+    }
+
+    @Benchmark
+    public boolean hasIntValueHandWritten() {
+        return actual.intValue() == 43;
+    }
+
+    @Benchmark
+    public void hasLongValuePass() {
+        IGNORE_FAILURE.about(PrimitiveTypesSubject::new).that(actual).hasLongValue(1024L);
+    }
+
+    @Benchmark
+    public void hasLongValueFail() {
+        IGNORE_FAILURE.about(PrimitiveTypesSubject::new).that(actual).hasLongValue(4096L);
+    }
+
+    @Benchmark
+    public boolean hasLongValueHandWritten() {
+        return actual.longValue() == 1024L;
+    }
+
+    @Benchmark
+    public void hasDoubleValuePass() {
+        IGNORE_FAILURE.about(PrimitiveTypesSubject::new).that(actual).hasDoubleValue(1.234567890);
+    }
+
+    @Benchmark
+    public void hasDoubleValueFail() {
+        IGNORE_FAILURE.about(PrimitiveTypesSubject::new).that(actual).hasDoubleValue(1.2345678);
+    }
+
+    @Benchmark
+    public boolean hasDoubleValueHandWritten() {
+        return Double.compare(actual.doubleValue(), 1.234567890) == 0;
+    }
+
+    @AutoSubject(PrimitiveTypes.class)
+    public static class PrimitiveTypesSubject extends AutoPrimitiveTypesSubject {
+        protected PrimitiveTypesSubject(@Nonnull FailureMetadata failureMetadata, @Nullable PrimitiveTypes actual) {
+            super(failureMetadata, actual);
+        }
+    }
+}
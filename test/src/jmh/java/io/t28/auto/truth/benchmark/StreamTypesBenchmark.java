@@ -0,0 +1,90 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.benchmark;
+
+import com.google.common.truth.FailureMetadata;
+import com.google.common.truth.StandardSubjectBuilder;
+import io.t28.auto.truth.AutoSubject;
+import io.t28.auto.truth.data.StreamTypes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StreamTypesBenchmark {
+    private static final StandardSubjectBuilder IGNORE_FAILURE = StandardSubjectBuilder.forCustomFailureStrategy(failure -> {
+    });
+
+    @Benchmark
+    public void stringStreamContainsExactlyPass() {
+        IGNORE_FAILURE.about(StreamTypesSubject::new).that(newStreamTypes()).stringStream().containsExactly("Alice", "Bob", "Charlie");
+    }
+
+    @Benchmark
+    public void stringStreamContainsExactlyFail() {
+        IGNORE_FAILURE.about(StreamTypesSubject::new).that(newStreamTypes()).stringStream().containsExactly("Alice", "Bob");
+    }
+
+    @Benchmark
+    public boolean stringStreamContainsExactlyHandWritten() {
+        return newStreamTypes().stringStream().collect(Collectors.toList()).equals(Arrays.asList("Alice", "Bob", "Charlie"));
+    }
+
+    @Benchmark
+    public void stringStreamStartsWithPass() {
+        IGNORE_FAILURE.about(StreamTypesSubject::new).that(newStreamTypes()).stringStreamStartsWith("Alice", "Bob");
+    }
+
+    @Benchmark
+    public void stringStreamStartsWithFail() {
+        IGNORE_FAILURE.about(StreamTypesSubject::new).that(newStreamTypes()).stringStreamStartsWith("Bob");
+    }
+
+    // Streams can be consumed only once, so every invocation creates a new value object
+    private static StreamTypes newStreamTypes() {
+        return StreamTypes.builder()
+            .intStream(IntStream.of(1))
+            .longStream(LongStream.empty())
+            .doubleStream(DoubleStream.of(1.0))
+            .stringStream(Stream.of("Alice", "Bob", "Charlie"))
+            .stringIterator(Arrays.asList("Alice", "Bob", "Charlie").iterator())
+            .stringSpliterator(Arrays.asList("Alice", "Bob", "Charlie").spliterator())
+            .build();
+    }
+
+    @AutoSubject(StreamTypes.class)
+    public static class StreamTypesSubject extends AutoStreamTypesSubject {
+        protected StreamTypesSubject(@Nonnull FailureMetadata failureMetadata, @Nullable StreamTypes actual) {
+            super(failureMetadata, actual);
+        }
+    }
+}
@@ -44,6 +44,8 @@ public abstract class PrimitiveArrayTypes {
     @SuppressWarnings("mutable")
     public abstract double[] doubleArray();
 
+    public abstract Builder toBuilder();
+
     public static Builder builder() {
         return new AutoValue_PrimitiveArrayTypes.Builder();
     }
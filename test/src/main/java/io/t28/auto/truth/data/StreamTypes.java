@@ -18,6 +18,8 @@ package io.t28.auto.truth.data;
 
 import com.google.auto.value.AutoValue;
 
+import java.util.Iterator;
+import java.util.Spliterator;
 import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
@@ -33,6 +35,10 @@ public abstract class StreamTypes {
 
     public abstract Stream<String> stringStream();
 
+    public abstract Iterator<String> stringIterator();
+
+    public abstract Spliterator<String> stringSpliterator();
+
     public static Builder builder() {
         return new AutoValue_StreamTypes.Builder();
     }
@@ -47,6 +53,10 @@ public abstract class StreamTypes {
 
         public abstract Builder stringStream(Stream<String> value);
 
+        public abstract Builder stringIterator(Iterator<String> value);
+
+        public abstract Builder stringSpliterator(Spliterator<String> value);
+
         public abstract StreamTypes build();
     }
 }
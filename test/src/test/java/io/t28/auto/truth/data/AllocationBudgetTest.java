@@ -0,0 +1,170 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.data;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedMap;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class AllocationBudgetTest {
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASUREMENT_ITERATIONS = 10_000;
+    // Absorbs allocations of the JVM itself during a measurement, such as a TLAB refill, while staying below a byte per call
+    private static final long SLACK_BYTES = 1024L;
+
+    private static com.sun.management.ThreadMXBean threadMXBean;
+
+    @BeforeAll
+    static void setup() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+            "Allocated bytes per thread are not available on this JVM");
+        threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported(), "Allocated bytes per thread are not supported");
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        // Iterators and boxed values that do not escape are only eliminated once assertions are compiled
+        assumeTrue(hasOptimizingCompiler(), "Allocation budgets require an optimizing JIT compiler");
+    }
+
+    private static boolean hasOptimizingCompiler() {
+        if (ManagementFactory.getCompilationMXBean() == null || System.getProperty("java.vm.info", "").contains("interpreted")) {
+            return false;
+        }
+        // Escape analysis is done by C2, which is disabled when tiered compilation stops at C1
+        return ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+            .noneMatch(argument -> argument.matches("-XX:TieredStopAtLevel=[0-3]"));
+    }
+
+    @ParameterizedTest(name = "{0} should allocate at most {2} bytes")
+    @MethodSource("passingAssertionProvider")
+    void shouldNotExceedAllocationBudget(String name, Runnable assertion, long budget) {
+        // Act
+        final long actual = allocatedBytes(assertion);
+
+        // Assert
+        assertWithMessage("Allocated bytes in %s calls of %s", MEASUREMENT_ITERATIONS, name)
+            .that(actual)
+            .isAtMost(budget * MEASUREMENT_ITERATIONS + SLACK_BYTES);
+    }
+
+    // Subjects are created once, since only the cost of generated assertion methods is budgeted
+    static Stream<Arguments> passingAssertionProvider() {
+        final PrimitiveTypes primitiveTypes = PrimitiveTypes.builder()
+            .booleanValue(true)
+            .byteValue((byte) 1)
+            .charValue('a')
+            .shortValue((short) 2)
+            .intValue(43)
+            .longValue(1024L)
+            .floatValue(12.3f)
+            .doubleValue(1.234567890)
+            .build();
+        final PrimitiveTypesTest.PrimitiveTypesSubject primitiveTypesSubject =
+            PrimitiveTypesTest.PrimitiveTypesSubject.assertThat(primitiveTypes);
+        final PrimitiveTypesTest.PrimitiveTypesSubject falsePrimitiveTypesSubject =
+            PrimitiveTypesTest.PrimitiveTypesSubject.assertThat(primitiveTypes.toBuilder().booleanValue(false).build());
+        final EnumTypesTest.EnumTypesSubject enumTypesSubject = EnumTypesTest.EnumTypesSubject.assertThat(EnumTypes.FOO);
+        final OptionalTypesTest.OptionalTypesSubject optionalTypesSubject = OptionalTypesTest.OptionalTypesSubject.assertThat(
+            OptionalTypes.builder().optionalInt(23).optionalLong(64L).optionalDouble(0.5).optionalString("Alice").build());
+        final Integer integerValue = 4096;
+        final AutoBoxedPrimitiveTypesSubject boxedPrimitiveTypesSubject = AutoBoxedPrimitiveTypesSubject.assertThat(
+            BoxedPrimitiveTypes.builder().booleanValue(true).integerValue(integerValue).build());
+        final ImmutableSet<String> expectedSet = ImmutableSet.of("bar");
+        final IterableTypesTest.IterableTypesSubject iterableTypesSubject = IterableTypesTest.IterableTypesSubject.assertThat(
+            IterableTypes.builder()
+                .iterable(ImmutableList.of())
+                .collection(ImmutableList.of("Alice", "Bob", "Charlie"))
+                .list(ImmutableList.of(1, 2, 3))
+                .set(ImmutableSet.of("foo", "bar"))
+                .build());
+        final MapTypesTest.MapTypesSubject mapTypesSubject = MapTypesTest.MapTypesSubject.assertThat(MapTypes.builder()
+            .map(ImmutableMap.of("type", "User"))
+            .sortedMap(ImmutableSortedMap.of(1L, "Alice", 2L, "Bob"))
+            .build());
+        final double[] series = new double[100_000];
+        Arrays.setAll(series, index -> index * 0.5);
+        final double[] expectedSeries = series.clone();
+        final PrimitiveArrayTypesTest.PrimitiveArrayTypesSubject primitiveArrayTypesSubject =
+            PrimitiveArrayTypesTest.PrimitiveArrayTypesSubject.assertThat(PrimitiveArrayTypes.builder()
+                .booleanArray(true)
+                .byteArray((byte) 1)
+                .charArray('a')
+                .shortArray((short) 2)
+                .intArray(3)
+                .longArray(4L)
+                .floatArray(5.0f)
+                .doubleArray(series)
+                .build());
+        return Stream.of(
+            arguments("isBooleanValue()", (Runnable) primitiveTypesSubject::isBooleanValue, 0L),
+            arguments("isNotBooleanValue()", (Runnable) falsePrimitiveTypesSubject::isNotBooleanValue, 0L),
+            arguments("isFoo()", (Runnable) enumTypesSubject::isFoo, 0L),
+            arguments("isNotBar()", (Runnable) enumTypesSubject::isNotBar, 0L),
+            arguments("hasIntValue(int)", (Runnable) () -> primitiveTypesSubject.hasIntValue(43), 0L),
+            arguments("hasLongValue(long)", (Runnable) () -> primitiveTypesSubject.hasLongValue(1024L), 0L),
+            arguments("hasCharValue(char)", (Runnable) () -> primitiveTypesSubject.hasCharValue('a'), 0L),
+            arguments("hasFloatValue(float)", (Runnable) () -> primitiveTypesSubject.hasFloatValue(12.3f), 0L),
+            arguments("hasDoubleValue(double)", (Runnable) () -> primitiveTypesSubject.hasDoubleValue(1.234567890), 0L),
+            arguments("hasDoubleValue(double, double)", (Runnable) () -> primitiveTypesSubject.hasDoubleValue(1.2345, 0.001), 0L),
+            arguments("hasOptionalInt(int)", (Runnable) () -> optionalTypesSubject.hasOptionalInt(23), 0L),
+            arguments("hasOptionalLong(long)", (Runnable) () -> optionalTypesSubject.hasOptionalLong(64L), 0L),
+            arguments("hasOptionalDouble(double)", (Runnable) () -> optionalTypesSubject.hasOptionalDouble(0.5), 0L),
+            arguments("hasIntegerValue(Integer)", (Runnable) () -> boxedPrimitiveTypesSubject.hasIntegerValue(integerValue), 0L),
+            arguments("hasLongValue(Long)", (Runnable) () -> boxedPrimitiveTypesSubject.hasLongValue(null), 0L),
+            arguments("isBooleanValue() of Boolean", (Runnable) boxedPrimitiveTypesSubject::isBooleanValue, 0L),
+            arguments("hasCollectionSize(int)", (Runnable) () -> iterableTypesSubject.hasCollectionSize(3), 0L),
+            // Only iterators used by Set.containsAll may be allocated
+            arguments("hasSet(Collection)", (Runnable) () -> iterableTypesSubject.hasSet(expectedSet), 64L),
+            arguments("hasMapKey(String)", (Runnable) () -> mapTypesSubject.hasMapKey("type"), 0L),
+            arguments("hasSortedMapEntry(Long, String)", (Runnable) () -> mapTypesSubject.hasSortedMapEntry(2L, "Bob"), 0L),
+            arguments("hasDoubleArray(double...)", (Runnable) () -> primitiveArrayTypesSubject.hasDoubleArray(expectedSeries), 0L),
+            arguments("hasDoubleArraySorted()", (Runnable) primitiveArrayTypesSubject::hasDoubleArraySorted, 0L)
+        );
+    }
+
+    // Totals are compared rather than an average per call, so that a few bytes per call are not rounded away
+    private static long allocatedBytes(Runnable assertion) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            assertion.run();
+        }
+        // Subtract allocations caused by the measurement itself
+        final long baseline = measure(() -> {
+        });
+        return Math.max(0L, measure(assertion) - baseline);
+    }
+
+    private static long measure(Runnable runnable) {
+        final long threadId = Thread.currentThread().getId();
+        final long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASUREMENT_ITERATIONS; i++) {
+            runnable.run();
+        }
+        return threadMXBean.getThreadAllocatedBytes(threadId) - before;
+    }
+}
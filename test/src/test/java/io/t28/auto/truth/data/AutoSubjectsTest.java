@@ -0,0 +1,77 @@
+/*
+ * Copyright 2020 Tatsuya Maki
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.t28.auto.truth.data;
+
+import com.google.common.truth.Subject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+class AutoSubjectsTest {
+    private PrimitiveTypes underTest;
+
+    @BeforeEach
+    void setup() {
+        underTest = PrimitiveTypes.builder()
+            .booleanValue(true)
+            .byteValue((byte) 1)
+            .charValue('a')
+            .shortValue((short) 2)
+            .intValue(43)
+            .longValue(1024L)
+            .floatValue(12.3f)
+            .doubleValue(1.234567890)
+            .build();
+    }
+
+    @Test
+    void shouldDispatchToGeneratedSubject() {
+        // Act
+        final Subject subject = AutoSubjects.assertThat(underTest);
+
+        // Assert
+        assertThat(subject).isInstanceOf(AutoPrimitiveTypesSubject.class);
+        ((AutoPrimitiveTypesSubject) subject).isBooleanValue();
+    }
+
+    @Test
+    void shouldResolveNearestSupertype() {
+        // Assert
+        assertThat(underTest.getClass()).isNotEqualTo(PrimitiveTypes.class);
+        assertThat(AutoSubjects.factory(underTest.getClass())).isSameInstanceAs(AutoPrimitiveTypesSubject.factory());
+    }
+
+    @Test
+    void shouldReturnFactoryOfValueObject() {
+        // Assert
+        assertThat(AutoSubjects.factory(PrimitiveTypes.class)).isSameInstanceAs(AutoPrimitiveTypesSubject.factory());
+        assertThat(AutoSubjects.factory(StreamTypes.class)).isSameInstanceAs(AutoStreamTypesSubject.factory());
+        assertThat(AutoSubjects.factory(String.class)).isNull();
+    }
+
+    @Test
+    void shouldFallBackToTruthSubject() {
+        // Act
+        final Subject subject = AutoSubjects.assertThat("Alice");
+        final Subject nullSubject = AutoSubjects.assertThat(null);
+
+        // Assert
+        assertThat(subject.getClass()).isEqualTo(Subject.class);
+        assertThat(nullSubject.getClass()).isEqualTo(Subject.class);
+    }
+}
@@ -61,7 +61,7 @@ class BoxedPrimitiveTypesTest {
 
             // Assert
             assertThat(error).factKeys().contains("expected to be booleanValue");
-            assertThat(error).factValue("but was").contains("booleanValue=false");
+            assertThat(error).factValue("but was").isEqualTo("false");
         }
 
         @Test
@@ -76,7 +76,7 @@ class BoxedPrimitiveTypesTest {
 
             // Assert
             assertThat(error).factKeys().contains("expected not to be booleanValue");
-            assertThat(error).factValue("but was").contains("booleanValue=true");
+            assertThat(error).factValue("but was").isEqualTo("true");
         }
 
         @Test
@@ -88,7 +88,7 @@ class BoxedPrimitiveTypesTest {
 
             // Assert
             assertThat(error).factKeys().contains("expected to be booleanValue");
-            assertThat(error).factValue("but was").contains("booleanValue=null");
+            assertThat(error).factValue("but was").isEqualTo("null");
         }
     }
 
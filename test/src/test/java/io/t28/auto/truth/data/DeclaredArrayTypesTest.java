@@ -24,6 +24,8 @@ import io.t28.auto.truth.AutoSubject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+
 import javax.annotation.CheckReturnValue;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -77,6 +79,58 @@ class DeclaredArrayTypesTest {
         assertThat(error).factValue("but was", 0).isEqualTo("[class java.lang.Short, class java.lang.Integer, class java.lang.Long]");
     }
 
+    @Test
+    void shouldPassValueAssertion() {
+        // Assert
+        assertThat(underTest).hasObjectArray(Short.class, Integer.class, Long.class);
+        assertThat(underTest).hasStringArray("foo", "bar");
+    }
+
+    @Test
+    void shouldFailValueAssertion() {
+        // Act
+        final AssertionError error = expectFailure(callback -> {
+            callback.that(underTest).hasStringArray("foo", "baz");
+        });
+
+        // Assert
+        assertThat(error).hasMessageThat().startsWith("first mismatch at index 1");
+        assertThat(error).factValue("value of").isEqualTo("declaredArrayTypes.stringArray()");
+        assertThat(error).factValue("expected").isEqualTo("[foo, baz] (length 2)");
+        assertThat(error).factValue("but was").isEqualTo("[foo, bar] (length 2)");
+    }
+
+    @Test
+    void shouldFailValueAssertionWhenElementsRenderTheSame() {
+        // Arrange
+        final DeclaredArrayTypes actual = DeclaredArrayTypes.builder().strings((String) null).build();
+
+        // Act
+        final AssertionError error = expectFailure(callback -> {
+            callback.that(actual).hasStringArray("null");
+        });
+
+        // Assert
+        assertThat(error).hasMessageThat().startsWith("first mismatch at index 0, although the elements render the same");
+        assertThat(error).factValue("value of").isEqualTo("declaredArrayTypes.stringArray()");
+    }
+
+    @Test
+    void shouldFailValueAssertionWhenElementsDifferBeyondRenderedLength() {
+        // Arrange
+        final String prefix = String.join("", Collections.nCopies(250, "a"));
+        final DeclaredArrayTypes actual = DeclaredArrayTypes.builder().strings(prefix + "b").build();
+
+        // Act
+        final AssertionError error = expectFailure(callback -> {
+            callback.that(actual).hasStringArray(prefix + "c");
+        });
+
+        // Assert
+        assertThat(error).hasMessageThat().startsWith("first mismatch at index 0, although the elements render the same");
+        assertThat(error).factValue("value of").isEqualTo("declaredArrayTypes.stringArray()");
+    }
+
     @AutoSubject(DeclaredArrayTypes.class)
     public static class DeclaredArrayTypesSubject extends AutoDeclaredArrayTypesSubject {
         protected DeclaredArrayTypesSubject(@Nonnull FailureMetadata failureMetadata, @Nullable DeclaredArrayTypes actual) {
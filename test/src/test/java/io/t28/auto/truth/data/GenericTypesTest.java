@@ -24,6 +24,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import javax.annotation.CheckReturnValue;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -63,6 +64,32 @@ class GenericTypesTest {
         assertThat(error).factValue("but was").isEqualTo("foo_bar_baz");
     }
 
+    @Test
+    void shouldPassAssertionForDeepEqualArrays() {
+        // Arrange
+        final int[] values = new int[1000];
+        Arrays.fill(values, 1);
+        final GenericTypes<Serializable> actual = GenericTypes.<Serializable>builder()
+            .value(values)
+            .valueList(ImmutableList.of())
+            .build();
+
+        // Act & Assert
+        GenericTypesSubject.assertThat(actual).hasValue(values.clone());
+    }
+
+    @Test
+    void shouldPassAssertionForEqualIntegralValues() {
+        // Arrange
+        final GenericTypes<Serializable> actual = GenericTypes.<Serializable>builder()
+            .value(42)
+            .valueList(ImmutableList.of())
+            .build();
+
+        // Act & Assert
+        GenericTypesSubject.assertThat(actual).hasValue(42L);
+    }
+
     @AutoSubject(GenericTypes.class)
     public static class GenericTypesSubject<T> extends AutoGenericTypesSubject<T> {
         GenericTypesSubject(@Nonnull FailureMetadata failureMetadata, @Nullable GenericTypes<T> actual) {
@@ -19,6 +19,8 @@ package io.t28.auto.truth.data;
 import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.ImmutableMultiset;
 import com.google.common.collect.ImmutableTable;
+import com.google.common.collect.TreeBasedTable;
+import com.google.common.collect.TreeMultimap;
 import com.google.common.truth.ExpectFailure;
 import com.google.common.truth.FailureMetadata;
 import com.google.common.truth.GuavaOptionalSubject;
@@ -117,6 +119,44 @@ class GuavaTypesTest {
             assertThat(error).factValue("expected").isEqualTo("1");
             assertThat(error).factValue("but was").isEqualTo("0");
         }
+
+        @Test
+        void shouldPassElementsAssertion() {
+            // Act & Assert
+            assertThat(underTest).hasMultiset("Bob", "Bob");
+            assertThat(underTest).hasMultiset(ImmutableMultiset.of("Alice", "Bob", "Bob"));
+            assertThat(underTest).hasMultisetSize(3);
+        }
+
+        @Test
+        void shouldFailElementsAssertionWhenOccurrencesAreMissing() {
+            // Act
+            final AssertionError error = expectFailure(callback -> {
+                callback.that(underTest).hasMultiset("Alice", "Alice");
+            });
+
+            // Assert
+            assertThat(error).factValue("value of").isEqualTo("guavaTypes.multiset()");
+            assertThat(error).factKeys().contains("missing (1)");
+        }
+
+        @Test
+        void shouldPassCountAssertion() {
+            // Act & Assert
+            assertThat(underTest).hasMultisetCount("Bob", 2);
+            assertThat(underTest).hasMultisetCount("Charlie", 0);
+        }
+
+        @Test
+        void shouldFailCountAssertion() {
+            // Act
+            final AssertionError error = expectFailure(callback -> {
+                callback.that(underTest).hasMultisetCount("Alice", 2);
+            });
+
+            // Assert
+            assertThat(error).hasMessageThat().contains("expected Alice to occur 2 times, but it occurred 1 times");
+        }
     }
 
     @Nested
@@ -149,6 +189,51 @@ class GuavaTypesTest {
             assertThat(error).factValue("value of").isEqualTo("guavaTypes.multimap()");
             assertThat(error).factKeys().contains("Not true that <{name=[Alice]}> contains at least <{name=[Charlie]}>. It is missing <{name=[Charlie]}>");
         }
+
+        @Test
+        void shouldPassLookupAssertion() {
+            // Act & Assert
+            assertThat(underTest).hasMultimapKey("name");
+            assertThat(underTest).hasMultimapEntry("name", "Alice");
+        }
+
+        @Test
+        void shouldFailLookupAssertion() {
+            // Act
+            final AssertionError wrongValue = expectFailure(callback -> {
+                callback.that(underTest).hasMultimapEntry("name", "Bob");
+            });
+            final AssertionError missingKey = expectFailure(callback -> {
+                callback.that(underTest).hasMultimapKey("type");
+            });
+
+            // Assert
+            assertThat(wrongValue).hasMessageThat().contains("expected to contain entry name=Bob, but the key was mapped to [Alice] (size 1)");
+            assertThat(missingKey).hasMessageThat().contains("expected to contain key type, but it was not present; nearby keys: [name] (size 1)");
+        }
+
+        @Test
+        void shouldFailLookupAssertionWhenSortedMultimapCannotLookUpElement() {
+            // Arrange
+            final GuavaTypes sorted = GuavaTypes.builder()
+                .optional("Foo")
+                .multiset(ImmutableMultiset.of())
+                .multimap(TreeMultimap.create(ImmutableMultimap.of("name", "Alice")))
+                .table(ImmutableTable.of())
+                .build();
+
+            // Act
+            final AssertionError missingValue = expectFailure(callback -> {
+                callback.that(sorted).hasMultimapEntry("name", null);
+            });
+            final AssertionError missingKey = expectFailure(callback -> {
+                callback.that(sorted).hasMultimapKey(null);
+            });
+
+            // Assert
+            assertThat(missingValue).hasMessageThat().contains("expected to contain entry name=null, but the key was mapped to [Alice] (size 1)");
+            assertThat(missingKey).hasMessageThat().contains("expected to contain key null, but it was not present; nearby keys: [name] (size 1)");
+        }
     }
 
     @Nested
@@ -181,6 +266,60 @@ class GuavaTypesTest {
             assertThat(error).factKeys().contains("expected to be empty");
             assertThat(error).factValue("but was").isEqualTo("{Row={Column=100}}");
         }
+
+        @Test
+        void shouldPassCellAssertion() {
+            // Act & Assert
+            assertThat(underTest).hasTableCell("Row", "Column", 100);
+        }
+
+        @Test
+        void shouldFailCellAssertion() {
+            // Act
+            final AssertionError wrongValue = expectFailure(callback -> {
+                callback.that(underTest).hasTableCell("Row", "Column", 200);
+            });
+            final AssertionError missingColumn = expectFailure(callback -> {
+                callback.that(underTest).hasTableCell("Row", "Other", 100);
+            });
+            final AssertionError missingRow = expectFailure(callback -> {
+                callback.that(underTest).hasTableCell("Other", "Column", 100);
+            });
+
+            // Assert
+            assertThat(wrongValue).hasMessageThat().contains("expected to contain cell (Row, Column)=200, but the cell had value 100");
+            assertThat(missingColumn).hasMessageThat()
+                .contains("expected to contain cell (Row, Other)=100, but the column was not present in the row; nearby columns: [Column] (size 1)");
+            assertThat(missingRow).hasMessageThat()
+                .contains("expected to contain cell (Other, Column)=100, but the row was not present; nearby rows: [Row] (size 1)");
+        }
+
+        @Test
+        void shouldFailCellAssertionWhenSortedTableCannotLookUpKey() {
+            // Arrange
+            final TreeBasedTable<String, String, Integer> table = TreeBasedTable.create();
+            table.put("Row", "Column", 100);
+            final GuavaTypes sorted = GuavaTypes.builder()
+                .optional("Foo")
+                .multiset(ImmutableMultiset.of())
+                .multimap(ImmutableMultimap.of())
+                .table(table)
+                .build();
+
+            // Act
+            final AssertionError missingColumn = expectFailure(callback -> {
+                callback.that(sorted).hasTableCell("Row", null, 100);
+            });
+            final AssertionError missingRow = expectFailure(callback -> {
+                callback.that(sorted).hasTableCell(null, "Column", 100);
+            });
+
+            // Assert
+            assertThat(missingColumn).hasMessageThat()
+                .contains("expected to contain cell (Row, null)=100, but the column was not present in the row; nearby columns: [Column] (size 1)");
+            assertThat(missingRow).hasMessageThat()
+                .contains("expected to contain cell (null, Column)=100, but the row was not present; nearby rows: [Row] (size 1)");
+        }
     }
 
     @AutoSubject(GuavaTypes.class)
@@ -27,6 +27,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
+import java.util.TreeSet;
 
 import javax.annotation.CheckReturnValue;
 import javax.annotation.Nonnull;
@@ -89,6 +90,151 @@ class IterableTypesTest {
         assertThat(error).factValue("but was").isEqualTo("[Alice, Bob, Charlie]");
     }
 
+    @Test
+    void shouldPassElementsAssertion() {
+        // Act & Assert
+        assertThat(underTest).hasCollection("Alice", "Charlie");
+        assertThat(underTest).hasList(ImmutableList.of(5, 1));
+        assertThat(underTest).hasSet(ImmutableSet.of("bar"));
+        assertThat(underTest).doesNotHaveSet("baz", "qux");
+        assertThat(underTest).doesNotHaveIterable(ImmutableList.of("foo"));
+        assertThat(underTest).hasCollectionSize(3);
+    }
+
+    @Test
+    void shouldFailElementsAssertionWhenSetIsExpectedToContainDuplicates() {
+        // Act
+        final AssertionError error = expectFailure(callback -> {
+            callback.that(underTest).hasSet("foo", "foo");
+        });
+
+        // Assert
+        assertThat(error).factValue("value of").isEqualTo("iterableTypes.set()");
+        assertThat(error).factKeys().contains("missing (1)");
+    }
+
+    @Test
+    void shouldFailElementsAssertionWhenSetIsExpectedToContainDuplicatesOfCollection() {
+        // Act
+        final AssertionError error = expectFailure(callback -> {
+            callback.that(underTest).hasSet(ImmutableList.of("bar", "foo", "bar"));
+        });
+
+        // Assert
+        assertThat(error).factValue("value of").isEqualTo("iterableTypes.set()");
+        assertThat(error).factKeys().contains("missing (1)");
+    }
+
+    @Test
+    void shouldFailNegativeElementsAssertionOfVarargs() {
+        // Act
+        final AssertionError error = expectFailure(callback -> {
+            callback.that(underTest).doesNotHaveSet("baz", "foo");
+        });
+
+        // Assert
+        assertThat(error).factValue("value of").isEqualTo("iterableTypes.set()");
+        assertThat(error).factValue("but contained").isEqualTo("[foo]");
+    }
+
+    @Test
+    void shouldFailNegativeElementsAssertion() {
+        // Act
+        final AssertionError error = expectFailure(callback -> {
+            callback.that(underTest).doesNotHaveSet(ImmutableList.of("bar", "baz"));
+        });
+
+        // Assert
+        assertThat(error).factValue("value of").isEqualTo("iterableTypes.set()");
+        assertThat(error).factValue("but contained").isEqualTo("[bar]");
+    }
+
+    @Test
+    void shouldPassNegativeElementsAssertionWhenSortedSetCannotLookUpElement() {
+        // Arrange
+        final IterableTypes sorted = IterableTypes.builder()
+            .iterable(Collections.emptyList())
+            .collection(Collections.emptyList())
+            .list(Collections.emptyList())
+            .set(new TreeSet<>(ImmutableList.of("foo", "bar")))
+            .build();
+
+        // Act & Assert
+        assertThat(sorted).doesNotHaveSet((String) null);
+        assertThat(sorted).doesNotHaveSet(Collections.singletonList(null));
+    }
+
+    @Test
+    void shouldFailElementsAssertionWhenSortedSetCannotLookUpElement() {
+        // Arrange
+        final IterableTypes sorted = IterableTypes.builder()
+            .iterable(Collections.emptyList())
+            .collection(Collections.emptyList())
+            .list(Collections.emptyList())
+            .set(new TreeSet<>(ImmutableList.of("foo", "bar")))
+            .build();
+
+        // Act
+        final AssertionError error = expectFailure(callback -> {
+            callback.that(sorted).hasSet("foo", null);
+        });
+
+        // Assert
+        assertThat(error).factValue("value of").isEqualTo("iterableTypes.set()");
+        assertThat(error).factValue("missing (1)").isEqualTo("null");
+    }
+
+    @Test
+    void shouldFailSizeAssertion() {
+        // Act
+        final AssertionError error = expectFailure(callback -> {
+            callback.that(underTest).hasSetSize(3);
+        });
+
+        // Assert
+        assertThat(error).factValue("value of").isEqualTo("iterableTypes.set().size()");
+        assertThat(error).factValue("expected").isEqualTo("3");
+        assertThat(error).factValue("but was").isEqualTo("2");
+    }
+
+    @Test
+    void shouldFailEmptyAssertion() {
+        // Act
+        final AssertionError error = expectFailure(callback -> {
+            callback.that(underTest).hasNoSet();
+        });
+
+        // Assert
+        assertThat(error).factValue("value of").isEqualTo("iterableTypes.set()");
+        assertThat(error).factKeys().contains("expected to be empty");
+    }
+
+    @Test
+    void shouldRenderLargeCollectionWithinBound() {
+        // Arrange
+        final ImmutableSet.Builder<String> set = ImmutableSet.builder();
+        for (int i = 0; i < 100_000; i++) {
+            set.add(String.valueOf(i));
+        }
+        final IterableTypes large = IterableTypes.builder()
+            .iterable(Collections.emptyList())
+            .collection(Collections.emptyList())
+            .list(Collections.emptyList())
+            .set(set.build())
+            .build();
+
+        // Act
+        final AssertionError error = expectFailure(callback -> {
+            callback.that(large).hasSetSize(3);
+        });
+
+        // Assert
+        assertThat(error).hasMessageThat()
+            .startsWith("expected to have size 3, but was [0, 1, 2, 3, 4, 5, 6, 7, 8, 9, ...] (size 100000)");
+        assertThat(error).factValue("value of").isEqualTo("iterableTypes.set()");
+        assertThat(error.getMessage().length()).isLessThan(1_000);
+    }
+
     @AutoSubject(IterableTypes.class)
     public static class IterableTypesSubject extends AutoIterableTypesSubject {
         protected IterableTypesSubject(@Nonnull FailureMetadata failureMetadata, @Nullable IterableTypes actual) {
@@ -24,8 +24,12 @@ import com.google.common.truth.MapSubject;
 import com.google.common.truth.Subject;
 import io.t28.auto.truth.AutoSubject;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+import java.util.TreeMap;
+
 import javax.annotation.CheckReturnValue;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -80,6 +84,104 @@ class MapTypesTest {
         assertThat(error).factValue("but was").isEqualTo("Alice");
     }
 
+    @Nested
+    class LookupAssertion {
+        @Test
+        void shouldPassAssertion() {
+            // Assert
+            assertThat(underTest).hasMapKey("type");
+            assertThat(underTest).hasMapEntry("type", "User");
+            assertThat(underTest).hasSortedMapEntry(2L, "Bob");
+        }
+
+        @Test
+        void shouldFailWhenValueDiffers() {
+            // Act
+            final AssertionError error = expectFailure(callback -> {
+                callback.that(underTest).hasSortedMapEntry(1L, "Charlie");
+            });
+
+            // Assert
+            assertThat(error).hasMessageThat().contains("expected to contain entry 1=Charlie, but the key was mapped to Alice");
+        }
+
+        @Test
+        void shouldRenderLargeValuesWithinBound() {
+            // Arrange
+            final String largeValue = String.join("", Collections.nCopies(100_000, "a"));
+            final MapTypes largeValueMap = MapTypes.builder()
+                .map(ImmutableMap.of("type", largeValue))
+                .sortedMap(ImmutableSortedMap.of())
+                .build();
+
+            // Act
+            final AssertionError error = expectFailure(callback -> {
+                callback.that(largeValueMap).hasMapEntry("type", largeValue + "b");
+            });
+
+            // Assert
+            assertThat(error).hasMessageThat().contains("but the key was mapped to aaaaa");
+            assertThat(error).hasMessageThat().contains("(length 100000)");
+            assertThat(error.getMessage().length()).isLessThan(1_000);
+        }
+
+        @Test
+        void shouldReportNearbyKeysOnly() {
+            // Arrange
+            final ImmutableSortedMap.Builder<Long, String> builder = ImmutableSortedMap.naturalOrder();
+            for (long key = 0; key < 100_000; key += 2) {
+                builder.put(key, "value");
+            }
+            final MapTypes largeMap = MapTypes.builder()
+                .map(ImmutableMap.of())
+                .sortedMap(builder.build())
+                .build();
+
+            // Act
+            final AssertionError error = expectFailure(callback -> {
+                callback.that(largeMap).hasSortedMapKey(51L);
+            });
+
+            // Assert
+            assertThat(error).hasMessageThat()
+                .contains("expected to contain key 51, but it was not present; nearby keys: [..., 42, 44, 46, 48, 50, 52, 54, 56, 58, 60, ...] (size 50000)");
+        }
+
+        @Test
+        void shouldFailWhenKeyIsMissing() {
+            // Act
+            final AssertionError error = expectFailure(callback -> {
+                callback.that(underTest).hasMapEntry("name", "User");
+            });
+
+            // Assert
+            assertThat(error).hasMessageThat().contains("expected to contain entry name=User, but the key was not present; nearby keys: [type] (size 1)");
+        }
+
+        @Test
+        void shouldFailWhenSortedMapCannotLookUpKey() {
+            // Arrange
+            final MapTypes treeMap = MapTypes.builder()
+                .map(ImmutableMap.of())
+                .sortedMap(new TreeMap<>(ImmutableMap.of(1L, "Alice", 2L, "Bob")))
+                .build();
+
+            // Act
+            final AssertionError missingKey = expectFailure(callback -> {
+                callback.that(treeMap).hasSortedMapKey(null);
+            });
+            final AssertionError missingEntry = expectFailure(callback -> {
+                callback.that(treeMap).hasSortedMapEntry(null, "Alice");
+            });
+
+            // Assert
+            assertThat(missingKey).hasMessageThat()
+                .contains("expected to contain key null, but it was not present; nearby keys: [1, 2] (size 2)");
+            assertThat(missingEntry).hasMessageThat()
+                .contains("expected to contain entry null=Alice, but the key was not present; nearby keys: [1, 2] (size 2)");
+        }
+    }
+
     @AutoSubject(MapTypes.class)
     public static class MapTypesSubject extends AutoMapTypesSubject {
         protected MapTypesSubject(@Nonnull FailureMetadata failureMetadata, @Nullable MapTypes actual) {
@@ -87,6 +87,30 @@ class OptionalTypesTest {
         assertThat(error).factValue("but was").isEqualTo("Alice");
     }
 
+    @Test
+    void shouldPassValueAssertion() {
+        // Assert
+        assertThat(underTest).hasOptionalInt(23);
+        assertThat(underTest).hasOptionalDouble(Double.NEGATIVE_INFINITY);
+    }
+
+    @Test
+    void shouldFailValueAssertion() {
+        // Act
+        final AssertionError mismatch = expectFailure(callback -> {
+            callback.that(underTest).hasOptionalInt(32);
+        });
+        final AssertionError absent = expectFailure(callback -> {
+            callback.that(underTest).hasOptionalLong(64L);
+        });
+
+        // Assert
+        assertThat(mismatch).factValue("value of").isEqualTo("optionalTypes.optionalInt().getAsInt()");
+        assertThat(mismatch).factValue("expected").isEqualTo("32");
+        assertThat(mismatch).factValue("but was").isEqualTo("23");
+        assertThat(absent).factValue("expected to have value").isEqualTo("64");
+    }
+
     @AutoSubject(OptionalTypes.class)
     public static class OptionalTypesSubject extends AutoOptionalTypesSubject {
         protected OptionalTypesSubject(@Nonnull FailureMetadata failureMetadata, @Nullable OptionalTypes actual) {
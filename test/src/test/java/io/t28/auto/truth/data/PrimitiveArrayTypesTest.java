@@ -308,6 +308,100 @@ class PrimitiveArrayTypesTest {
         }
     }
 
+    @Nested
+    class ValueAssertion {
+        @Test
+        void shouldPassAssertion() {
+            // Assert
+            assertThat(underTest).hasBooleanArray(true, false, true);
+            assertThat(underTest).hasByteArray((byte) 1, (byte) 2);
+            assertThat(underTest).hasCharArray('a', 'b', 'c');
+            assertThat(underTest).hasShortArray((short) 3, (short) 4, (short) 5);
+            assertThat(underTest).hasIntArray(6);
+            assertThat(underTest).hasLongArray(7L, 8L);
+            assertThat(underTest).hasFloatArray(1.23f, 2.34f, 3.45f);
+            assertThat(underTest).hasDoubleArray(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+        }
+
+        @Test
+        void shouldReportWindowAroundFirstMismatch() {
+            // Arrange
+            final long[] actual = new long[100];
+            for (int i = 0; i < actual.length; i++) {
+                actual[i] = i;
+            }
+            final long[] expected = actual.clone();
+            expected[50] = -1L;
+
+            // Act
+            final AssertionError error = expectFailure(callback -> {
+                callback.that(underTest.toBuilder().longArray(actual).build()).hasLongArray(expected);
+            });
+
+            // Assert
+            assertThat(error).hasMessageThat().startsWith("first mismatch at index 50");
+            assertThat(error).factValue("value of").isEqualTo("primitiveArrayTypes.longArray()");
+            assertThat(error).factValue("expected").isEqualTo("[..., 45, 46, 47, 48, 49, -1, 51, 52, 53, 54, 55, ...] (length 100)");
+            assertThat(error).factValue("but was").isEqualTo("[..., 45, 46, 47, 48, 49, 50, 51, 52, 53, 54, 55, ...] (length 100)");
+        }
+
+        @Test
+        void shouldReportLengthMismatch() {
+            // Act
+            final AssertionError error = expectFailure(callback -> {
+                callback.that(underTest).hasLongArray(7L, 8L, 9L);
+            });
+
+            // Assert
+            assertThat(error).hasMessageThat().startsWith("first mismatch at index 2");
+            assertThat(error).factValue("expected").isEqualTo("[7, 8, 9] (length 3)");
+            assertThat(error).factValue("but was").isEqualTo("[7, 8] (length 2)");
+        }
+
+        @Test
+        void shouldPassSortedAssertion() {
+            // Assert
+            assertThat(underTest).hasCharArraySorted();
+            assertThat(underTest).hasDoubleArraySorted();
+            assertThat(underTest.toBuilder().doubleArray(-0.0, 0.0, Double.NaN).build()).hasDoubleArraySorted();
+        }
+
+        @Test
+        void shouldFailSortedAssertion() {
+            // Act
+            final AssertionError error = expectFailure(callback -> {
+                callback.that(underTest.toBuilder().intArray(1, 3, 2).build()).hasIntArraySorted();
+            });
+
+            // Assert
+            assertThat(error).hasMessageThat().startsWith("expected to be sorted, but element at index 2 was out of order: [1, 3, 2] (length 3)");
+            assertThat(error).factValue("value of").isEqualTo("primitiveArrayTypes.intArray()");
+        }
+    }
+
+    @Nested
+    class ComparingProperties {
+        @Test
+        void shouldRenderLargeArraysWithinBound() {
+            // Arrange
+            final long[] actual = new long[1_000_000];
+            final long[] expected = actual.clone();
+            expected[500_000] = 1L;
+
+            // Act
+            final AssertionError error = expectFailure(callback -> {
+                callback.that(underTest.toBuilder().longArray(actual).build())
+                    .isEqualToComparingProperties(underTest.toBuilder().longArray(expected).build());
+            });
+
+            // Assert
+            assertThat(error).hasMessageThat().contains("but 1 property differed");
+            assertThat(error).hasMessageThat()
+                .contains("longArray(): expected [0, 0, 0, 0, 0, ..., 0, 0, 0, 0, 0] (length 1000000), but was [0, 0, 0, 0, 0, ..., 0, 0, 0, 0, 0] (length 1000000)");
+            assertThat(error.getMessage().length()).isLessThan(1_000);
+        }
+    }
+
     @AutoSubject(PrimitiveArrayTypes.class)
     public static class PrimitiveArrayTypesSubject extends AutoPrimitiveArrayTypesSubject {
         protected PrimitiveArrayTypesSubject(@Nonnull FailureMetadata failureMetadata, @Nullable PrimitiveArrayTypes actual) {
@@ -33,6 +33,7 @@ import static com.google.common.truth.Truth.assertAbout;
 import static io.t28.auto.truth.data.PrimitiveTypesTest.PrimitiveTypesSubject.assertThat;
 import static io.t28.auto.truth.data.PrimitiveTypesTest.PrimitiveTypesSubject.expectFailure;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class PrimitiveTypesTest {
     private PrimitiveTypes underTest;
@@ -206,6 +207,22 @@ class PrimitiveTypesTest {
             assertThat(error).factValue("expected").isEqualTo("12.34");
             assertThat(error).factValue("but was").isEqualTo("12.3");
         }
+
+        @Test
+        void shouldPassToleranceAssertion() {
+            assertThat(underTest).hasFloatValue(12.31f, 0.1f);
+        }
+
+        @Test
+        void shouldNotPassToleranceAssertion() {
+            final AssertionError error = expectFailure(callback -> {
+                callback.that(underTest).hasFloatValue(12.5f, 0.1f);
+            });
+
+            assertThat(error).factValue("value of").isEqualTo("primitiveTypes.floatValue()");
+            assertThat(error).factValue("expected").isEqualTo("12.5");
+            assertThat(error).factValue("outside tolerance").isEqualTo("0.1");
+        }
     }
 
     @Nested
@@ -225,6 +242,92 @@ class PrimitiveTypesTest {
             assertThat(error).factValue("expected").isEqualTo("1.2345678");
             assertThat(error).factValue("but was").isEqualTo("1.23456789");
         }
+
+        @Test
+        void shouldCompareNaNAndSignedZeroAsTruthDoes() {
+            assertThat(underTest.toBuilder().doubleValue(java.lang.Double.NaN).build()).hasDoubleValue(java.lang.Double.NaN);
+
+            final AssertionError error = expectFailure(callback -> {
+                callback.that(underTest.toBuilder().doubleValue(0.0).build()).hasDoubleValue(-0.0);
+            });
+
+            assertThat(error).factValue("expected").isEqualTo("-0.0");
+            assertThat(error).factValue("but was").isEqualTo("0.0");
+        }
+
+        @Test
+        void shouldPassToleranceAssertion() {
+            assertThat(underTest).hasDoubleValue(1.2345, 0.001);
+        }
+
+        @Test
+        void shouldNotPassToleranceAssertion() {
+            final AssertionError error = expectFailure(callback -> {
+                callback.that(underTest).hasDoubleValue(1.3, 0.001);
+            });
+
+            assertThat(error).factValue("value of").isEqualTo("primitiveTypes.doubleValue()");
+            assertThat(error).factValue("expected").isEqualTo("1.3");
+            assertThat(error).factValue("outside tolerance").isEqualTo("0.001");
+        }
+
+        @Test
+        void shouldRejectInvalidTolerance() {
+            assertThrows(IllegalArgumentException.class, () -> assertThat(underTest).hasDoubleValue(1.234567890, -1.0));
+        }
+    }
+
+    @Nested
+    class ComparingProperties {
+        @Test
+        void shouldPassAssertion() {
+            assertThat(underTest).isEqualToComparingProperties(underTest.toBuilder().build());
+        }
+
+        @Test
+        void shouldListOnlyDifferingProperties() {
+            final AssertionError error = expectFailure(callback -> {
+                callback.that(underTest).isEqualToComparingProperties(underTest.toBuilder()
+                    .charValue('b')
+                    .doubleValue(-0.0)
+                    .build());
+            });
+
+            assertThat(error).hasMessageThat().contains("expected to be equal comparing properties, but 2 properties differed");
+            assertThat(error).hasMessageThat().contains("charValue(): expected b, but was a");
+            assertThat(error).hasMessageThat().contains("doubleValue(): expected -0.0, but was 1.23456789");
+            assertThat(error).hasMessageThat().doesNotContain("intValue()");
+            assertThat(error).hasMessageThat().doesNotContain(underTest.toString());
+        }
+
+        @Test
+        void shouldRenderOnlyFirstDifferingProperties() {
+            final AssertionError error = expectFailure(callback -> {
+                callback.that(underTest).isEqualToComparingProperties(PrimitiveTypes.builder()
+                    .booleanValue(false)
+                    .byteValue((byte) 0)
+                    .charValue('b')
+                    .shortValue((short) 0)
+                    .intValue(0)
+                    .longValue(0L)
+                    .floatValue(0.0f)
+                    .doubleValue(0.0)
+                    .build());
+            });
+
+            assertThat(error).hasMessageThat().contains("but 8 properties differed (showing first 5)");
+            assertThat(error).hasMessageThat().contains("intValue(): expected 0, but was 43");
+            assertThat(error).hasMessageThat().doesNotContain("longValue()");
+        }
+
+        @Test
+        void shouldFailWhenExpectedIsNull() {
+            final AssertionError error = expectFailure(callback -> {
+                callback.that(underTest).isEqualToComparingProperties(null);
+            });
+
+            assertThat(error).hasMessageThat().contains("expected to be null, but was not");
+        }
     }
 
     @AutoSubject(PrimitiveTypes.class)
@@ -24,8 +24,13 @@ import com.google.common.truth.StreamSubject;
 import com.google.common.truth.Subject;
 import io.t28.auto.truth.AutoSubject;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
@@ -41,6 +46,7 @@ import static com.google.common.truth.Truth.assertAbout;
 import static com.google.common.truth.Truth.assertThat;
 import static io.t28.auto.truth.data.StreamTypesTest.StreamTypesSubject.assertThat;
 import static io.t28.auto.truth.data.StreamTypesTest.StreamTypesSubject.expectFailure;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class StreamTypesTest {
     private StreamTypes underTest;
@@ -52,6 +58,8 @@ class StreamTypesTest {
             .longStream(LongStream.empty())
             .doubleStream(DoubleStream.of(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY))
             .stringStream(Stream.of("Alice", "Bob", "Charlie"))
+            .stringIterator(Arrays.asList("Alice", "Bob", "Charlie").iterator())
+            .stringSpliterator(Arrays.asList("Alice", "Bob", "Charlie").spliterator())
             .build();
     }
 
@@ -88,6 +96,136 @@ class StreamTypesTest {
         assertThat(error).factValue("but was").isEqualTo("[Alice, Bob, Charlie]");
     }
 
+    @Test
+    void shouldSkipStreamsWhenComparingProperties() {
+        // Arrange
+        final StreamTypes expected = StreamTypes.builder()
+            .intStream(IntStream.of(1))
+            .longStream(LongStream.empty())
+            .doubleStream(DoubleStream.empty())
+            .stringStream(Stream.of("Alice", "Bob", "Charlie"))
+            .stringIterator(Collections.emptyIterator())
+            .stringSpliterator(Spliterators.emptySpliterator())
+            .build();
+
+        // Act
+        assertThat(underTest).isEqualToComparingProperties(expected);
+
+        // Assert
+        assertThat(underTest.stringStream().count()).isEqualTo(3L);
+        assertThat(underTest.stringIterator().hasNext()).isTrue();
+    }
+
+    @Nested
+    class LazyAssertion {
+        @Test
+        void shouldPassAssertion() {
+            // Assert
+            assertThat(underTest).intStreamAnyMatch(value -> value == 1);
+            assertThat(underTest).longStreamAllMatch(value -> value < 0);
+            assertThat(underTest).doubleStreamStartsWith(Double.NEGATIVE_INFINITY);
+            assertThat(underTest).stringStreamHasCountAtMost(3);
+            assertThat(underTest).stringIteratorStartsWith("Alice", "Bob");
+            assertThat(underTest).stringSpliteratorAllMatch(value -> !value.isEmpty());
+        }
+
+        @Test
+        void shouldStopAtFirstDecisiveElement() {
+            // Arrange
+            final StreamTypes infinite = StreamTypes.builder()
+                .intStream(IntStream.iterate(0, value -> value + 1))
+                .longStream(LongStream.iterate(0, value -> value + 1))
+                .doubleStream(DoubleStream.generate(() -> Double.NaN))
+                .stringStream(Stream.generate(() -> "Alice"))
+                .stringIterator(Stream.generate(() -> "Bob").iterator())
+                .stringSpliterator(Stream.generate(() -> "Charlie").spliterator())
+                .build();
+
+            // Assert
+            assertThat(infinite).intStreamAnyMatch(value -> value == 1_000);
+            assertThat(infinite).doubleStreamStartsWith(Double.NaN, Double.NaN);
+            expectFailure(callback -> callback.that(infinite).longStreamAllMatch(value -> value < 10));
+            expectFailure(callback -> callback.that(infinite).stringStreamHasCountAtMost(100));
+            expectFailure(callback -> callback.that(infinite).stringIteratorStartsWith("Bob", "Alice"));
+            expectFailure(callback -> callback.that(infinite).stringSpliteratorAllMatch(value -> value.startsWith("A")));
+        }
+
+        @Test
+        void shouldFailAnyMatch() {
+            // Act
+            final AssertionError error = expectFailure(callback -> {
+                callback.that(underTest).stringStreamAnyMatch(value -> value.startsWith("D"));
+            });
+
+            // Assert
+            assertThat(error).hasMessageThat().contains("expected any element to match the predicate, but none of 3 elements did");
+        }
+
+        @Test
+        void shouldFailAllMatch() {
+            // Act
+            final AssertionError error = expectFailure(callback -> {
+                callback.that(underTest).intStreamAllMatch(value -> value > 1);
+            });
+
+            // Assert
+            assertThat(error).hasMessageThat().contains("expected all elements to match the predicate, but element at index 0 did not: 1");
+        }
+
+        @Test
+        void shouldFailStartsWith() {
+            // Act
+            final AssertionError mismatch = expectFailure(callback -> {
+                callback.that(underTest).stringSpliteratorStartsWith("Alice", "Charlie");
+            });
+            final AssertionError tooShort = expectFailure(callback -> {
+                callback.that(underTest).doubleStreamStartsWith(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, 0.0);
+            });
+
+            // Assert
+            assertThat(mismatch).hasMessageThat().contains("expected to start with [Alice, Charlie], but element at index 1 was Bob");
+            assertThat(tooShort).hasMessageThat().contains("expected to start with [-Infinity, Infinity, 0.0], but had only 2 elements");
+        }
+
+        @Test
+        void shouldFailHasCountAtMost() {
+            // Act
+            final AssertionError error = expectFailure(callback -> {
+                callback.that(underTest).stringIteratorHasCountAtMost(2);
+            });
+
+            // Assert
+            assertThat(error).hasMessageThat().contains("expected at most 2 elements, but had more than 2");
+        }
+
+        @Test
+        void shouldCloseStreamWhenAssertionPassesOrFails() {
+            // Arrange
+            final AtomicInteger closeCount = new AtomicInteger();
+            final StreamTypes closeable = StreamTypes.builder()
+                .intStream(IntStream.of(1, 2).onClose(closeCount::incrementAndGet))
+                .longStream(LongStream.empty())
+                .doubleStream(DoubleStream.empty())
+                .stringStream(Stream.of("Alice", "Bob").onClose(closeCount::incrementAndGet))
+                .stringIterator(Collections.emptyIterator())
+                .stringSpliterator(Spliterators.emptySpliterator())
+                .build();
+
+            // Act
+            assertThat(closeable).stringStreamAnyMatch(value -> value.startsWith("B"));
+            expectFailure(callback -> callback.that(closeable).intStreamAllMatch(value -> value > 1));
+
+            // Assert
+            assertThat(closeCount.get()).isEqualTo(2);
+        }
+
+        @Test
+        void shouldRejectNegativeMaxCount() {
+            // Assert
+            assertThrows(IllegalArgumentException.class, () -> assertThat(underTest).stringStreamHasCountAtMost(-1));
+        }
+    }
+
     @AutoSubject(StreamTypes.class)
     public static class StreamTypesSubject extends AutoStreamTypesSubject {
         protected StreamTypesSubject(@Nonnull FailureMetadata failureMetadata, @Nullable StreamTypes actual) {